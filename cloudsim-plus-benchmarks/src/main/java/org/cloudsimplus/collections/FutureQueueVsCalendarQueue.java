@@ -0,0 +1,104 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.collections;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.events.CalendarQueue;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.FutureEventQueue;
+import org.cloudbus.cloudsim.core.events.FutureQueue;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A set of benchmarks to compare the performance of the {@link FutureQueue},
+ * which is based on a {@link java.util.TreeSet}, against the {@link CalendarQueue}.
+ *
+ * <p>It uses the classic "hold model": the queue is filled with a given number of events
+ * and each operation removes the first event and adds a new one
+ * scheduled to some time after the removed one.
+ * This way, the queue size keeps constant, as happens
+ * when the simulation has a large number of pending events.</p>
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@State(Scope.Thread)
+public class FutureQueueVsCalendarQueue {
+    /**
+     * Defines the probability to schedule a new event
+     * to the same time of the removed one.
+     * Simulations usually have lots of events happening at the same time.
+     */
+    private static final double SAME_TIME_PROBABILITY = 0.3;
+
+    @Param({"1000", "100000", "1000000"})
+    private int queueSize;
+
+    private FutureEventQueue futureQueue;
+    private FutureEventQueue calendarQueue;
+    private RandomGenerator prng;
+
+    @Setup(Level.Iteration)
+    public void doSetup() {
+        prng = new Well19937c();
+        futureQueue = new FutureQueue();
+        calendarQueue = new CalendarQueue();
+        for (int i = 0; i < queueSize; i++) {
+            final double time = nextDelay();
+            futureQueue.addEvent(createEvent(time));
+            calendarQueue.addEvent(createEvent(time));
+        }
+    }
+
+    @Benchmark
+    public SimEvent testFutureQueueHold() {
+        return hold(futureQueue);
+    }
+
+    @Benchmark
+    public SimEvent testCalendarQueueHold() {
+        return hold(calendarQueue);
+    }
+
+    /**
+     * Removes the first event from a queue and adds a new one after it.
+     * @param queue the queue to perform the operation
+     * @return the removed event
+     */
+    private SimEvent hold(final FutureEventQueue queue) {
+        final SimEvent first = queue.first();
+        queue.remove(first);
+        queue.addEvent(createEvent(first.getTime() + nextDelay()));
+        return first;
+    }
+
+    private double nextDelay() {
+        return prng.nextDouble() < SAME_TIME_PROBABILITY ? 0 : prng.nextDouble() * 100;
+    }
+
+    private SimEvent createEvent(final double time) {
+        return new CloudSimEvent(time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+}
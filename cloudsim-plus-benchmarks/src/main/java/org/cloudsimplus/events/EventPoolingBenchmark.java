@@ -0,0 +1,114 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark to assess the reduction in the number of allocated objects
+ * when {@link CloudSim#setEventPoolingEnabled(boolean) event pooling} is enabled.
+ * It runs a simulation where two entities keep exchanging messages.
+ *
+ * <p>The reduction can be checked in the "gc.alloc.rate.norm" results
+ * provided by the JMH GC profiler, which is enabled when this class is run directly.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class EventPoolingBenchmark {
+    /**
+     * The number of messages each entity sends to the other one.
+     */
+    private static final int MESSAGES = 100_000;
+
+    private static final int PING_TAG = 1;
+
+    @Param({"false", "true"})
+    private boolean eventPooling;
+
+    @Benchmark
+    public long testPingPong() {
+        final CloudSim simulation = new CloudSim();
+        simulation.setEventPoolingEnabled(eventPooling);
+        final PingPongEntity entity1 = new PingPongEntity(simulation);
+        final PingPongEntity entity2 = new PingPongEntity(simulation);
+        entity1.other = entity2;
+        entity2.other = entity1;
+        simulation.start();
+        return simulation.getGeneratedEventsNumber();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(EventPoolingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(10)
+                .build();
+
+        new Runner(options).run();
+    }
+
+    /**
+     * An entity that sends a message to another one each time it receives a message.
+     */
+    private static class PingPongEntity extends CloudSimEntity {
+        private SimEntity other;
+        private int sentMessages;
+
+        PingPongEntity(final CloudSim simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            sendPing();
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() == PING_TAG) {
+                sendPing();
+            }
+        }
+
+        private void sendPing() {
+            if (sentMessages++ < MESSAGES) {
+                schedule(other, 1, PING_TAG);
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.allocationpolicies;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * An index that keeps the Hosts of a {@link VmAllocationPolicy} sorted
+ * by their active state and number of free PEs, so that
+ * the first suitable Host in such an order can be found without
+ * checking every Host in the {@link VmAllocationPolicy#getHostList() Host list}.
+ *
+ * <p>Active Hosts come first. Hosts with the same number of free PEs are kept
+ * in the order they appear in the Host list, so that the index selects
+ * the same Host as the min/max operations of a sequential stream over such a list.
+ * To find a Host for a VM, the Hosts with fewer free PEs than the VM requires
+ * are skipped by a lookup in logarithmic time in the number of Hosts (N).
+ * Then, just the Hosts before the selected one in such an order are checked.
+ * Hosts with fewer free PEs are just checked if no other Host is suitable,
+ * since some {@link org.cloudbus.cloudsim.schedulers.vm.VmScheduler}s
+ * may place a VM into busy PEs having enough available MIPS.
+ * The worst-case complexity to allocate a Host for a VM is still O(N),
+ * when most Hosts with enough free PEs are not suitable for the VM
+ * due to other resources.</p>
+ *
+ * <p>The Host position is updated when the {@link VmAllocationPolicy}
+ * is {@link VmAllocationPolicy#notifyHostStateChanged(Host) notified}
+ * that a Host state has changed.</p>
+ *
+ * <p>Since only {@link HostSimple} sends such notifications, if any Host
+ * doesn't notify the {@link VmAllocationPolicy} using the index,
+ * the Host list is sequentially checked instead.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+final class HostCapacityIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Indicates if Hosts with more free PEs come first (true)
+     * or Hosts with fewer free PEs come first (false).
+     */
+    private final boolean mostFreePesFirst;
+
+    /**
+     * The last Host of the Host list when it was indexed,
+     * used to find out if Hosts were added or removed.
+     */
+    private Host lastHost;
+
+    private final TreeSet<HostEntry> sortedEntries;
+    private final Map<Host, HostEntry> entries;
+
+    /**
+     * The entries of the Hosts whose state has changed
+     * since their position in the index was last updated.
+     */
+    private final List<HostEntry> dirtyEntries;
+
+    /**
+     * Indicates if every indexed Host notifies the {@link VmAllocationPolicy}
+     * when its state changes, so that the index can be kept up-to-date.
+     */
+    private boolean allHostsNotifyStateChanges;
+
+    /**
+     * Creates a HostCapacityIndex.
+     * @param mostFreePesFirst true to sort Hosts with more free PEs first,
+     *                         false to sort Hosts with fewer free PEs first
+     */
+    HostCapacityIndex(final boolean mostFreePesFirst) {
+        this.mostFreePesFirst = mostFreePesFirst;
+        this.sortedEntries = new TreeSet<>();
+        this.entries = new IdentityHashMap<>();
+        this.dirtyEntries = new ArrayList<>();
+    }
+
+    /**
+     * Marks a Host to have its position in the index updated before the next query.
+     * @param host the Host whose state has changed
+     */
+    void markDirty(final Host host) {
+        final HostEntry entry = entries.get(host);
+        if(entry != null && !entry.dirty) {
+            entry.dirty = true;
+            dirtyEntries.add(entry);
+        }
+    }
+
+    /**
+     * Gets the first Host, in the index order, that is suitable for a given VM,
+     * preferring Hosts having at least the number of PEs required by the VM free.
+     * @param policy the {@link VmAllocationPolicy} whose Host list is indexed,
+     *               which is re-indexed if Hosts were added or removed
+     * @param vm the VM to find a Host for
+     * @return an {@link Optional} containing the Host found or an empty {@link Optional} if not found
+     */
+    Optional<Host> findFirst(final VmAllocationPolicy policy, final Vm vm) {
+        final List<Host> hostList = policy.getHostList();
+        update(policy, hostList);
+        if (!allHostsNotifyStateChanges) {
+            return findFirstSequentially(hostList, vm);
+        }
+
+        final List<NavigableSet<HostEntry>> hostsWithFewerFreePes = new ArrayList<>(2);
+        for (final boolean active : new boolean[]{true, false}) {
+            final NavigableSet<HostEntry> group = sortedEntries.subSet(
+                new HostEntry(active, mostFreePesFirst ? Long.MAX_VALUE : Long.MIN_VALUE, Integer.MIN_VALUE), true,
+                new HostEntry(active, mostFreePesFirst ? Long.MIN_VALUE : Long.MAX_VALUE, Integer.MAX_VALUE), true);
+
+            /*Splits the group between the Hosts with at least and with fewer free PEs than the VM requires.
+            * Hosts with the same number of free PEs are after the split entry in the ascending order
+            * and before it in the descending order.*/
+            final HostEntry split = new HostEntry(active, vm.getNumberOfPes(), mostFreePesFirst ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+            final Optional<Host> host = findFirst(mostFreePesFirst ? group.headSet(split, false) : group.tailSet(split, true), vm);
+            if (host.isPresent()) {
+                return host;
+            }
+
+            hostsWithFewerFreePes.add(mostFreePesFirst ? group.tailSet(split, false) : group.headSet(split, false));
+        }
+
+        for (final NavigableSet<HostEntry> hosts : hostsWithFewerFreePes) {
+            final Optional<Host> host = findFirst(hosts, vm);
+            if (host.isPresent()) {
+                return host;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<Host> findFirst(final NavigableSet<HostEntry> hostEntries, final Vm vm) {
+        for (final HostEntry entry : hostEntries) {
+            if (entry.host.isSuitableForVm(vm)) {
+                return Optional.of(entry.host);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the first Host, in the index order, that is suitable for a given VM,
+     * checking the current state of every Host in the Host list.
+     * @param hostList the Host list to check
+     * @param vm the VM to find a Host for
+     * @return an {@link Optional} containing the Host found or an empty {@link Optional} if not found
+     * @see #findFirst(VmAllocationPolicy, Vm)
+     */
+    private Optional<Host> findFirstSequentially(final List<Host> hostList, final Vm vm) {
+        Host selected = null;
+        for (final Host host : hostList) {
+            if (host.isSuitableForVm(vm) && (selected == null || compare(host, selected, vm) < 0)) {
+                selected = host;
+            }
+        }
+
+        return Optional.ofNullable(selected);
+    }
+
+    private void update(final VmAllocationPolicy policy, final List<Host> hostList) {
+        if (isHostListChanged(hostList)) {
+            rebuild(policy, hostList);
+            return;
+        }
+
+        for (final HostEntry entry : dirtyEntries) {
+            entry.dirty = false;
+            if (entry.isKeyChanged()) {
+                sortedEntries.remove(entry);
+                entry.updateKey();
+                sortedEntries.add(entry);
+            }
+        }
+
+        dirtyEntries.clear();
+    }
+
+    /**
+     * Checks if Hosts were added or removed since the Host list was indexed.
+     * Since Hosts are added to the end of the list, the last indexed Host
+     * is checked too, in case the same number of Hosts was removed and added.
+     */
+    private boolean isHostListChanged(final List<Host> hostList) {
+        if (hostList.size() != entries.size()) {
+            return true;
+        }
+
+        return !hostList.isEmpty() && hostList.get(hostList.size() - 1) != lastHost;
+    }
+
+    private void rebuild(final VmAllocationPolicy policy, final List<Host> hostList) {
+        this.lastHost = hostList.isEmpty() ? null : hostList.get(hostList.size() - 1);
+        sortedEntries.clear();
+        entries.clear();
+        dirtyEntries.clear();
+
+        this.allHostsNotifyStateChanges = hostList.stream().allMatch(host -> isStateChangeNotifier(policy, host));
+        if (!allHostsNotifyStateChanges) {
+            return;
+        }
+
+        for (int i = 0; i < hostList.size(); i++) {
+            final HostEntry entry = new HostEntry(hostList.get(i), i);
+            entries.put(entry.host, entry);
+            sortedEntries.add(entry);
+        }
+    }
+
+    /**
+     * Checks if a Host notifies a given {@link VmAllocationPolicy} when its state changes.
+     * @see HostSimple
+     */
+    private static boolean isStateChangeNotifier(final VmAllocationPolicy policy, final Host host) {
+        return host instanceof HostSimple && host.getDatacenter().getVmAllocationPolicy() == policy;
+    }
+
+    /**
+     * Compares two Hosts according to the order they are checked to place a given VM,
+     * given by their number of free PEs being enough for the VM
+     * and then by the index order.
+     * @return a negative value if the first Host comes first, a positive value
+     *         if the second Host comes first, or zero if they have the same state
+     */
+    private int compare(final Host host1, final Host host2, final Vm vm) {
+        final boolean enoughFreePes1 = host1.getFreePesNumber() >= vm.getNumberOfPes();
+        final boolean enoughFreePes2 = host2.getFreePesNumber() >= vm.getNumberOfPes();
+        if (enoughFreePes1 != enoughFreePes2) {
+            return enoughFreePes1 ? -1 : 1;
+        }
+
+        return compare(host1.isActive(), host1.getFreePesNumber(), host2.isActive(), host2.getFreePesNumber());
+    }
+
+    private int compare(final boolean active1, final long freePesNumber1, final boolean active2, final long freePesNumber2) {
+        if (active1 != active2) {
+            return active1 ? -1 : 1;
+        }
+
+        final int freePesComparison = Long.compare(freePesNumber1, freePesNumber2);
+        return mostFreePesFirst ? -freePesComparison : freePesComparison;
+    }
+
+    /**
+     * The position of a Host in the index, given by its active state,
+     * number of free PEs and position in the Host list.
+     */
+    private final class HostEntry implements Comparable<HostEntry>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Host host;
+        private final int hostIndex;
+        private boolean active;
+        private long freePesNumber;
+        private boolean dirty;
+
+        private HostEntry(final Host host, final int hostIndex) {
+            this.host = host;
+            this.hostIndex = hostIndex;
+            updateKey();
+        }
+
+        /**
+         * Creates an entry without a Host, used as a bound to search the index.
+         */
+        private HostEntry(final boolean active, final long freePesNumber, final int hostIndex) {
+            this.host = null;
+            this.hostIndex = hostIndex;
+            this.active = active;
+            this.freePesNumber = freePesNumber;
+        }
+
+        private boolean isKeyChanged() {
+            return active != host.isActive() || freePesNumber != host.getFreePesNumber();
+        }
+
+        private void updateKey() {
+            this.active = host.isActive();
+            this.freePesNumber = host.getFreePesNumber();
+        }
+
+        @Override
+        public int compareTo(final HostEntry other) {
+            final int stateComparison = compare(active, freePesNumber, other.active, other.freePesNumber);
+            if (stateComparison != 0) {
+                return stateComparison;
+            }
+
+            return Integer.compare(hostIndex, other.hostIndex);
+        }
+    }
+}
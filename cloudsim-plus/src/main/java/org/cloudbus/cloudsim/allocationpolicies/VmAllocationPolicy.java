@@ -15,6 +15,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,13 +36,15 @@ import java.util.function.BiFunction;
  * @since CloudSim Plus 1.0
  * @see #setFindHostForVmFunction(BiFunction)
  */
-public interface VmAllocationPolicy {
+public interface VmAllocationPolicy extends Serializable {
     Logger LOGGER = LoggerFactory.getLogger(VmAllocationPolicy.class.getSimpleName());
 
     /**
      * Default minimum number of Hosts to start using parallel search.
      * @see #setHostCountForParallelSearch(int)
+     * @deprecated the value isn't used anymore, see {@link #setHostCountForParallelSearch(int)}
      */
+    @Deprecated
     int DEF_HOST_COUNT_FOR_PARALLEL_SEARCH = 20_000;
 
     /**
@@ -103,6 +106,16 @@ public interface VmAllocationPolicy {
      */
     void deallocateHostForVm(Vm vm);
 
+    /**
+     * Notifies the policy that the number of free PEs or the active state
+     * of a Host has changed, so that policies which keep Hosts
+     * sorted by such attributes can update their order.
+     * The default implementation does nothing.
+     *
+     * @param host the Host whose state has changed
+     */
+    default void notifyHostStateChanged(final Host host){/**/}
+
     /**
      * Sets a {@link BiFunction} that selects a Host for a given Vm.
      * This Function receives the current VmAllocationPolicy and the
@@ -163,7 +176,9 @@ public interface VmAllocationPolicy {
      * Checks if Host's parallel search is enabled or not.
      * @return true if a Host for a VM is to find in parallel, false if it's to be find sequentially
      * @see #setHostCountForParallelSearch(int)
+     * @deprecated the value isn't used anymore, see {@link #setHostCountForParallelSearch(int)}
      */
+    @Deprecated
     default boolean isParallelHostSearchEnabled(){
         return getHostList().size() >= getHostCountForParallelSearch();
     }
@@ -171,13 +186,19 @@ public interface VmAllocationPolicy {
     /**
      * Gets the minimum number of Hosts to start using parallel search.
      * @return
+     * @deprecated the value isn't used anymore, see {@link #setHostCountForParallelSearch(int)}
      */
+    @Deprecated
     int getHostCountForParallelSearch();
 
     /**
      * Sets the minimum number of Hosts to start using parallel search.
      * @param hostCountForParallelSearch the value to set (use {@link Integer#MAX_VALUE} to disable parallel search)
+     * @deprecated {@link VmAllocationPolicyBestFit}, {@link VmAllocationPolicyWorstFit}
+     *             and {@link VmAllocationPolicySimple} keep their Hosts sorted
+     *             and no longer search them in parallel, so this value isn't used anymore.
      */
+    @Deprecated
     void setHostCountForParallelSearch(int hostCountForParallelSearch);
 
 }
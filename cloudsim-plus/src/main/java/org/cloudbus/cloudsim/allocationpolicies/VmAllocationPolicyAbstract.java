@@ -44,6 +44,8 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     /**
      * WARNING: the function should not be called directly because it may be null.
      * Use the {@link #findHostForVm(Vm)} instead.
@@ -73,6 +75,7 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
      * @param findHostForVmFunction a {@link BiFunction} to select a Host for a given Vm.
      * @see VmAllocationPolicy#setFindHostForVmFunction(BiFunction)
      */
+    @SuppressWarnings("deprecation")
     public VmAllocationPolicyAbstract(final BiFunction<VmAllocationPolicy, Vm, Optional<Host>> findHostForVmFunction) {
         setDatacenter(Datacenter.NULL);
         setFindHostForVmFunction(findHostForVmFunction);
@@ -372,11 +375,13 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     }
 
     @Override
+    @Deprecated
     public int getHostCountForParallelSearch() {
         return hostCountForParallelSearch;
     }
 
     @Override
+    @Deprecated
     public void setHostCountForParallelSearch(final int hostCountForParallelSearch) {
         this.hostCountForParallelSearch = hostCountForParallelSearch;
     }
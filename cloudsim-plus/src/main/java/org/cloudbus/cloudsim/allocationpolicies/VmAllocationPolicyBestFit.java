@@ -26,18 +26,15 @@ package org.cloudbus.cloudsim.allocationpolicies;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
-import java.util.Comparator;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
- * A Worst Fit VmAllocationPolicy implementation that chooses, as
+ * A Best Fit VmAllocationPolicy implementation that chooses, as
  * the host for a VM, that one with the most number of PEs in use,
  * which are enough for a VM.
  *
- * <p>This is a really computationally complex policy since the worst-case complexity
- * to allocate a Host for a VM is O(N), where N is the number of Hosts.
- * Such an implementation is not appropriate for large scale scenarios.</p>
+ * <p>Hosts are kept sorted by their active state and number of free PEs
+ * into a {@link HostCapacityIndex}, which describes how a Host is found for a VM.</p>
  *
  * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
  *
@@ -48,6 +45,14 @@ import java.util.stream.Stream;
  * @see VmAllocationPolicyWorstFit
  */
 public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The Hosts sorted by active state and the least number of free PEs,
+     * where the first suitable Host is the one selected for a VM.
+     */
+    private final HostCapacityIndex hostCapacityIndex = new HostCapacityIndex(false);
+
     /**
      * Gets the first suitable host from the {@link #getHostList()}
      * that has the most number of PEs in use (i.e. the least number of free PEs).
@@ -55,15 +60,12 @@ public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
-        /* Since it's being used the min operation, the active comparator must be reversed so that
-         * we get active hosts with minimum number of free PEs. */
-        final Comparator<Host> activeComparator = Comparator.comparing(Host::isActive).reversed();
-        final Comparator<Host> comparator = activeComparator.thenComparingLong(Host::getFreePesNumber);
+        return hostCapacityIndex.findFirst(this, vm);
+    }
 
-        final Stream<Host> stream = isParallelHostSearchEnabled() ? getHostList().stream().parallel() : getHostList().stream();
-        return stream
-                .filter(host -> host.isSuitableForVm(vm))
-                .min(comparator);
+    @Override
+    public void notifyHostStateChanged(final Host host) {
+        hostCapacityIndex.markDirty(host);
     }
 
 }
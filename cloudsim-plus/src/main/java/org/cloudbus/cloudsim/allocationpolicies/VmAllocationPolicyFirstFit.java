@@ -31,6 +31,8 @@ import java.util.Optional;
  * @see VmAllocationPolicyWorstFit
  */
 public class VmAllocationPolicyFirstFit extends VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     /** @see #getLastHostIndex() */
     private int lastHostIndex;
 
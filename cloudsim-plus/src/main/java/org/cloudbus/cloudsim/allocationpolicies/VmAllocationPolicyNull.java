@@ -19,6 +19,8 @@ import java.util.function.BiFunction;
  * @see VmAllocationPolicy#NULL
  */
 final class VmAllocationPolicyNull implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     @Override public Datacenter getDatacenter() {
         return Datacenter.NULL;
     }
@@ -37,7 +39,7 @@ final class VmAllocationPolicyNull implements VmAllocationPolicy {
     @Override public Map<Vm, Host> getOptimizedAllocationMap(List<? extends Vm> vmList) { return Collections.emptyMap(); }
     @Override public Optional<Host> findHostForVm(Vm vm) { return Optional.empty(); }
     @Override public boolean isVmMigrationSupported() { return false; }
-    @Override public int getHostCountForParallelSearch() { return 0; }
-    @Override public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
+    @Override @Deprecated public int getHostCountForParallelSearch() { return 0; }
+    @Override @Deprecated public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
     @Override public void setFindHostForVmFunction(BiFunction<VmAllocationPolicy, Vm, Optional<Host>> findHostForVmFunction) {/**/}
 }
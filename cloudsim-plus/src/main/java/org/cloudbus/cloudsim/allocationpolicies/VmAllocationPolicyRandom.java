@@ -30,6 +30,8 @@ import java.util.Optional;
  * @since CloudSim Plus 4.4.2
  */
 public class VmAllocationPolicyRandom extends VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A Pseudo-Random Number Generator (PRNG) used to select a Host.
      */
@@ -30,6 +30,8 @@ import java.util.Optional;
  * @since CloudSim Plus 4.4.2
  */
 public class VmAllocationPolicyRoundRobin extends VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The index of the last host used to place a VM.
      */
@@ -10,20 +10,17 @@ package org.cloudbus.cloudsim.allocationpolicies;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
-import java.util.Comparator;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * A VmAllocationPolicy implementation that chooses, as
  * the host for a VM, that one with the fewest PEs in use.
  * <b>It is therefore a Worst Fit policy</b>, allocating each VM into the host with most available PEs.
  *
- * <p>This is a really computationally complex policy since the worst-case complexity
- * to allocate a Host for a VM is O(N), where N is the number of Hosts.
- * Such an implementation is not appropriate for large scale scenarios.</p>
+ * <p>Hosts are kept sorted by their active state and number of free PEs
+ * into a {@link HostCapacityIndex}, which describes how a Host is found for a VM.</p>
  *
  * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
  *
@@ -37,6 +34,14 @@ import java.util.stream.Stream;
  * @see VmAllocationPolicyWorstFit
  */
 public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The Hosts sorted by active state and the most number of free PEs,
+     * where the first suitable Host is the one selected for a VM.
+     */
+    private final HostCapacityIndex hostCapacityIndex = new HostCapacityIndex(true);
+
     /**
      * Instantiates a VmAllocationPolicySimple.
      */
@@ -61,13 +66,12 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
-        final Comparator<Host> comparator = Comparator.comparing(Host::isActive)
-                                                      .thenComparingLong(Host::getFreePesNumber);
+        return hostCapacityIndex.findFirst(this, vm);
+    }
 
-        final Stream<Host> stream = isParallelHostSearchEnabled() ? getHostList().stream().parallel() : getHostList().stream();
-        return stream
-                .filter(host -> host.isSuitableForVm(vm))
-                .max(comparator);
+    @Override
+    public void notifyHostStateChanged(final Host host) {
+        hostCapacityIndex.markDirty(host);
     }
 
 }
@@ -26,18 +26,15 @@ package org.cloudbus.cloudsim.allocationpolicies;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
-import java.util.Comparator;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
  * A Worst Fit VmAllocationPolicy implementation that chooses, as
  * the host for a VM, that one with the least number of PEs in use,
  * which are enough for the VM.
  *
- * <p>This is a really computationally complex policy since the worst-case complexity
- * to allocate a Host for a VM is O(N), where N is the number of Hosts.
- * Such an implementation is not appropriate for large scale scenarios.
+ * <p>Hosts are kept sorted by their active state and number of free PEs
+ * into a {@link HostCapacityIndex}, which describes how a Host is found for a VM.
  * <b>Additionally, such a policy may increase resource idleness.</b></p>
  *
  * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
@@ -49,6 +46,14 @@ import java.util.stream.Stream;
  * @see VmAllocationPolicyBestFit
  */
 public class VmAllocationPolicyWorstFit extends VmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The Hosts sorted by active state and the most number of free PEs,
+     * where the first suitable Host is the one selected for a VM.
+     */
+    private final HostCapacityIndex hostCapacityIndex = new HostCapacityIndex(true);
+
     /**
      * Gets the first suitable host from the {@link #getHostList()}
      * that has the least number of PEs in use (i.e. the most number of free PEs).
@@ -56,13 +61,12 @@ public class VmAllocationPolicyWorstFit extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
-        final Comparator<Host> activeComparator = Comparator.comparing(Host::isActive);
-        final Comparator<Host> comparator = activeComparator.thenComparingLong(Host::getFreePesNumber);
+        return hostCapacityIndex.findFirst(this, vm);
+    }
 
-        final Stream<Host> stream = isParallelHostSearchEnabled() ? getHostList().stream().parallel() : getHostList().stream();
-        return stream
-                .filter(host -> host.isSuitableForVm(vm))
-                .max(comparator);
+    @Override
+    public void notifyHostStateChanged(final Host host) {
+        hostCapacityIndex.markDirty(host);
     }
 
 }
@@ -50,6 +50,8 @@ import static java.util.stream.Collectors.toSet;
  * @since CloudSim Toolkit 3.0
  */
 public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPolicyAbstract implements VmAllocationPolicyMigration {
+    private static final long serialVersionUID = 1L;
+
     public static final double DEF_UNDER_UTILIZATION_THRESHOLD = 0.35;
 
     /** @see #getUnderUtilizationThreshold() */
@@ -31,6 +31,7 @@ import java.util.stream.Stream;
  * @since CloudSim Plus 1.0
  */
 public class VmAllocationPolicyMigrationBestFitStaticThreshold extends VmAllocationPolicyMigrationStaticThreshold {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a VmAllocationPolicyMigrationBestFitStaticThreshold.
@@ -16,6 +16,7 @@ import java.util.Objects;
  */
 public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit extends VmAllocationPolicyMigrationAbstract
     implements VmAllocationPolicyMigrationDynamicUpperThreshold {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSafetyParameter()
@@ -31,6 +31,8 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 3.0
  */
 public class VmAllocationPolicyMigrationInterQuartileRange extends VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The minimum number of history entries required to compute
      * the Inter Quartile Range (IQR).
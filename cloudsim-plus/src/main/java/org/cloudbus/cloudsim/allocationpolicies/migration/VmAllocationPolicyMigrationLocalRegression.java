@@ -39,6 +39,7 @@ import java.util.Map;
  * @since CloudSim Toolkit 3.0
  */
 public class VmAllocationPolicyMigrationLocalRegression extends VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSchedulingInterval()
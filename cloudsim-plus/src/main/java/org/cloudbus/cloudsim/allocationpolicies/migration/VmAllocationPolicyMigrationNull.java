@@ -21,6 +21,8 @@ import java.util.function.BiFunction;
  * @see VmAllocationPolicyMigration#NULL
  */
 final class VmAllocationPolicyMigrationNull implements VmAllocationPolicyMigration {
+    private static final long serialVersionUID = 1L;
+
     @Override public Datacenter getDatacenter() { return Datacenter.NULL; }
     @Override public void setDatacenter(Datacenter datacenter) {/**/}
     @Override public boolean allocateHostForVm(Vm vm) {
@@ -35,8 +37,8 @@ final class VmAllocationPolicyMigrationNull implements VmAllocationPolicyMigrati
     @Override public void deallocateHostForVm(Vm vm) {/**/}
     @Override public Optional<Host> findHostForVm(Vm vm) { return Optional.empty(); }
     @Override public boolean isVmMigrationSupported() { return false; }
-    @Override public int getHostCountForParallelSearch() { return 0; }
-    @Override public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
+    @Override @Deprecated public int getHostCountForParallelSearch() { return 0; }
+    @Override @Deprecated public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
     @Override public <T extends Host> List<T> getHostList() {
         return Collections.emptyList();
     }
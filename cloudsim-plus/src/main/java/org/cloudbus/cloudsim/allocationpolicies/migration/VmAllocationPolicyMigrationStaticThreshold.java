@@ -35,6 +35,8 @@ import java.util.function.Function;
  * @since CloudSim Toolkit 3.0
  */
 public class VmAllocationPolicyMigrationStaticThreshold extends VmAllocationPolicyMigrationAbstract {
+    private static final long serialVersionUID = 1L;
+
     public static final double DEF_OVER_UTILIZATION_THRESHOLD = 0.9;
 
     /**
@@ -31,6 +31,7 @@ import java.util.stream.Stream;
  * @since CloudSim Plus 1.0
  */
 public class VmAllocationPolicyMigrationWorstFitStaticThreshold extends VmAllocationPolicyMigrationStaticThreshold {
+    private static final long serialVersionUID = 1L;
 
     public VmAllocationPolicyMigrationWorstFitStaticThreshold(
         final VmSelectionPolicy vmSelectionPolicy,
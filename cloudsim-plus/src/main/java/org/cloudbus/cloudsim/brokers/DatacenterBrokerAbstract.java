@@ -25,6 +25,7 @@ import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.traces.google.GoogleTaskEventsTraceReader;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -39,6 +40,8 @@ import static java.util.Objects.requireNonNull;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements DatacenterBroker {
+    private static final long serialVersionUID = 1L;
+
     private boolean selectClosestDatacenter;
 
     /**
@@ -52,7 +55,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      *
      * @see #setVmDestructionDelayFunction(Function)
      */
-    private static final Function<Vm, Double> DEF_VM_DESTRUCTION_DELAY_FUNCTION = vm -> DEF_VM_DESTRUCTION_DELAY;
+    private static final Function<Vm, Double> DEF_VM_DESTRUCTION_DELAY_FUNCTION = (Function<Vm, Double> & Serializable) vm -> DEF_VM_DESTRUCTION_DELAY;
 
     /**
      * A map of registered event listeners for the onVmsCreatedListeners event
@@ -168,8 +171,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.cloudletSubmittedList = new ArrayList<>();
         setDatacenterList(new TreeSet<>());
 
-        setDatacenterMapper(this::defaultDatacenterMapper);
-        setVmMapper(this::defaultVmMapper);
+        setDatacenterMapper((BiFunction<Datacenter, Vm, Datacenter> & Serializable) this::defaultDatacenterMapper);
+        setVmMapper((Function<Cloudlet, Vm> & Serializable) this::defaultVmMapper);
         vmDestructionDelayFunction = DEF_VM_DESTRUCTION_DELAY_FUNCTION;
     }
 
@@ -178,7 +181,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     public final DatacenterBroker setSelectClosestDatacenter(final boolean select) {
         this.selectClosestDatacenter = select;
         if(select){
-            setDatacenterMapper(this::closestDatacenterMapper);
+            setDatacenterMapper((BiFunction<Datacenter, Vm, Datacenter> & Serializable) this::closestDatacenterMapper);
         }
         return this;
     }
@@ -801,6 +804,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             }
 
             if(isVmIdlenessVerificationRequired((VmSimple)vm)) {
+                vm.getHost().getDatacenter().requestHostProcessingUpdate(vm.getHost());
                 getSimulation().send(
                     new CloudSimEvent(vmDestructionDelayFunction.apply(vm),
                         vm.getHost().getDatacenter(),
@@ -944,8 +948,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
             logCloudletCreationRequest(cloudlet);
             cloudlet.setVm(lastSelectedVm);
-            send(getDatacenter(lastSelectedVm),
-                cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+            final int tag = isCloudletSubmissionAckRequired() ? CloudSimTags.CLOUDLET_SUBMIT_ACK : CloudSimTags.CLOUDLET_SUBMIT;
+            send(getDatacenter(lastSelectedVm), cloudlet.getSubmissionDelay(), tag, cloudlet);
             cloudlet.setLastTriedDatacenter(getDatacenter(lastSelectedVm));
             cloudletsCreatedList.add(cloudlet);
             it.remove();
@@ -954,6 +958,19 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         allWaitingCloudletsSubmittedToVm();
     }
 
+    /**
+     * Checks if the Datacenter receiving each submitted Cloudlet has to send a
+     * {@link CloudSimTags#CLOUDLET_SUBMIT_ACK} back to the broker,
+     * after the Cloudlet is submitted to its VM.
+     * The ACK enables the broker to know if the Cloudlet was rejected by
+     * the VM's {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler}.
+     *
+     * @return true if an ACK is required, false otherwise
+     */
+    protected boolean isCloudletSubmissionAckRequired() {
+        return false;
+    }
+
     private void logPostponingCloudletExecution(final Cloudlet cloudlet) {
         final String vmMsg = cloudlet.getVm() == Vm.NULL ?
                                 "it couldn't be mapped to any VM" :
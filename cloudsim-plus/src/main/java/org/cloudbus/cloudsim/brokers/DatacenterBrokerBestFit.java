@@ -17,6 +17,7 @@ import java.util.Comparator;
  * @since CloudSim Plus 4.3.8
  */
 public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a DatacenterBroker object.
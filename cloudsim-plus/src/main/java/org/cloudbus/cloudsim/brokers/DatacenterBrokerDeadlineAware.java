@@ -0,0 +1,559 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * A {@link DatacenterBroker} that maps each Cloudlet to a VM where it is expected to meet its
+ * {@link Cloudlet#getDeadline() deadline}, so that Cloudlets are not sent to VMs whose
+ * deadline-aware {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler}
+ * (such as the {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerEDF})
+ * will reject them while other VMs are idle.
+ *
+ * <p>The broker keeps the created VMs ordered by their committed backlog, that is, the time
+ * they are expected to finish the Cloudlets already mapped to them, considering their whole capacity.
+ * It also keeps the earliest slack of each VM: how much the Cloudlets mapped to it
+ * can be delayed without missing their deadlines.
+ * A Cloudlet is mapped to the VM with the lowest backlog where it would finish before its deadline
+ * without delaying other Cloudlets beyond the VM's slack.
+ * Since VMs are visited in backlog order, usually just the first ones are checked.
+ * The search stops at the first VM where the Cloudlet would start after its deadline
+ * or after {@link #MAX_VMS_TO_CHECK} VMs are checked.
+ * If no such a VM is found, the Cloudlet is mapped to the VM with the lowest backlog having enough PEs,
+ * where its CloudletScheduler decides what to do with it.
+ * Such a VM is found in logarithmic time in the number of VMs,
+ * by a single lookup into an index of the VMs with the lowest backlog in each range of numbers of PEs.</p>
+ *
+ * <p>The backlog and slack of a VM are updated when a Cloudlet is mapped to it,
+ * when the Datacenter acknowledges the Cloudlet submission (releasing the backlog of a rejected Cloudlet)
+ * and when the Cloudlet is returned to the broker, either because it finished
+ * or because its CloudletScheduler aborted it.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public class DatacenterBrokerDeadlineAware extends DatacenterBrokerSimple {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of VMs checked to find one where a Cloudlet
+     * is expected to meet its deadline, so that mapping a Cloudlet
+     * doesn't take linear time when it cannot meet its deadline in most VMs.
+     */
+    public static final int MAX_VMS_TO_CHECK = 32;
+
+    /**
+     * The created VMs grouped by number of PEs and ordered by their committed backlog.
+     */
+    private final VmBacklogIndex vmsByBacklog;
+
+    /**
+     * The entry of each created VM in the {@link #vmsByBacklog} index.
+     */
+    private final Map<Vm, VmBacklog> vmBacklogs;
+
+    /**
+     * The entry of the VM each Cloudlet was mapped to,
+     * for the Cloudlets that have not been returned to the broker yet.
+     */
+    private final Map<Cloudlet, VmBacklog> mappedCloudlets;
+
+    /**
+     * @see #getRejectedCloudlets()
+     */
+    private int rejectedCloudlets;
+
+    /**
+     * Creates a DatacenterBroker object.
+     *
+     * @param simulation The CloudSim instance that represents the simulation the Entity is related to
+     */
+    public DatacenterBrokerDeadlineAware(final CloudSim simulation) {
+        this(simulation, "");
+    }
+
+    /**
+     * Creates a DatacenterBroker giving a specific name.
+     *
+     * @param simulation the CloudSim instance that represents the simulation the Entity is related to
+     * @param name the DatacenterBroker name
+     */
+    public DatacenterBrokerDeadlineAware(final CloudSim simulation, final String name) {
+        super(simulation, name);
+        vmsByBacklog = new VmBacklogIndex();
+        vmBacklogs = new IdentityHashMap<>();
+        mappedCloudlets = new IdentityHashMap<>();
+    }
+
+    /**
+     * Gets the number of Cloudlets the VMs' CloudletScheduler rejected when they were submitted.
+     * @return the number of rejected Cloudlets
+     */
+    public int getRejectedCloudlets() {
+        return rejectedCloudlets;
+    }
+
+    /**
+     * Selects the VM with the lowest committed backlog where a given Cloudlet
+     * is expected to meet its deadline.
+     * In case there is no such a VM, selects the one with the lowest backlog having enough PEs.
+     *
+     * @param cloudlet the Cloudlet to find a VM to run it
+     * @return the VM selected for the Cloudlet or {@link Vm#NULL} if no VM has enough PEs
+     */
+    @Override
+    protected Vm defaultVmMapper(final Cloudlet cloudlet) {
+        updateVmBacklogs();
+        if (cloudlet.isBoundToVm()) {
+            mapCloudlet(cloudlet, vmBacklogs.get(cloudlet.getVm()));
+            return cloudlet.getVm();
+        }
+
+        final VmBacklog feasible = findFeasibleVm(cloudlet);
+        if (feasible != null) {
+            mapCloudlet(cloudlet, feasible);
+            return feasible.vm;
+        }
+
+        final VmBacklog fallback = vmsByBacklog.first(cloudlet.getNumberOfPes());
+        if (fallback == null) {
+            LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
+                getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes());
+            return Vm.NULL;
+        }
+
+        LOGGER.trace("{}: {}: {} is not expected to meet its deadline in the checked VMs and was mapped to {}",
+            getSimulation().clockStr(), getName(), cloudlet, fallback.vm);
+        mapCloudlet(cloudlet, fallback);
+        return fallback.vm;
+    }
+
+    /**
+     * Finds the VM with the lowest committed backlog where a given Cloudlet is expected to meet its deadline,
+     * visiting up to {@link #MAX_VMS_TO_CHECK} VMs in backlog order.
+     * Since VMs are ordered by the time they will finish their Cloudlets,
+     * the search stops at the first VM where the Cloudlet would just start after its deadline.
+     *
+     * @param cloudlet the Cloudlet to find a VM to run it
+     * @return the entry of the VM found or null if no checked VM is feasible for the Cloudlet
+     */
+    private VmBacklog findFeasibleVm(final Cloudlet cloudlet) {
+        final double submissionTime = getSimulation().clock() + cloudlet.getSubmissionDelay();
+        int checkedVms = 0;
+        for (final VmBacklog backlog : vmsByBacklog.all) {
+            if (checkedVms++ == MAX_VMS_TO_CHECK ||
+                cloudlet.getDeadline() > 0 && backlog.getStartTime(submissionTime) >= cloudlet.getDeadline())
+            {
+                return null;
+            }
+
+            if (backlog.vm.getNumberOfPes() >= cloudlet.getNumberOfPes() && backlog.isFeasible(cloudlet, submissionTime)) {
+                return backlog;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds to the {@link #vmsByBacklog} index the VMs created since the last time a Cloudlet was mapped
+     * and removes the ones that were destroyed.
+     * The VM list is just traversed when the number of created VMs changes.
+     */
+    private void updateVmBacklogs() {
+        final List<Vm> vms = getVmExecList();
+        if (vms.size() == vmBacklogs.size()) {
+            return;
+        }
+
+        final Set<Vm> createdVms = Collections.newSetFromMap(new IdentityHashMap<>());
+        createdVms.addAll(vms);
+        for (final Iterator<VmBacklog> it = vmBacklogs.values().iterator(); it.hasNext(); ) {
+            final VmBacklog backlog = it.next();
+            if (!createdVms.contains(backlog.vm)) {
+                vmsByBacklog.remove(backlog);
+                it.remove();
+            }
+        }
+
+        for (final Vm vm : vms) {
+            vmBacklogs.computeIfAbsent(vm, this::newVmBacklog);
+        }
+    }
+
+    private VmBacklog newVmBacklog(final Vm vm) {
+        final VmBacklog backlog = new VmBacklog(vm, getSimulation().clock());
+        vmsByBacklog.add(backlog);
+        return backlog;
+    }
+
+    /**
+     * Commits the backlog of a VM to run a given Cloudlet.
+     * @param cloudlet the Cloudlet mapped to the VM
+     * @param backlog the entry of the VM the Cloudlet was mapped to
+     *                or null if the VM is not created
+     */
+    private void mapCloudlet(final Cloudlet cloudlet, final VmBacklog backlog) {
+        if (backlog == null || mappedCloudlets.containsKey(cloudlet)) {
+            return;
+        }
+
+        vmsByBacklog.remove(backlog);
+        backlog.add(cloudlet, getSimulation().clock() + cloudlet.getSubmissionDelay());
+        vmsByBacklog.add(backlog);
+        mappedCloudlets.put(cloudlet, backlog);
+    }
+
+    /**
+     * Releases the backlog committed to a Cloudlet that was rejected or returned to the broker.
+     * The backlog of a Cloudlet that failed (including the ones aborted because they
+     * cannot meet their deadlines anymore) is released, since the VM will not spend time running it.
+     *
+     * @param cloudlet the Cloudlet that was rejected, finished or failed
+     */
+    private void releaseCloudlet(final Cloudlet cloudlet) {
+        final VmBacklog backlog = mappedCloudlets.remove(cloudlet);
+        if (backlog == null) {
+            return;
+        }
+
+        vmsByBacklog.remove(backlog);
+        backlog.remove(cloudlet, getSimulation().clock());
+        vmsByBacklog.add(backlog);
+    }
+
+    @Override
+    protected boolean isCloudletSubmissionAckRequired() {
+        return true;
+    }
+
+    @Override
+    public void processEvent(final SimEvent evt) {
+        if (evt.getTag() == CloudSimTags.CLOUDLET_SUBMIT_ACK) {
+            processCloudletSubmitAck((Cloudlet) evt.getData());
+            return;
+        }
+
+        if (evt.getTag() == CloudSimTags.CLOUDLET_RETURN) {
+            releaseCloudlet((Cloudlet) evt.getData());
+        }
+
+        super.processEvent(evt);
+    }
+
+    private void processCloudletSubmitAck(final Cloudlet cloudlet) {
+        if (cloudlet.getStatus() != Cloudlet.Status.FAILED) {
+            return;
+        }
+
+        rejectedCloudlets++;
+        LOGGER.info("{}: {}: {} was rejected by {}.", getSimulation().clockStr(), getName(), cloudlet, cloudlet.getVm());
+        releaseCloudlet(cloudlet);
+    }
+
+    /**
+     * The backlog committed to a VM, which is the time it is expected to
+     * finish the Cloudlets mapped to it, and its earliest slack.
+     */
+    private static final class VmBacklog implements Comparable<VmBacklog>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Vm vm;
+
+        /**
+         * The execution time of each Cloudlet mapped to the VM,
+         * considering it uses a fraction of the VM capacity proportional to its number of PEs.
+         */
+        private final Map<Cloudlet, Double> cloudlets;
+
+        /**
+         * The slack of each Cloudlet with a deadline mapped to the VM,
+         * plus the {@link #delay} at the time it was mapped.
+         */
+        private final Map<Cloudlet, Double> cloudletSlacks;
+
+        /**
+         * The number of Cloudlets having each value into the {@link #cloudletSlacks},
+         * so that the earliest slack of the VM is given by the lowest one.
+         */
+        private final TreeMap<Double, Integer> slacks;
+
+        /**
+         * The total time the Cloudlets mapped to the VM were delayed
+         * by Cloudlets having earlier deadlines that were mapped after them.
+         */
+        private double delay;
+
+        /**
+         * The time the VM is expected to finish the Cloudlets mapped to it.
+         */
+        private double finishTime;
+
+        /**
+         * The latest deadline of the Cloudlets mapped to the VM.
+         * A Cloudlet with a later deadline is expected to run after them, without delaying them.
+         */
+        private double latestDeadline;
+
+        private VmBacklog(final Vm vm, final double time) {
+            this.vm = vm;
+            this.cloudlets = new IdentityHashMap<>();
+            this.cloudletSlacks = new IdentityHashMap<>();
+            this.slacks = new TreeMap<>();
+            this.finishTime = time;
+        }
+
+        /**
+         * Gets the time a Cloudlet submitted at a given time is expected to start.
+         * @param submissionTime the time the Cloudlet is submitted
+         * @return the expected start time
+         */
+        private double getStartTime(final double submissionTime) {
+            return Math.max(finishTime, submissionTime);
+        }
+
+        /**
+         * Gets how much the Cloudlets mapped to the VM can be delayed without missing their deadlines.
+         */
+        private double getSlack() {
+            return slacks.isEmpty() ? Double.MAX_VALUE : slacks.firstKey() - delay;
+        }
+
+        private double getBacklog(final Cloudlet cloudlet) {
+            return getRunningTime(cloudlet) * cloudlet.getNumberOfPes() / vm.getNumberOfPes();
+        }
+
+        private double getRunningTime(final Cloudlet cloudlet) {
+            return Math.abs(cloudlet.getLength()) / vm.getMips();
+        }
+
+        /**
+         * Gets the time a Cloudlet is expected to finish if mapped to the VM.
+         * It cannot finish before it runs for its whole length,
+         * neither before the VM finishes all the Cloudlets mapped to it.
+         */
+        private double getFinishTime(final Cloudlet cloudlet, final double submissionTime) {
+            return Math.max(getStartTime(submissionTime) + getBacklog(cloudlet), submissionTime + getRunningTime(cloudlet));
+        }
+
+        /**
+         * Checks if a Cloudlet is expected to meet its deadline if mapped to the VM,
+         * without making the Cloudlets already mapped to it miss theirs.
+         */
+        private boolean isFeasible(final Cloudlet cloudlet, final double submissionTime) {
+            return (cloudlet.getDeadline() <= 0 || getFinishTime(cloudlet, submissionTime) <= cloudlet.getDeadline()) &&
+                   (!delaysOtherCloudlets(cloudlet) || getBacklog(cloudlet) <= getSlack());
+        }
+
+        private boolean delaysOtherCloudlets(final Cloudlet cloudlet) {
+            return cloudlet.getDeadline() < latestDeadline;
+        }
+
+        private void add(final Cloudlet cloudlet, final double submissionTime) {
+            final double backlog = getBacklog(cloudlet);
+            if (delaysOtherCloudlets(cloudlet)) {
+                delay += backlog;
+            }
+
+            if (cloudlet.getDeadline() > 0) {
+                final double slack = cloudlet.getDeadline() - getFinishTime(cloudlet, submissionTime) + delay;
+                cloudletSlacks.put(cloudlet, slack);
+                slacks.merge(slack, 1, Integer::sum);
+                latestDeadline = Math.max(latestDeadline, cloudlet.getDeadline());
+            }
+
+            finishTime = getStartTime(submissionTime) + backlog;
+            cloudlets.put(cloudlet, backlog);
+        }
+
+        /**
+         * Removes a Cloudlet that was rejected or returned to the broker.
+         * The backlog of a failed Cloudlet is discounted since the VM won't spend time running it.
+         */
+        private void remove(final Cloudlet cloudlet, final double time) {
+            final Double backlog = cloudlets.remove(cloudlet);
+            if (backlog != null && cloudlet.getStatus() != Cloudlet.Status.SUCCESS) {
+                finishTime = Math.max(finishTime - backlog, time);
+            }
+
+            final Double slack = cloudletSlacks.remove(cloudlet);
+            if (slack != null) {
+                slacks.computeIfPresent(slack, (value, count) -> count == 1 ? null : count - 1);
+            }
+
+            if (cloudlets.isEmpty()) {
+                finishTime = time;
+                delay = 0;
+                latestDeadline = 0;
+            }
+        }
+
+        @Override
+        public int compareTo(final VmBacklog other) {
+            final int result = Double.compare(finishTime, other.finishTime);
+            return result == 0 ? Long.compare(vm.getId(), other.vm.getId()) : result;
+        }
+    }
+
+    /**
+     * An index of {@link VmBacklog}s that keeps all VMs ordered by backlog
+     * and finds the VM with the lowest backlog
+     * having at least a given number of PEs in logarithmic time.
+     *
+     * <p>VMs are also grouped by number of PEs, each group ordered by backlog.
+     * A segment tree over the groups, sorted by number of PEs, keeps the VM with the lowest backlog
+     * in each range of groups. That way, the VMs having too few PEs are never visited.
+     * The tree is just rebuilt when a group is created or removed,
+     * which happens only when VMs are created or destroyed.</p>
+     */
+    private static final class VmBacklogIndex implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * All the VMs ordered by backlog.
+         */
+        private final TreeSet<VmBacklog> all;
+
+        /**
+         * The VMs grouped by their number of PEs, each group ordered by backlog.
+         */
+        private final TreeMap<Long, TreeSet<VmBacklog>> groups;
+
+        /**
+         * The number of PEs of the VMs in each group, in increasing order,
+         * which are the leaves of the {@link #tree}.
+         */
+        private long[] pesNumbers;
+
+        /**
+         * A segment tree where the node {@code i} has the VM with the lowest backlog
+         * among the ones in nodes {@code 2i} and {@code 2i+1}
+         * and the leaves start at the index {@code pesNumbers.length}.
+         */
+        private VmBacklog[] tree;
+
+        private VmBacklogIndex() {
+            all = new TreeSet<>();
+            groups = new TreeMap<>();
+            pesNumbers = new long[0];
+            tree = new VmBacklog[0];
+        }
+
+        private void add(final VmBacklog backlog) {
+            all.add(backlog);
+            final long pes = backlog.vm.getNumberOfPes();
+            final TreeSet<VmBacklog> group = groups.get(pes);
+            if (group == null) {
+                groups.put(pes, new TreeSet<>(Collections.singleton(backlog)));
+                rebuild();
+                return;
+            }
+
+            group.add(backlog);
+            update(pes, group);
+        }
+
+        private void remove(final VmBacklog backlog) {
+            all.remove(backlog);
+            final long pes = backlog.vm.getNumberOfPes();
+            final TreeSet<VmBacklog> group = groups.get(pes);
+            if (group == null || !group.remove(backlog)) {
+                return;
+            }
+
+            if (group.isEmpty()) {
+                groups.remove(pes);
+                rebuild();
+                return;
+            }
+
+            update(pes, group);
+        }
+
+        /**
+         * Gets the VM with the lowest backlog having at least a given number of PEs.
+         * @param pes the minimum number of PEs
+         * @return the VM entry or null if no VM has enough PEs
+         */
+        private VmBacklog first(final long pes) {
+            final int leaves = pesNumbers.length;
+            int insertionPoint = Arrays.binarySearch(pesNumbers, pes);
+            if (insertionPoint < 0) {
+                insertionPoint = -insertionPoint - 1;
+            }
+
+            VmBacklog result = null;
+            for (int left = insertionPoint + leaves, right = 2 * leaves; left < right; left >>= 1, right >>= 1) {
+                if ((left & 1) == 1) {
+                    result = min(result, tree[left++]);
+                }
+
+                if ((right & 1) == 1) {
+                    result = min(result, tree[--right]);
+                }
+            }
+
+            return result;
+        }
+
+        private void update(final long pes, final TreeSet<VmBacklog> group) {
+            int node = Arrays.binarySearch(pesNumbers, pes) + pesNumbers.length;
+            tree[node] = group.first();
+            for (node >>= 1; node > 0; node >>= 1) {
+                tree[node] = min(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+
+        private void rebuild() {
+            final int leaves = groups.size();
+            pesNumbers = new long[leaves];
+            tree = new VmBacklog[2 * leaves];
+            int leaf = 0;
+            for (final Map.Entry<Long, TreeSet<VmBacklog>> entry : groups.entrySet()) {
+                pesNumbers[leaf] = entry.getKey();
+                tree[leaves + leaf] = entry.getValue().first();
+                leaf++;
+            }
+
+            for (int node = leaves - 1; node > 0; node--) {
+                tree[node] = min(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+
+        private static VmBacklog min(final VmBacklog backlog1, final VmBacklog backlog2) {
+            if (backlog1 == null) {
+                return backlog2;
+            }
+
+            return backlog2 == null || backlog1.compareTo(backlog2) <= 0 ? backlog1 : backlog2;
+        }
+    }
+}
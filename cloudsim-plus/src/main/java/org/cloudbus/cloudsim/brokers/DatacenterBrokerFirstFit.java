@@ -15,6 +15,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 4.6.0
  */
 public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The index of the last Vm used to place a Cloudlet.
      */
@@ -20,6 +20,8 @@ import java.util.stream.Collectors;
  * @author Manoel Campos da Silva Filho
  */
 public class DatacenterBrokerHeuristic extends DatacenterBrokerSimple {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getHeuristic()
      */
@@ -23,6 +23,8 @@ import java.util.function.Function;
  * @see DatacenterBroker#NULL
  */
 final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase {
+    private static final long serialVersionUID = 1L;
+
     @Override public int compareTo(SimEntity entity) { return 0; }
     @Override public boolean bindCloudletToVm(Cloudlet cloudlet, Vm vm) {
         return false;
@@ -37,6 +37,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see DatacenterBrokerHeuristic
  */
 public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Index of the last VM selected from the {@link #getVmExecList()}
      * to run some Cloudlet.
@@ -223,6 +223,21 @@ public interface Cloudlet extends UniquelyIdentifiable, Comparable<Cloudlet>, Cu
      */
     boolean isReturnedToBroker();
 
+    /**
+     * Returns the Cloudlet to its broker, so that the broker is aware about
+     * the end of execution of the Cloudlet, either because it has finished
+     * or because its {@link CloudletScheduler} aborted it.
+     * The Cloudlet is returned just once.
+     *
+     * <p><b>This method is used internally by the CloudletScheduler
+     * and must not be called by the user.</b></p>
+     *
+     * @return true if the Cloudlet was returned to the broker,
+     *         false if it had already been returned
+     * @see #isReturnedToBroker()
+     */
+    boolean returnToBroker();
+
     /**
      * Sets the parameters of the Datacenter where the Cloudlet is going to be
      * executed. From the second time this method is called, every call makes the
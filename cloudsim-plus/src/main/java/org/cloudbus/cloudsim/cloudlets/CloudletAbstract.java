@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.cloudlets;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.CustomerEntityAbstract;
+import org.cloudbus.cloudsim.core.DeferredSideEffects;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
@@ -31,6 +32,7 @@ import static java.util.Objects.requireNonNull;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class CloudletAbstract extends CustomerEntityAbstract implements Cloudlet {
+    private static final long serialVersionUID = 1L;
 
     /** @see #getJobId() */
     private long jobId;
@@ -275,7 +277,12 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public void notifyOnUpdateProcessingListeners(final double time) {
-        onUpdateProcessingListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, time, this)));
+        if(onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
+        DeferredSideEffects.runOrDefer(() ->
+            onUpdateProcessingListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, time, this))));
     }
 
     @Override
@@ -401,11 +408,21 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * by returning the Cloudlet to it.
      */
     private void returnToBrokerIfFinished() {
-        if(isFinished() && !isReturnedToBroker()){
-            returnedToBroker = true;
-            getSimulation().sendNow(getSimulation().getCloudInfoService(), getBroker(), CloudSimTags.CLOUDLET_RETURN, this);
-            vm.getCloudletScheduler().addCloudletToReturnedList(this);
+        if(isFinished()){
+            returnToBroker();
+        }
+    }
+
+    @Override
+    public boolean returnToBroker() {
+        if(isReturnedToBroker()){
+            return false;
         }
+
+        returnedToBroker = true;
+        getSimulation().sendNow(getSimulation().getCloudInfoService(), getBroker(), CloudSimTags.CLOUDLET_RETURN, this);
+        vm.getCloudletScheduler().addCloudletToReturnedList(this);
+        return true;
     }
 
     /**
@@ -415,12 +432,16 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * multiple times about a Cloudlet termination.
      */
     private void notifyListenersIfCloudletIsFinished() {
-        if (isFinished()) {
-            onFinishListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this)));
-            onFinishListeners.clear();
+        if (isFinished() && !onFinishListeners.isEmpty()) {
+            DeferredSideEffects.runOrDefer(this::notifyOnFinishListeners);
         }
     }
 
+    private void notifyOnFinishListeners() {
+        onFinishListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this)));
+        onFinishListeners.clear();
+    }
+
     private CloudletDatacenterExecution getLastExecutionInDatacenterInfo() {
         if (datacenterExecutionList.isEmpty()) {
             return CloudletDatacenterExecution.NULL;
@@ -448,8 +469,9 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     public void setExecStartTime(final double clockTime) {
         final boolean isStartingInSomeVm = this.execStartTime <= 0 && clockTime > 0 && vm != Vm.NULL && vm != null;
         this.execStartTime = clockTime;
-        if(isStartingInSomeVm){
-            onStartListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, clockTime, this)));
+        if(isStartingInSomeVm && !onStartListeners.isEmpty()){
+            DeferredSideEffects.runOrDefer(() ->
+                onStartListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, clockTime, this))));
         }
     }
 
@@ -909,6 +931,6 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         final CloudletAbstract that = (CloudletAbstract) other;
 
         if (getId() != that.getId()) return false;
-        return getBroker().equals(that.getBroker());
+        return Objects.equals(getBroker(), that.getBroker());
     }
 }
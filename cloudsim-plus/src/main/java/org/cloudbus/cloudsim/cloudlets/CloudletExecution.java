@@ -15,6 +15,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.util.Conversion;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -36,7 +37,9 @@ import java.util.Objects;
  * @author Rajkumar Buyya
  * @since CloudSim Toolkit 1.0
  */
-public class CloudletExecution {
+public class CloudletExecution implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A property that implements the Null Object Design Pattern for {@link CloudletExecution}
      * objects.
@@ -113,6 +116,9 @@ public class CloudletExecution {
     /** @see #getLastAllocatedMips() */
     private double lastAllocatedMips;
 
+    /** @see #getLazyProgressMips() */
+    private double lazyProgressMips;
+
 
     private double deadline;
 
@@ -222,7 +228,7 @@ public class CloudletExecution {
      */
     public long getRemainingCloudletLength() {
         final long absLength = Math.abs(cloudlet.getLength());
-        final double miFinishedSoFar = instructionsFinishedSoFar / (double) Conversion.MILLION;
+        final double miFinishedSoFar = getInstructionsFinishedSoFar() / Conversion.MILLION;
 
         if(cloudlet.getLength() > 0){
             return (long)Math.max(absLength - miFinishedSoFar, 0);
@@ -255,6 +261,22 @@ public class CloudletExecution {
         return (long)Math.min(Math.abs(absLength-miFinishedSoFar), absLength);
     }
 
+    /**
+     * Gets the number of Instructions (I) finished so far,
+     * including the ones executed since the {@link #getLastProcessingTime() last processing time}
+     * at the {@link #getLazyProgressMips() lazy progress MIPS}, if any.
+     *
+     * @return the number of Instructions finished so far
+     */
+    private double getInstructionsFinishedSoFar() {
+        if(lazyProgressMips <= 0){
+            return instructionsFinishedSoFar;
+        }
+
+        final double timeSpan = Math.max(cloudlet.getSimulation().clock() - lastProcessingTime, 0);
+        return instructionsFinishedSoFar + lazyProgressMips * timeSpan * Conversion.MILLION;
+    }
+
     /**
      * Finalizes all relevant information before <b>exiting</b> the Datacenter
      * entity. This method sets the final data of:
@@ -513,6 +535,32 @@ public class CloudletExecution {
         }
     }
 
+    /**
+     * Gets the constant MIPS the Cloudlet is executing at since the
+     * {@link #getLastProcessingTime() last processing time},
+     * when its progress is not {@link #updateProcessing(double) updated} at every
+     * processing update, but just when such MIPS change or the Cloudlet finishes.
+     * In such a case, the {@link #getRemainingCloudletLength() remaining length}
+     * is computed from that MIPS, though the {@link Cloudlet#getFinishedLengthSoFar() Cloudlet finished length}
+     * is only updated when the progress is.
+     *
+     * @return the lazy progress MIPS or zero if the progress is updated at every processing update
+     */
+    public double getLazyProgressMips() {
+        return lazyProgressMips;
+    }
+
+    /**
+     * Sets the constant MIPS the Cloudlet is executing at since the
+     * {@link #getLastProcessingTime() last processing time}.
+     *
+     * @param lazyProgressMips the lazy progress MIPS or zero if the progress is updated at every processing update
+     * @see #getLazyProgressMips()
+     */
+    public void setLazyProgressMips(final double lazyProgressMips) {
+        this.lazyProgressMips = Math.max(lazyProgressMips, 0);
+    }
+
     public double getDeadline() {
         return deadline;
     }
@@ -20,6 +20,8 @@ import java.util.List;
  * @see Cloudlet#NULL
  */
 final class CloudletNull implements Cloudlet {
+    private static final long serialVersionUID = 1L;
+
     @Override public void setId(long id) {/**/}
     @Override public long getId() {
         return -1;
@@ -94,6 +96,7 @@ final class CloudletNull implements Cloudlet {
         return Status.FAILED;
     }
     @Override public boolean isReturnedToBroker() { return false; }
+    @Override public boolean returnToBroker() { return false; }
     @Override public double getLastDatacenterArrivalTime() {
         return 0.0;
     }
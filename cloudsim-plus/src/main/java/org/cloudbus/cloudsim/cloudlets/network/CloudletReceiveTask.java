@@ -68,6 +68,8 @@ import java.util.List;
  *
  */
 public class CloudletReceiveTask extends CloudletTask {
+    private static final long serialVersionUID = 1L;
+
     private final List<VmPacket> packetsReceived;
 
     /**
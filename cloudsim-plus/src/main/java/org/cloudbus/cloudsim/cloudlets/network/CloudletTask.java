@@ -34,6 +34,8 @@ import org.cloudbus.cloudsim.core.Identifiable;
  * and {@link CloudletExecution} share a common set of attributes that would be defined by a common interface.
  */
 public abstract class CloudletTask implements Identifiable {
+    private static final long serialVersionUID = 1L;
+
     private boolean finished;
 
     /**
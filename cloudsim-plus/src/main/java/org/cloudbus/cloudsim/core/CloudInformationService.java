@@ -12,9 +12,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.*;
 
 /**
  * A Cloud Information Service (CIS) is an entity that provides cloud resource
@@ -31,6 +29,8 @@ import java.util.TreeSet;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudInformationService extends CloudSimEntity {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudInformationService.class.getSimpleName());
 
     /**
@@ -44,6 +44,13 @@ public class CloudInformationService extends CloudSimEntity {
      */
     private final Set<CloudInformationService> cisList;
 
+    /**
+     * A map where each key is the id of a Host and each value is the list of pending requests
+     * sent to Datacenters to find and remove such a Host.
+     * @see #scheduleHostRemoval(Datacenter, double, long)
+     */
+    private final Map<Long, List<SimEvent>> hostRemovalRequests;
+
     /**
      * Instantiates a new CloudInformationService object.
      *
@@ -53,6 +60,7 @@ public class CloudInformationService extends CloudSimEntity {
         super(simulation);
         datacenterList = new TreeSet<>();
         cisList = new TreeSet<>();
+        hostRemovalRequests = new HashMap<>();
     }
 
     /**
@@ -94,6 +102,7 @@ public class CloudInformationService extends CloudSimEntity {
         // reset the values
         datacenterList.clear();
         cisList.clear();
+        hostRemovalRequests.clear();
     }
 
     /**
@@ -105,6 +114,56 @@ public class CloudInformationService extends CloudSimEntity {
         return datacenterList;
     }
 
+    /**
+     * Sends a {@link CloudSimTags#HOST_REMOVE} request to a Datacenter,
+     * to find and remove a given Host.
+     * Since it may not be known which Datacenter a Host belongs to,
+     * such a request can be sent to multiple Datacenters.
+     * The sent requests are stored so that, when one Datacenter
+     * removes the Host, the requests sent to other ones
+     * can be cancelled without searching the whole future event queue.
+     *
+     * @param dc the Datacenter to send the request to
+     * @param delay How many seconds after the current simulation time the request should be sent
+     * @param hostId the id of the Host to remove
+     * @see #finishHostRemovalRequest(SimEvent, boolean)
+     */
+    public void scheduleHostRemoval(final Datacenter dc, final double delay, final long hostId) {
+        final SimEvent request = scheduleEvent(dc, delay, CloudSimTags.HOST_REMOVE, hostId);
+        if(request != SimEvent.NULL) {
+            hostRemovalRequests.computeIfAbsent(hostId, id -> new ArrayList<>()).add(request);
+        }
+    }
+
+    /**
+     * Finishes a {@link CloudSimTags#HOST_REMOVE} request processed by a Datacenter.
+     * If the Datacenter has removed the Host,
+     * the pending requests sent to other Datacenters to remove the same Host are cancelled.
+     *
+     * @param request the request processed by a Datacenter
+     * @param hostRemoved true if the Datacenter has found and removed the Host, false otherwise
+     * @return true if the request was sent by {@link #scheduleHostRemoval(Datacenter, double, long)},
+     *         false if it's unknown (and pending requests for the same Host cannot be cancelled by this method)
+     */
+    public boolean finishHostRemovalRequest(final SimEvent request, final boolean hostRemoved) {
+        final long hostId = (long)request.getData();
+        final List<SimEvent> requests = hostRemovalRequests.get(hostId);
+        if(requests == null || !requests.removeIf(evt -> evt == request)){
+            return false;
+        }
+
+        if(hostRemoved){
+            requests.forEach(this::cancelEvent);
+            requests.clear();
+        }
+
+        if(requests.isEmpty()){
+            hostRemovalRequests.remove(hostId);
+        }
+
+        return true;
+    }
+
     /**
      * Sends a {@link CloudSimTags#END_OF_SIMULATION} signal to all entity IDs
      * mentioned in the given list.
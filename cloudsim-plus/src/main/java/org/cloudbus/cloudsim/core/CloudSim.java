@@ -17,8 +17,14 @@ import org.cloudsimplus.listeners.EventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -34,6 +40,8 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudSim implements Simulation {
+    private static final long serialVersionUID = 1L;
+
     /**
      * CloudSim Plus current version.
      */
@@ -41,6 +49,12 @@ public class CloudSim implements Simulation {
 
     public static final Logger LOGGER = LoggerFactory.getLogger(CloudSim.class.getSimpleName());
 
+    /**
+     * Default minimal period between events.
+     * @see #getMinTimeBetweenEvents()
+     */
+    public static final double DEF_MIN_TIME_BETWEEN_EVENTS = 0.1;
+
     /**
      * An array that works as a circular queue with capacity for just 2 elements
      * (defined in the constructor). When a new element is added to the queue,
@@ -115,7 +129,7 @@ public class CloudSim implements Simulation {
     /**
      * The queue of events that will be sent in a future simulation time.
      */
-    private final FutureQueue future;
+    private final FutureEventQueue future;
 
     /**
      * The deferred event queue.
@@ -164,12 +178,45 @@ public class CloudSim implements Simulation {
      */
     private boolean alreadyRunOnce;
 
-    private final Set<EventListener<SimEvent>> onEventProcessingListeners;
-    private final Set<EventListener<EventInfo>> onSimulationPauseListeners;
-    private final Set<EventListener<EventInfo>> onClockTickListeners;
-    private final Set<EventListener<EventInfo>> onSimulationStartListeners;
+    /*
+     * Simulation listeners are not saved into checkpoints,
+     * since they usually belong to the code driving the experiment.
+     * @see #saveCheckpoint(OutputStream)
+     */
+    private transient Set<EventListener<SimEvent>> onEventProcessingListeners;
+    private transient Set<EventListener<EventInfo>> onSimulationPauseListeners;
+    private transient Set<EventListener<EventInfo>> onClockTickListeners;
+    private transient Set<EventListener<EventInfo>> onSimulationStartListeners;
+
+    /**
+     * @see #isProcessEventsInParallel()
+     */
     private boolean processEventsInParallel;
 
+    /**
+     * The events sent by the entity being executed by the current thread,
+     * when {@link Datacenter}s are executed in parallel.
+     * Such events are just added to the {@link #future} queue after all
+     * Datacenters running in parallel finish, in the same order
+     * they would be added if the Datacenters were executed sequentially.
+     * For the thread running the main simulation loop, the value is null.
+     *
+     * @see #setProcessEventsInParallel(boolean)
+     */
+    private transient ThreadLocal<List<ParallelSentEvent>> parallelSentEvents = new ThreadLocal<>();
+
+    /**
+     * The pool used to reuse processed events,
+     * or null if {@link #isEventPoolingEnabled() event pooling} is disabled.
+     */
+    private EventPool eventPool;
+
+    /**
+     * The profiler collecting statistics about processed events,
+     * or null if {@link #isEventProfilingEnabled() event profiling} is disabled.
+     */
+    private EventProfiler profiler;
+
     /**
      * Creates a CloudSim simulation.
      * Internally it creates a CloudInformationService.
@@ -178,7 +225,7 @@ public class CloudSim implements Simulation {
      * @see #CloudSim(double)
      */
     public CloudSim(){
-        this(0.1);
+        this(DEF_MIN_TIME_BETWEEN_EVENTS);
     }
 
     /**
@@ -191,18 +238,46 @@ public class CloudSim implements Simulation {
      * @see CloudInformationService
      */
     public CloudSim(final double minTimeBetweenEvents) {
+        this(minTimeBetweenEvents, new FutureQueue());
+    }
+
+    /**
+     * Creates a CloudSim simulation that uses a given {@link FutureEventQueue}
+     * to store future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param futureQueue the queue to store future events, such as a {@link FutureQueue} or a {@link CalendarQueue}
+     * @see #CloudSim(double, FutureEventQueue)
+     */
+    public CloudSim(final FutureEventQueue futureQueue){
+        this(DEF_MIN_TIME_BETWEEN_EVENTS, futureQueue);
+    }
+
+    /**
+     * Creates a CloudSim simulation that tracks events happening in a time interval
+     * as little as the minTimeBetweenEvents parameter,
+     * using a given {@link FutureEventQueue} to store future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * <p>The default {@link FutureQueue} is usually enough for most simulations.
+     * Simulations having a large number of pending events
+     * may benefit from a {@link CalendarQueue}.</p>
+     *
+     * @param minTimeBetweenEvents the minimal period between events. Events
+     * within shorter periods after the last event are discarded.
+     * @param futureQueue the queue to store future events, such as a {@link FutureQueue} or a {@link CalendarQueue}
+     * @see CloudInformationService
+     */
+    public CloudSim(final double minTimeBetweenEvents, final FutureEventQueue futureQueue) {
         this.entities = new ArrayList<>();
-        this.future = new FutureQueue();
+        this.future = requireNonNull(futureQueue);
         this.deferred = new DeferredQueue();
         this.waitPredicates = new HashMap<>();
         this.networkTopology = NetworkTopology.NULL;
         this.clock = 0;
         this.running = false;
         this.alreadyRunOnce = false;
-        this.onEventProcessingListeners = new HashSet<>();
-        this.onSimulationPauseListeners = new HashSet<>();
-        this.onClockTickListeners = new HashSet<>();
-        this.onSimulationStartListeners = new HashSet<>();
+        createListenerSets();
 
         // NOTE: the order for the lines below is important
         this.calendar = Calendar.getInstance();
@@ -218,6 +293,150 @@ public class CloudSim implements Simulation {
         this.circularClockTimeQueue = new double[]{minTimeBetweenEvents, minTimeBetweenEvents};
     }
 
+    private void createListenerSets() {
+        this.onEventProcessingListeners = new HashSet<>();
+        this.onSimulationPauseListeners = new HashSet<>();
+        this.onClockTickListeners = new HashSet<>();
+        this.onSimulationStartListeners = new HashSet<>();
+    }
+
+    /**
+     * Saves the current state of the simulation to a compressed binary checkpoint,
+     * allowing it to be {@link #restoreCheckpoint(InputStream) restored} later
+     * (even in another JVM) and continued from this point.
+     * This way, the same warm-up period can be simulated just once
+     * and the checkpoint used as starting point for different experiments.
+     *
+     * <p>The checkpoint stores every object reachable from the simulation, such as
+     * entities, event queues, Hosts, VMs, Cloudlets, schedulers and random number generators.
+     * All these objects must be {@link Serializable}.
+     * Since lambda expressions are not serializable by default, functions and listeners
+     * given to simulation objects (such as a {@link org.cloudbus.cloudsim.brokers.DatacenterBroker}
+     * VM mapper or a Cloudlet listener) must be declared as serializable, for instance:
+     * {@code broker.setVmMapper((Function<Cloudlet, Vm> & Serializable) cloudlet -> ...)}.
+     * Listeners added to the simulation itself (such as the ones added by
+     * {@link #addOnSimulationPauseListener(EventListener)}) are not saved
+     * and need to be added again after the simulation is restored.</p>
+     *
+     * <p>The checkpoint must be saved when no event is being processed:
+     * before the simulation starts, inside an {@link #addOnSimulationPauseListener(EventListener) OnSimulationPauseListener}
+     * or between calls to {@link #runFor(double)}.</p>
+     *
+     * <p>CloudSim Plus classes declare an explicit {@code serialVersionUID},
+     * so a checkpoint can still be restored after the classes are recompiled.
+     * Custom classes included into a checkpoint should do the same.</p>
+     *
+     * @param output the stream to write the checkpoint to (which is not closed)
+     * @throws IOException when the checkpoint cannot be written,
+     *                     including when some object in the simulation is not serializable
+     * @throws IllegalStateException when the simulation has already finished
+     * @see #saveCheckpoint(Path)
+     */
+    public void saveCheckpoint(final OutputStream output) throws IOException {
+        if(alreadyRunOnce && !running){
+            throw new IllegalStateException("A finished simulation cannot be saved to a checkpoint.");
+        }
+
+        SimulationCheckpoint.write(this, requireNonNull(output));
+    }
+
+    /**
+     * Saves the current state of the simulation to a checkpoint file.
+     * @param file the path of the file to write the checkpoint to
+     * @throws IOException when the checkpoint cannot be written
+     * @see #saveCheckpoint(OutputStream)
+     */
+    public void saveCheckpoint(final Path file) throws IOException {
+        try(OutputStream output = Files.newOutputStream(file)) {
+            saveCheckpoint(output);
+        }
+    }
+
+    /**
+     * Restores a simulation from a checkpoint created by {@link #saveCheckpoint(OutputStream)}.
+     * The restored simulation is not paused and can be continued by calling
+     * {@link #start()} (or {@link #startSync()} and {@link #runFor(double)}),
+     * just as a new simulation.
+     * The restored entities can be obtained from {@link #getEntityList()}.
+     *
+     * @param input the stream to read the checkpoint from (which is not closed)
+     * @return the restored simulation
+     * @throws IOException when the checkpoint cannot be read or was created by a different CloudSim Plus version
+     * @see #restoreCheckpoint(Path)
+     */
+    public static CloudSim restoreCheckpoint(final InputStream input) throws IOException {
+        return SimulationCheckpoint.read(requireNonNull(input)).prepareToContinue();
+    }
+
+    /**
+     * Restores a simulation from a checkpoint file created by {@link #saveCheckpoint(Path)}.
+     * @param file the path of the checkpoint file
+     * @return the restored simulation
+     * @throws IOException when the checkpoint cannot be read
+     * @see #restoreCheckpoint(InputStream)
+     */
+    public static CloudSim restoreCheckpoint(final Path file) throws IOException {
+        try(InputStream input = Files.newInputStream(file)) {
+            return restoreCheckpoint(input);
+        }
+    }
+
+    /**
+     * Creates an independent copy of this simulation, including its entities, event queues
+     * and the state of every simulation object, so that different what-if scenarios
+     * can be evaluated from the same point of execution.
+     * For instance, the {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler}
+     * of some VMs can be changed in the copy to compare scheduling policies.
+     * The original simulation and its copies are independent and
+     * can be run in different threads.
+     *
+     * <p>The copy is created in memory, following the same rules of {@link #saveCheckpoint(OutputStream)}:
+     * every object reachable from the simulation must be {@link Serializable},
+     * listeners added to the simulation itself are not copied and
+     * the simulation must be forked when no event is being processed
+     * (such as inside an {@link #addOnSimulationPauseListener(EventListener) OnSimulationPauseListener}).
+     * The copy is not paused and can be continued by calling {@link #start()}.</p>
+     *
+     * <p>Objects that don't change after created, such as Strings and
+     * {@link Immutable} objects (like the traces of a
+     * {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModelPlanetLab}),
+     * are shared between the original simulation and its copies,
+     * avoiding duplicating such data for each copy.</p>
+     *
+     * @return the copy of the simulation
+     * @throws UncheckedIOException when some object in the simulation is not serializable
+     * @throws IllegalStateException when the simulation has already finished
+     */
+    public CloudSim fork() {
+        if(alreadyRunOnce && !running){
+            throw new IllegalStateException("A finished simulation cannot be forked.");
+        }
+
+        try {
+            return SimulationCheckpoint.copy(this).prepareToContinue();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Prepares a restored or forked simulation to be continued by calling {@link #start()}.
+     * Since the simulation is still running, its entities are not started again.
+     * @return this simulation
+     */
+    private CloudSim prepareToContinue() {
+        paused = false;
+        pauseAt = -1;
+        alreadyRunOnce = false;
+        return this;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        createListenerSets();
+        parallelSentEvents = new ThreadLocal<>();
+    }
+
     /**
      * Finishes execution of running entities before terminating the simulation,
      * then cleans up internal state.
@@ -248,6 +467,16 @@ public class CloudSim implements Simulation {
         LOGGER.debug(
             "DeferredQueue >> max size: {} added to middle: {} added to tail: {}",
             deferred.getMaxSize(), deferred.getAddedToMiddle(), deferred.getAddedToTail());
+        if(eventPool != null) {
+            LOGGER.debug(
+                "EventPool >> created events: {} reused events: {}",
+                eventPool.getCreatedEvents(), eventPool.getReusedEvents());
+        }
+
+        if(profiler != null) {
+            profiler.finish(clock);
+            LOGGER.info(profiler.getReport());
+        }
     }
 
     @Override
@@ -486,15 +715,17 @@ public class CloudSim implements Simulation {
     @Override
     public void addEntity(final CloudSimEntity entity) {
         requireNonNull(entity);
-        if (running) {
-            final SimEvent evt = new CloudSimEvent(SimEvent.Type.CREATE, 0, entity, SimEntity.NULL, -1, entity);
-            future.addEvent(evt);
-        }
+        sync(() -> {
+            if (running) {
+                final SimEvent evt = new CloudSimEvent(SimEvent.Type.CREATE, 0, entity, SimEntity.NULL, -1, entity);
+                addFutureEvent(evt, false);
+            }
 
-        if (entity.getId() == -1) { // Only add once!
-            entity.setId(entities.size());
-            entities.add(entity);
-        }
+            if (entity.getId() == -1) { // Only add once!
+                entity.setId(entities.size());
+                entities.add(entity);
+            }
+        });
     }
 
     /**
@@ -557,17 +788,23 @@ public class CloudSim implements Simulation {
                 .min().orElse(minTimeBetweenEvents);
     }
 
+    /**
+     * Processes the batch of events happening at the same time of the first one,
+     * removing just such events from the head of the future queue
+     * instead of scanning the whole queue.
+     * Events added at the same time while the batch is being processed
+     * are processed in the next loop iteration.
+     *
+     * @param firstEvent the first event in the future queue
+     */
     private void processFutureEventsHappeningAtSameTimeOfTheFirstOne(final SimEvent firstEvent) {
-        processEvent(firstEvent);
-        future.remove(firstEvent);
-
-        //Uses iterator to increase efficiency and avoid ConcurrentModificationException while removing
-        for(final Iterator<SimEvent> it = future.iterator(); it.hasNext();){
-            SimEvent evt = it.next();
-            if(evt.getTime() == firstEvent.getTime()){
-                processEvent(evt);
-                it.remove();
-            }
+        final List<SimEvent> batch = future.pollAllAt(firstEvent.getTime());
+        for (final SimEvent evt : batch) {
+            processEvent(evt);
+        }
+
+        if(profiler != null) {
+            profiler.eventsDispatched(clock, batch.size(), future.size(), deferred.size());
         }
     }
 
@@ -577,6 +814,11 @@ public class CloudSim implements Simulation {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private void executeRunnableEntities(final double until) {
+        if(processEventsInParallel){
+            executeRunnableEntitiesInParallel(until);
+            return;
+        }
+
         /*Uses an indexed for instead of anything else to avoid
         ConcurrencyModificationException when a HostFaultInjection is created inside a Datacenter*/
         for (int i = 0; i < entities.size(); i++) {
@@ -587,6 +829,89 @@ public class CloudSim implements Simulation {
         }
     }
 
+    /**
+     * Executes the entities that are in {@link SimEntity.State#RUNNABLE},
+     * running consecutive {@link Datacenter}s in parallel.
+     * Other entities are executed sequentially, in the same order
+     * they are executed by {@link #executeRunnableEntities(double)}.
+     *
+     * <p>Since each Datacenter just processes the events already received
+     * at the current simulation time, all of them are inside the same safe window
+     * (the events they send can only be processed from the next clock tick on).
+     * The events sent by each Datacenter are added to the future queue just after all
+     * Datacenters in the same group finish, following the order of the Datacenters.
+     * This way, such events get the same serial numbers as in a sequential execution,
+     * ensuring the simulation results are the same.</p>
+     *
+     * @param until the time up to when events must be processed
+     */
+    private void executeRunnableEntitiesInParallel(final double until) {
+        final List<CloudSimEntity> datacenters = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            final CloudSimEntity ent = entities.get(i);
+            if (ent.getState() != SimEntity.State.RUNNABLE) {
+                continue;
+            }
+
+            if (ent instanceof Datacenter) {
+                datacenters.add(ent);
+                continue;
+            }
+
+            runDatacentersInParallel(datacenters, until);
+            ent.run(until);
+        }
+
+        runDatacentersInParallel(datacenters, until);
+    }
+
+    /**
+     * Runs a list of Datacenters in parallel, using the {@link ForkJoinPool#commonPool()},
+     * then clears the list.
+     * After all of them finish, the events each one has sent
+     * are added to the future queue.
+     *
+     * @param datacenters the list of Datacenters to run
+     * @param until the time up to when events must be processed
+     */
+    private void runDatacentersInParallel(final List<CloudSimEntity> datacenters, final double until) {
+        if(datacenters.size() == 1){
+            datacenters.get(0).run(until);
+        } else if(datacenters.size() > 1){
+            final List<ForkJoinTask<List<ParallelSentEvent>>> tasks = new ArrayList<>(datacenters.size());
+            for (final CloudSimEntity dc : datacenters) {
+                tasks.add(ForkJoinPool.commonPool().submit(() -> runAndGetSentEvents(dc, until)));
+            }
+
+            for (final ForkJoinTask<List<ParallelSentEvent>> task : tasks) {
+                task.join().forEach(sent -> addFutureEvent(sent.getEvent(), sent.isFirst()));
+            }
+        }
+
+        datacenters.clear();
+    }
+
+    /**
+     * Runs an entity in the current thread, collecting the events it sends.
+     * @param entity the entity to run
+     * @param until the time up to when events must be processed
+     * @return the list of events sent by the entity, in the order they were sent
+     */
+    private List<ParallelSentEvent> runAndGetSentEvents(final CloudSimEntity entity, final double until) {
+        final List<ParallelSentEvent> previousSentEvents = parallelSentEvents.get();
+        final List<ParallelSentEvent> sentEvents = new ArrayList<>();
+        parallelSentEvents.set(sentEvents);
+        try {
+            entity.run(until);
+        } finally {
+            /* The thread may run a Datacenter while waiting for tasks submitted by another one
+             * it's running (such as when Hosts are updated in parallel).*/
+            parallelSentEvents.set(previousSentEvents);
+        }
+
+        return sentEvents;
+    }
+
     private void executeRunnableEntities() {
         executeRunnableEntities(Double.MAX_VALUE);
     }
@@ -602,26 +927,51 @@ public class CloudSim implements Simulation {
 
     @Override
     public void send(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        send(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        send(newEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
     }
 
     @Override
     public void send(final SimEvent evt) {
         requireNonNull(evt);
         //Events with a negative tag have higher priority (except the "end of the simulation" event)
-        if(evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION)
-            future.addEventFirst(evt);
-        else future.addEvent(evt);
+        addFutureEvent(evt, evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION);
     }
 
     @Override
     public void sendFirst(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        sendFirst(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        sendFirst(newEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
     }
 
     @Override
     public void sendFirst(SimEvent evt) {
-        future.addEventFirst(evt);
+        addFutureEvent(evt, true);
+    }
+
+    /**
+     * Adds an event to the future queue or, if the current thread is
+     * executing a Datacenter in parallel, to the list of events sent by such a Datacenter.
+     * If the current thread is {@link DeferredSideEffects#isDeferring() deferring side effects},
+     * the event is just added after the task being executed by the thread finishes.
+     *
+     * @param evt the event to add
+     * @param first true to add the event to the head of the queue, false to add it according to its time
+     * @see #setProcessEventsInParallel(boolean)
+     */
+    private void addFutureEvent(final SimEvent evt, final boolean first) {
+        if(DeferredSideEffects.isDeferring()){
+            DeferredSideEffects.runOrDefer(() -> addFutureEvent(evt, first));
+            return;
+        }
+
+        final List<ParallelSentEvent> sentEvents = parallelSentEvents.get();
+        if(sentEvents != null){
+            sentEvents.add(new ParallelSentEvent(evt, first));
+            return;
+        }
+
+        if(first)
+            future.addEventFirst(evt);
+        else future.addEvent(evt);
     }
 
     @Override
@@ -635,63 +985,90 @@ public class CloudSim implements Simulation {
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        final SimEvent evt = findFirstDeferred(dest, predicate);
-        if(evt != SimEvent.NULL) {
-            deferred.remove(evt);
-        }
+        /*The event is searched and removed under the same lock, since the deferred queue
+        * changes its structure when events are removed from it by entities running in parallel.*/
+        return sync(() -> {
+            final SimEvent evt = findFirstDeferred(dest, predicate);
+            if (evt != SimEvent.NULL) {
+                deferred.remove(evt);
+            }
 
-        return evt;
+            return evt;
+        });
     }
 
     @Override
     public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        return filterEventsToDestinationEntity(deferred, predicate, dest).findFirst().orElse(SimEvent.NULL);
+        return sync(() -> filterEventsToDestinationEntity(predicate, dest).findFirst().orElse(SimEvent.NULL));
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate
+     * Gets a stream of events inside the deferred queue that match a given predicate
      * and are targeted to an specific entity.
+     * Just the events sent to such an entity are checked.
      *
-     * @param queue the queue to get the events from
      * @param predicate the event selection predicate
      * @param dest Id of entity that the event has to be sent to
      * @return a Stream of events from the queue
      */
-    private Stream<SimEvent> filterEventsToDestinationEntity(final EventQueue queue, final Predicate<SimEvent> predicate, final SimEntity dest) {
-        return filterEvents(queue, predicate.and(evt -> evt.getDestination() == dest));
+    private Stream<SimEvent> filterEventsToDestinationEntity(final Predicate<SimEvent> predicate, final SimEntity dest) {
+        return deferred.stream(dest).filter(predicate);
     }
 
     @Override
     public SimEvent cancel(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final SimEvent canceled =
+        final Predicate<SimEvent> sourcePredicate = isEventSourceEqualsTo(predicate, src);
+        final SimEvent canceled = sync(() -> {
+            final SimEvent evt =
                 future.stream()
-                      .filter(isEventSourceEqualsTo(predicate, src))
+                      .filter(sourcePredicate)
                       .findFirst()
                       .orElse(SimEvent.NULL);
-        future.remove(canceled);
-        return canceled;
+            future.remove(evt);
+            return evt;
+        });
+
+        if(canceled != SimEvent.NULL) {
+            return canceled;
+        }
+
+        final List<ParallelSentEvent> sentEvents = parallelSentEvents.get();
+        if(sentEvents == null) {
+            return SimEvent.NULL;
+        }
+
+        for (final Iterator<ParallelSentEvent> it = sentEvents.iterator(); it.hasNext(); ) {
+            final SimEvent evt = it.next().getEvent();
+            if(sourcePredicate.test(evt)){
+                it.remove();
+                return evt;
+            }
+        }
+
+        return SimEvent.NULL;
     }
 
     @Override
     public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final int previousSize = future.size();
-        future.removeIf(isEventSourceEqualsTo(predicate, src));
-        return previousSize < future.size();
+        final Predicate<SimEvent> sourcePredicate = isEventSourceEqualsTo(predicate, src);
+        final boolean canceled = sync(() -> future.removeIf(sourcePredicate));
+        final List<ParallelSentEvent> sentEvents = parallelSentEvents.get();
+        return sentEvents != null && sentEvents.removeIf(sent -> sourcePredicate.test(sent.getEvent())) || canceled;
     }
 
-    private Predicate<SimEvent> isEventSourceEqualsTo(final Predicate<SimEvent> predicate, final SimEntity src) {
-        return predicate.and(evt -> evt.getSource().equals(src));
+    @Override
+    public boolean cancel(final SimEvent evt) {
+        requireNonNull(evt);
+        if(sync(() -> future.remove(evt))){
+            return true;
+        }
+
+        final List<ParallelSentEvent> sentEvents = parallelSentEvents.get();
+        return sentEvents != null && sentEvents.removeIf(sent -> sent.getEvent() == evt);
     }
 
-    /**
-     * Gets a stream of events inside a specific queue that match a given predicate.
-     *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @return a Stream of events from the queue
-     */
-    private Stream<SimEvent> filterEvents(final EventQueue queue, final Predicate<SimEvent> predicate) {
-        return queue.stream().filter(predicate);
+    private Predicate<SimEvent> isEventSourceEqualsTo(final Predicate<SimEvent> predicate, final SimEntity src) {
+        return predicate.and(evt -> evt.getSource().equals(src));
     }
 
     /**
@@ -706,8 +1083,53 @@ public class CloudSim implements Simulation {
 
         setClock(evt.getTime());
         processEventByType(evt);
-        for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
-            listener.update(evt);
+        if(!onEventProcessingListeners.isEmpty()) {
+            //Listeners may keep a reference to the event, so it cannot be reused anymore
+            EventPool.escape(evt);
+            for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
+                listener.update(evt);
+            }
+        }
+
+        if(evt.getType() == SimEvent.Type.HOLD_DONE) {
+            recycleEvent(evt);
+        }
+    }
+
+    /**
+     * Creates a new event or gets one from the {@link #eventPool} if
+     * {@link #isEventPoolingEnabled() event pooling} is enabled.
+     *
+     * @param type the internal type of the event
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message
+     * @return the event
+     */
+    private SimEvent newEvent(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        if(eventPool == null || processEventsInParallel || DeferredSideEffects.isDeferring()){
+            return new CloudSimEvent(type, delay, src, dest, tag, data);
+        }
+
+        return eventPool.acquire(type, delay, src, dest, tag, data);
+    }
+
+    /**
+     * Returns an event to the {@link #eventPool} after it has been processed,
+     * if {@link #isEventPoolingEnabled() event pooling} is enabled.
+     * Events not taken from the pool are just ignored.
+     *
+     * @param evt the processed event
+     */
+    void recycleEvent(final SimEvent evt) {
+        if(eventPool != null && !processEventsInParallel){
+            eventPool.release(evt);
         }
     }
 
@@ -732,6 +1154,21 @@ public class CloudSim implements Simulation {
         else runnable.run();
     }
 
+    /**
+     * Checks if the simulation must {@link #processEventsInParallel process events in parallel}
+     * and then synchronizes some code block that returns a value.
+     *
+     * @param supplier the {@link Supplier} that encapsulates the code block to be called synchronously.
+     * @param <T> the type of the value returned by the code block
+     * @return the value returned by the code block
+     * @see #sync(Runnable)
+     */
+    private <T> T sync(final Supplier<T> supplier){
+        if(processEventsInParallel)
+            synchronized(this){ return supplier.get(); }
+        else return supplier.get();
+    }
+
     /**
      * Notifies all Listeners about onClockTick event when the simulation clock changes.
      * If multiple events are received consecutively but for the same simulation time,
@@ -811,7 +1248,7 @@ public class CloudSim implements Simulation {
         if (destEnt.getState() == SimEntity.State.WAITING) {
             final Predicate<SimEvent> p = waitPredicates.get(destEnt);
             if (p == null || evt.getTag() == 9999 || p.test(evt)) {
-                destEnt.setEventBuffer(new CloudSimEvent(evt));
+                destEnt.setEventBuffer(evt);
                 destEnt.setState(SimEntity.State.RUNNABLE);
                 waitPredicates.remove(destEnt);
             } else {
@@ -839,6 +1276,128 @@ public class CloudSim implements Simulation {
         return running;
     }
 
+    /**
+     * Checks if processed events are reused to send new events,
+     * reducing the number of objects created and garbage collected.
+     * @return true if event pooling is enabled, false otherwise
+     * @see #setEventPoolingEnabled(boolean)
+     */
+    public boolean isEventPoolingEnabled() {
+        return eventPool != null;
+    }
+
+    /**
+     * Enables or disables the reuse of processed events to send new events,
+     * which reduces the number of objects created and garbage collected
+     * in simulations generating a huge number of events.
+     * It is disabled by default.
+     *
+     * <p>Events sent by entities are returned to an {@link EventPool}
+     * just after the destination entity processes them.
+     * This way, <b>entities must not keep references to received events
+     * after their {@link SimEntity#processEvent(SimEvent)} method returns</b>.
+     * Entities that need to keep an event must create a copy
+     * using {@link CloudSimEvent#CloudSimEvent(SimEvent)}
+     * or call {@link EventPool#escape(SimEvent)}.
+     * The following events are never reused:
+     * <ul>
+     *     <li>events created directly by calling a {@link CloudSimEvent} constructor;</li>
+     *     <li>events returned to be used as cancellation handles,
+     *     such as the ones returned by {@link CloudSimEntity#scheduleEvent(SimEntity, double, int, Object)};</li>
+     *     <li>events given to {@link #addOnEventProcessingListener(EventListener) OnEventProcessingListeners}, which may keep them;</li>
+     *     <li>events sent while {@link #isProcessEventsInParallel() Datacenters are executed in parallel}.</li>
+     * </ul>
+     * </p>
+     *
+     * @param enabled true to enable event pooling, false to disable it
+     */
+    public void setEventPoolingEnabled(final boolean enabled) {
+        if(enabled == isEventPoolingEnabled()){
+            return;
+        }
+
+        this.eventPool = enabled ? new EventPool() : null;
+    }
+
+    /**
+     * Checks if statistics about processed events are being collected.
+     * @return true if event profiling is enabled, false otherwise
+     * @see #setEventProfilingEnabled(boolean)
+     */
+    public boolean isEventProfilingEnabled() {
+        return profiler != null;
+    }
+
+    /**
+     * Enables or disables the collection of statistics about processed events,
+     * such as the number of events and the wall-clock time spent processing them
+     * for each event tag and entity, and the size of the event queues along the time.
+     * The collected data is logged when the simulation finishes.
+     * It is disabled by default and adds almost no overhead in such a case.
+     *
+     * <p>Enabling it again after it was disabled discards previously collected data.</p>
+     *
+     * @param enabled true to enable event profiling, false to disable it
+     * @see #getEventProfiler()
+     */
+    public void setEventProfilingEnabled(final boolean enabled) {
+        if(enabled == isEventProfilingEnabled()){
+            return;
+        }
+
+        this.profiler = enabled ? new EventProfiler() : null;
+    }
+
+    /**
+     * Gets the profiler collecting statistics about processed events.
+     * @return an {@link Optional} containing the profiler
+     *         or an empty Optional if {@link #isEventProfilingEnabled() event profiling} is disabled
+     */
+    public Optional<EventProfiler> getEventProfiler() {
+        return Optional.ofNullable(profiler);
+    }
+
+    /**
+     * Checks if the {@link Datacenter}s are executed in parallel.
+     * @return true if Datacenters are executed in parallel, false otherwise
+     * @see #setProcessEventsInParallel(boolean)
+     */
+    public boolean isProcessEventsInParallel() {
+        return processEventsInParallel;
+    }
+
+    /**
+     * Defines if the {@link Datacenter}s must be executed in parallel.
+     * At each clock tick, Datacenters having events to process
+     * are executed in parallel using the {@link ForkJoinPool#commonPool()},
+     * while other entities (such as brokers) keep being executed sequentially.
+     * The events sent by the Datacenters are added to the future queue
+     * in the same order as in a sequential execution, so that simulation results are the same.
+     *
+     * <p>Datacenters are only executed in parallel when they are consecutive
+     * in the {@link #getEntityList() entity list}, which usually happens
+     * when all of them are created before other entities such as brokers.
+     * This feature is worth enabling for simulations with multiple Datacenters
+     * having a large number of Hosts.
+     * Listeners attached to objects inside Datacenters (such as Cloudlets and VMs)
+     * may be called concurrently and must be thread-safe.</p>
+     *
+     * <p>This is a conservative execution: Datacenters never run ahead of the simulation clock.
+     * An optimistic (Time Warp) execution, where entities run ahead speculatively
+     * and are rolled back when an event arrives in their past, is not provided.
+     * Since all objects (such as Hosts, VMs and Cloudlets) share the single simulation clock
+     * and are changed directly by different entities,
+     * an entity cannot run at a different time from the others,
+     * and its state cannot be saved and restored apart from the others.</p>
+     *
+     * <p><b>WARNING:</b> this is an experimental feature.</p>
+     *
+     * @param processEventsInParallel true to execute Datacenters in parallel, false to execute them sequentially
+     */
+    public void setProcessEventsInParallel(final boolean processEventsInParallel) {
+        this.processEventsInParallel = processEventsInParallel;
+    }
+
     @Override
     public boolean pause() {
         return pause(clock);
@@ -872,12 +1431,12 @@ public class CloudSim implements Simulation {
 
     @Override
     public void pauseEntity(final SimEntity src, final double delay) {
-        final SimEvent evt = new CloudSimEvent(SimEvent.Type.HOLD_DONE, delay, src);
+        final SimEvent evt = newEvent(SimEvent.Type.HOLD_DONE, delay, src, SimEntity.NULL, -1, null);
         addHoldingFutureEvent(src, evt);
     }
 
     private void addHoldingFutureEvent(SimEntity src, SimEvent evt) {
-        future.addEvent(evt);
+        addFutureEvent(evt, false);
         src.setState(SimEntity.State.HOLDING);
     }
 
@@ -887,7 +1446,7 @@ public class CloudSim implements Simulation {
      * @param delay How many seconds after the current time the entity has to be held
      */
     protected void holdEntity(final SimEntity src, final long delay) {
-        final SimEvent evt = new CloudSimEvent(SimEvent.Type.HOLD_DONE, delay, src);
+        final SimEvent evt = newEvent(SimEvent.Type.HOLD_DONE, delay, src, SimEntity.NULL, -1, null);
         addHoldingFutureEvent(src, evt);
     }
 
@@ -1020,19 +1579,48 @@ public class CloudSim implements Simulation {
 
     @Override
     public void setLastCloudletProcessingUpdate(final double lastCloudletProcessingUpdate) {
+        if(DeferredSideEffects.isDeferring()){
+            DeferredSideEffects.runOrDefer(() -> setLastCloudletProcessingUpdate(lastCloudletProcessingUpdate));
+            return;
+        }
+
         this.lastCloudletProcessingUpdate = lastCloudletProcessingUpdate;
     }
 
     /**
      * Gets the maximum number of events that have ever existed at the same time
-     * inside the {@link FutureQueue}.
+     * inside the {@link FutureEventQueue}.
      */
     public long getMaxEventsNumber() {
         return future.getMaxEventsNumber();
     }
 
-    /** Gets the total number of events generated in the {@link FutureQueue} */
+    /** Gets the total number of events generated in the {@link FutureEventQueue} */
     public long getGeneratedEventsNumber() {
         return future.getSerial();
     }
+
+    /**
+     * An event sent by a Datacenter executed in parallel,
+     * that will be added to the future queue after all Datacenters finish.
+     */
+    private static final class ParallelSentEvent {
+        private final SimEvent event;
+        private final boolean first;
+
+        private ParallelSentEvent(final SimEvent event, final boolean first) {
+            this.event = event;
+            this.first = first;
+        }
+
+        /** Gets the sent event. */
+        private SimEvent getEvent() {
+            return event;
+        }
+
+        /** Checks if the event must be added to the head of the future queue. */
+        private boolean isFirst() {
+            return first;
+        }
+    }
 }
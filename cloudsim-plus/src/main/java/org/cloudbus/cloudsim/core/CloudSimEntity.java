@@ -13,6 +13,9 @@ import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -24,6 +27,8 @@ import java.util.function.Predicate;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class CloudSimEntity implements SimEntity {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudSimEntity.class.getSimpleName());
 
     /**
@@ -112,7 +117,11 @@ public abstract class CloudSimEntity implements SimEntity {
 
     @Override
     public boolean schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
-        return schedule(new CloudSimEvent(delay, this, dest, tag, data));
+        if (!canSendEvent(tag, dest)) {
+            return false;
+        }
+        simulation.send(this, dest, delay, tag, data);
+        return true;
     }
 
     @Override
@@ -137,22 +146,39 @@ public abstract class CloudSimEntity implements SimEntity {
 
     @Override
     public boolean schedule(final SimEvent evt) {
-        if (!canSendEvent(evt)) {
+        if (!canSendEvent(evt.getTag(), evt.getDestination())) {
             return false;
         }
         simulation.send(evt);
         return true;
     }
 
-    private boolean canSendEvent(final SimEvent evt) {
+    /**
+     * Sends an event to another entity, returning the sent event.
+     * The returned event can be given to {@link #cancelEvent(SimEvent)}
+     * to cancel it, without searching the whole future event queue.
+     *
+     * @param dest the destination entity
+     * @param delay How many seconds after the current simulation time the event should be sent
+     * @param tag   An user-defined number representing the type of event.
+     * @param data  The data to be sent with the event.
+     * @return the sent event or {@link SimEvent#NULL} if it could not be sent
+     * @see #schedule(SimEntity, double, int, Object)
+     */
+    public SimEvent scheduleEvent(final SimEntity dest, final double delay, final int tag, final Object data) {
+        final SimEvent evt = new CloudSimEvent(delay, this, dest, tag, data);
+        return schedule(evt) ? evt : SimEvent.NULL;
+    }
+
+    private boolean canSendEvent(final int tag, final SimEntity dest) {
         /**
          * If the simulation has finished and an  {@link CloudSimTags#END_OF_SIMULATION}
          * message is sent, it has to be processed to enable entities to shutdown.
          */
-        if (!simulation.isRunning() && evt.getTag() != CloudSimTags.END_OF_SIMULATION) {
+        if (!simulation.isRunning() && tag != CloudSimTags.END_OF_SIMULATION) {
             LOGGER.warn(
                 "{}: {}: Cannot send events before simulation starts or after it finishes. Trying to send message {} to {}",
-                getSimulation().clockStr(), this, evt.getTag(), evt.getDestination());
+                getSimulation().clockStr(), this, tag, dest);
             return false;
         }
 
@@ -220,12 +246,11 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param data  The data to be sent with the event.
      */
     public void scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
-        final CloudSimEvent evt = new CloudSimEvent(delay, this, dest, tag, data);
-        if (!canSendEvent(evt)) {
+        if (!canSendEvent(tag, dest)) {
             return;
         }
 
-        simulation.sendFirst(evt);
+        simulation.sendFirst(this, dest, delay, tag, data);
     }
 
     /**
@@ -271,6 +296,18 @@ public abstract class CloudSimEntity implements SimEntity {
         return simulation.isRunning() ? simulation.cancel(this, predicate) : SimEvent.NULL;
     }
 
+    /**
+     * Cancels an event previously sent by this entity, removing it from the future event queue.
+     * The event is the one returned by methods such as {@link #scheduleEvent(SimEntity, double, int, Object)}.
+     *
+     * @param evt the event to cancel
+     * @return true if the event was cancelled, false if it was not found
+     *         (for instance, because it was already processed)
+     */
+    public boolean cancelEvent(final SimEvent evt) {
+        return simulation.isRunning() && evt.getSource() == this && simulation.cancel(evt);
+    }
+
     /**
      * Gets the first event matching a predicate from the deferred queue, or if
      * none match, wait for a matching event to arrive.
@@ -318,9 +355,18 @@ public abstract class CloudSimEntity implements SimEntity {
 
     public void run(final double until) {
         SimEvent evt = buffer == null ? getNextEvent(e -> e.getTime() <= until) : buffer;
+        final EventProfiler profiler = getEventProfiler();
 
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            if(profiler == null) {
+                processEvent(evt);
+            } else {
+                final long startNanos = System.nanoTime();
+                processEvent(evt);
+                profiler.eventProcessed(this, evt, System.nanoTime() - startNanos);
+            }
+
+            recycleEvent(evt);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -331,6 +377,26 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = null;
     }
 
+    /**
+     * Gets the simulation {@link EventProfiler}, if
+     * {@link CloudSim#isEventProfilingEnabled() event profiling} is enabled.
+     * @return the profiler or null if profiling is disabled
+     */
+    private EventProfiler getEventProfiler() {
+        return simulation instanceof CloudSim ? ((CloudSim) simulation).getEventProfiler().orElse(null) : null;
+    }
+
+    /**
+     * Returns a processed event to the simulation {@link org.cloudbus.cloudsim.core.events.EventPool},
+     * if {@link CloudSim#isEventPoolingEnabled() event pooling} is enabled.
+     * @param evt the processed event
+     */
+    private void recycleEvent(final SimEvent evt) {
+        if (simulation instanceof CloudSim) {
+            ((CloudSim) simulation).recycleEvent(evt);
+        }
+    }
+
     /**
      * Gets a clone of the entity. This is used when independent replications
      * have been specified as an output analysis method. Clones or backups of
@@ -431,11 +497,46 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param cloudSimTag an user-defined number representing the type of an event/message
      * @param data        A reference to data to be sent with the event
      */
-    protected void send(final SimEntity dest, double delay, final int cloudSimTag, final Object data) {
+    protected void send(final SimEntity dest, final double delay, final int cloudSimTag, final Object data) {
+        final double sendDelay = getSendDelay(dest, delay);
+        if (sendDelay >= 0) {
+            schedule(dest, sendDelay, cloudSimTag, data);
+        }
+    }
+
+    /**
+     * Sends an event/message to another entity by <b>delaying</b> the
+     * simulation time from the current time, with a tag representing the event
+     * type, returning the sent event.
+     * The returned event can be given to {@link #cancelEvent(SimEvent)}
+     * to cancel it, without searching the whole future event queue.
+     *
+     * @param dest the destination entity
+     * @param delay       How many seconds after the current simulation time the event should be sent.
+     *                    If delay is a negative number, then it will be changed to 0
+     * @param cloudSimTag an user-defined number representing the type of an event/message
+     * @param data        A reference to data to be sent with the event
+     * @return the sent event or {@link SimEvent#NULL} if it could not be sent
+     * @see #send(SimEntity, double, int, Object)
+     */
+    protected SimEvent sendEvent(final SimEntity dest, final double delay, final int cloudSimTag, final Object data) {
+        final double sendDelay = getSendDelay(dest, delay);
+        return sendDelay < 0 ? SimEvent.NULL : scheduleEvent(dest, sendDelay, cloudSimTag, data);
+    }
+
+    /**
+     * Gets the delay to send an event to a given entity, including the network delay between the entities.
+     *
+     * @param dest the destination entity
+     * @param delay How many seconds after the current simulation time the event should be sent.
+     *              If delay is a negative number, then it will be changed to 0
+     * @return the delay to send the event or -1 if the destination entity is invalid
+     */
+    private double getSendDelay(final SimEntity dest, double delay) {
         Objects.requireNonNull(dest);
         if (dest.getId() < 0) {
             LOGGER.error("{}.send(): invalid entity id {} for {}", getName(), dest.getId(), dest);
-            return;
+            return -1;
         }
 
         // if delay is negative, then it doesn't make sense. So resets to 0.0
@@ -452,7 +553,7 @@ public abstract class CloudSimEntity implements SimEntity {
             delay += getNetworkDelay(this, dest);
         }
 
-        schedule(dest, delay, cloudSimTag, data);
+        return delay;
     }
 
     /**
@@ -543,13 +644,36 @@ public abstract class CloudSimEntity implements SimEntity {
         final CloudSimEntity that = (CloudSimEntity) object;
 
         if (id != that.id) return false;
-        return simulation.equals(that.simulation);
+        return Objects.equals(simulation, that.simulation);
     }
 
+    /**
+     * {@inheritDoc}
+     * The hash code depends only on the entity id,
+     * so that it is the same after the simulation is restored from a checkpoint
+     * and it can be computed while the entity is being restored.
+     * @return {@inheritDoc}
+     * @see CloudSim#saveCheckpoint(java.io.OutputStream)
+     */
     @Override
     public int hashCode() {
-        int result = simulation.hashCode();
-        result = 31 * result + Long.hashCode(id);
-        return result;
+        return Long.hashCode(id);
+    }
+
+    /**
+     * Writes the id before the other fields, so that it is already set
+     * when objects referring to this one are restored from a checkpoint,
+     * since the {@link #hashCode()} depends on it.
+     * @param out the stream to write this object to
+     * @throws IOException when the object cannot be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.writeLong(id);
+        out.defaultWriteObject();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        id = in.readLong();
+        in.defaultReadObject();
     }
 }
@@ -3,6 +3,10 @@ package org.cloudbus.cloudsim.core;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -11,6 +15,8 @@ import static java.util.Objects.requireNonNull;
  * @since CloudSim Plus 4.0.3
  */
 public abstract class CustomerEntityAbstract implements CustomerEntity {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getId()
      */
@@ -60,9 +66,8 @@ public abstract class CustomerEntityAbstract implements CustomerEntity {
 
     @Override
     public int hashCode() {
-        int result = Long.hashCode(id);
-        result = 31 * result + broker.hashCode();
-        return result;
+        //The broker is not included since it may not be set yet while the entity is restored from a checkpoint
+        return Long.hashCode(id);
     }
 
     @Override
@@ -74,4 +79,21 @@ public abstract class CustomerEntityAbstract implements CustomerEntity {
     public Datacenter getLastTriedDatacenter() {
         return lastTriedDatacenter;
     }
+
+    /**
+     * Writes the id before the other fields, so that it is already set
+     * when objects referring to this one are restored from a checkpoint,
+     * since the {@link #hashCode()} depends on it.
+     * @param out the stream to write this object to
+     * @throws IOException when the object cannot be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.writeLong(id);
+        out.defaultWriteObject();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        id = in.readLong();
+        in.defaultReadObject();
+    }
 }
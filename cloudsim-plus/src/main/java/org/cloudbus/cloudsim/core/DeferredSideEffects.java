@@ -0,0 +1,97 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Defers the side effects caused by a task running in parallel with other ones,
+ * such as sending events, notifying listeners or requesting something to a broker.
+ * Such side effects change objects shared among the tasks
+ * and are applied afterwards by a single thread,
+ * in the same order they would happen if the tasks were executed sequentially.
+ *
+ * <p>Classes which cause such side effects must call {@link #runOrDefer(Runnable)},
+ * instead of executing them directly.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ * @see org.cloudbus.cloudsim.datacenters.DatacenterSimple#setUpdateHostsInParallel(boolean)
+ */
+public final class DeferredSideEffects {
+    /**
+     * The side effects deferred by the task being executed by the current thread,
+     * or null if the thread isn't deferring side effects.
+     */
+    private static final ThreadLocal<List<Runnable>> DEFERRED = new ThreadLocal<>();
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private DeferredSideEffects(){/**/}
+
+    /**
+     * Checks if the current thread is deferring side effects.
+     * @return true if side effects are being deferred, false otherwise
+     */
+    public static boolean isDeferring() {
+        return DEFERRED.get() != null;
+    }
+
+    /**
+     * Executes an action that causes some side effect right away or,
+     * if the current thread is {@link #isDeferring() deferring side effects},
+     * just after the task being executed by it.
+     *
+     * @param action the action to execute
+     */
+    public static void runOrDefer(final Runnable action) {
+        final List<Runnable> deferred = DEFERRED.get();
+        if(deferred == null) {
+            action.run();
+            return;
+        }
+
+        deferred.add(action);
+    }
+
+    /**
+     * Runs a task in the current thread, deferring the side effects it causes.
+     * @param task the task to run
+     * @return the list of actions which apply the deferred side effects, in the order they were caused
+     */
+    public static List<Runnable> runDeferring(final Runnable task) {
+        final List<Runnable> previous = DEFERRED.get();
+        final List<Runnable> deferred = new ArrayList<>(0);
+        DEFERRED.set(deferred);
+        try {
+            task.run();
+        } finally {
+            DEFERRED.set(previous);
+        }
+
+        return deferred.isEmpty() ? Collections.emptyList() : deferred;
+    }
+}
@@ -0,0 +1,468 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Collects statistics about the events processed by a {@link CloudSim} simulation,
+ * allowing to find out which event tags and entities consume most of the execution time.
+ * It's enabled by calling {@link CloudSim#setEventProfilingEnabled(boolean)}
+ * and the collected data is logged when the simulation finishes.
+ *
+ * <p>The profiler records:
+ * <ul>
+ *     <li>the number of processed events and a histogram of the wall-clock time
+ *     spent processing them, for each event tag and each entity;</li>
+ *     <li>the size of the future and deferred event queues along the simulation time;</li>
+ *     <li>the number of events processed per simulated second.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Histograms have one bucket for each power of 2 nanoseconds,
+ * where the bucket {@code i} counts events that took
+ * from 2<sup>i-1</sup> (inclusive) to 2<sup>i</sup> (exclusive) nanoseconds to be processed.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class EventProfiler implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of buckets of the processing time histograms,
+     * enough to store any non-negative long value.
+     */
+    public static final int HISTOGRAM_BUCKETS = 64;
+
+    /**
+     * The maximum number of queue size samples to keep.
+     * When it's reached, half of the samples are discarded
+     * and the interval between samples is doubled.
+     */
+    public static final int MAX_QUEUE_SAMPLES = 1024;
+
+    /**
+     * Names of the constants in {@link CloudSimTags}, indexed by their values.
+     */
+    private static final Map<Integer, String> TAG_NAMES = getTagNames();
+
+    private final Map<Integer, Stats> statsByTag;
+    private final Map<SimEntity, Stats> statsByEntity;
+    private final Stats totalStats;
+
+    private final double[] sampleTimes;
+    private final int[] futureQueueSizes;
+    private final int[] deferredQueueSizes;
+    private int samples;
+    private double sampleInterval;
+
+    private int maxFutureQueueSize;
+    private int maxDeferredQueueSize;
+    private long batches;
+    private long dispatchedEvents;
+    private double simulationTime;
+    private long startNanos;
+    private long finishNanos;
+
+    EventProfiler() {
+        this.statsByTag = new HashMap<>();
+        this.statsByEntity = new IdentityHashMap<>();
+        this.totalStats = new Stats();
+        this.sampleTimes = new double[MAX_QUEUE_SAMPLES];
+        this.futureQueueSizes = new int[MAX_QUEUE_SAMPLES];
+        this.deferredQueueSizes = new int[MAX_QUEUE_SAMPLES];
+        this.sampleInterval = 0;
+        this.startNanos = -1;
+    }
+
+    private static Map<Integer, String> getTagNames() {
+        final Map<Integer, String> names = new HashMap<>();
+        for (final Field field : CloudSimTags.class.getFields()) {
+            final int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) && field.getType() == int.class) {
+                try {
+                    names.putIfAbsent(field.getInt(null), field.getName());
+                } catch (IllegalAccessException e) {
+                    //Public fields are always accessible
+                }
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Gets the name of an event tag.
+     * @param tag the tag to get the name
+     * @return the name of the {@link CloudSimTags} constant with the given value
+     *         or the tag number if it's not a CloudSimTags constant
+     */
+    public static String getTagName(final int tag) {
+        return TAG_NAMES.getOrDefault(tag, String.valueOf(tag));
+    }
+
+    /**
+     * Records an event processed by an entity.
+     * @param entity the entity that processed the event
+     * @param evt the processed event
+     * @param nanos the wall-clock time spent processing the event (in nanoseconds)
+     */
+    synchronized void eventProcessed(final SimEntity entity, final SimEvent evt, final long nanos) {
+        statsByTag.computeIfAbsent(evt.getTag(), tag -> new Stats()).add(nanos);
+        statsByEntity.computeIfAbsent(entity, e -> new Stats()).add(nanos);
+        totalStats.add(nanos);
+    }
+
+    /**
+     * Records a batch of events dispatched from the future queue at a given simulation time,
+     * sampling the size of the event queues.
+     *
+     * @param time the current simulation time
+     * @param events number of events dispatched
+     * @param futureQueueSize the current size of the future event queue
+     * @param deferredQueueSize the current size of the deferred event queue
+     */
+    void eventsDispatched(final double time, final int events, final int futureQueueSize, final int deferredQueueSize) {
+        if(startNanos < 0){
+            startNanos = System.nanoTime();
+        }
+
+        batches++;
+        dispatchedEvents += events;
+        simulationTime = time;
+        maxFutureQueueSize = Math.max(maxFutureQueueSize, futureQueueSize);
+        maxDeferredQueueSize = Math.max(maxDeferredQueueSize, deferredQueueSize);
+
+        if(samples > 0 && time - sampleTimes[samples-1] < sampleInterval){
+            return;
+        }
+
+        if(samples == MAX_QUEUE_SAMPLES){
+            discardHalfOfTheSamples();
+        }
+
+        sampleTimes[samples] = time;
+        futureQueueSizes[samples] = futureQueueSize;
+        deferredQueueSizes[samples] = deferredQueueSize;
+        samples++;
+    }
+
+    /**
+     * Keeps just the samples at even positions and doubles the sampling interval,
+     * so that samples keep covering the whole simulation time.
+     */
+    private void discardHalfOfTheSamples() {
+        for (int i = 0; i < samples/2; i++) {
+            sampleTimes[i] = sampleTimes[i*2];
+            futureQueueSizes[i] = futureQueueSizes[i*2];
+            deferredQueueSizes[i] = deferredQueueSizes[i*2];
+        }
+
+        samples /= 2;
+        sampleInterval = sampleInterval == 0 ? sampleTimes[1] - sampleTimes[0] : sampleInterval*2;
+    }
+
+    /**
+     * Records the end of the simulation.
+     * @param time the simulation time when the simulation finished
+     */
+    void finish(final double time) {
+        this.simulationTime = time;
+        this.finishNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the statistics of processed events for each event tag.
+     * @return a read-only map where each key is an event tag
+     */
+    public synchronized Map<Integer, Stats> getStatsByTag() {
+        return Collections.unmodifiableMap(new HashMap<>(statsByTag));
+    }
+
+    /**
+     * Gets the statistics of processed events for each entity that processed events.
+     * @return a read-only map where each key is an entity
+     */
+    public synchronized Map<SimEntity, Stats> getStatsByEntity() {
+        return Collections.unmodifiableMap(new IdentityHashMap<>(statsByEntity));
+    }
+
+    /**
+     * Gets the statistics of all events processed by entities.
+     * @return
+     */
+    public Stats getTotalStats() {
+        return totalStats;
+    }
+
+    /**
+     * Gets the number of events dispatched from the future queue
+     * (which includes events not processed by any entity,
+     * such as the ones sent to finished entities).
+     * @return
+     */
+    public long getDispatchedEvents() {
+        return dispatchedEvents;
+    }
+
+    /**
+     * Gets the number of simulation clock ticks with events dispatched,
+     * where each tick dispatches all events happening at the same time.
+     * @return
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Gets the number of events dispatched per simulated second.
+     * @return the events per second or zero if the simulation time hasn't advanced
+     */
+    public double getEventsPerSimulatedSecond() {
+        return simulationTime > 0 ? dispatchedEvents / simulationTime : 0;
+    }
+
+    /**
+     * Gets the maximum size the future event queue had after dispatching a batch of events.
+     * @return
+     */
+    public int getMaxFutureQueueSize() {
+        return maxFutureQueueSize;
+    }
+
+    /**
+     * Gets the maximum size the deferred event queue had after dispatching a batch of events.
+     * @return
+     */
+    public int getMaxDeferredQueueSize() {
+        return maxDeferredQueueSize;
+    }
+
+    /**
+     * Gets the number of queue size samples collected.
+     * @return
+     * @see #MAX_QUEUE_SAMPLES
+     */
+    public int getQueueSamples() {
+        return samples;
+    }
+
+    /**
+     * Gets the simulation time a queue size sample was collected.
+     * @param index the index of the sample, from 0 to {@link #getQueueSamples()} - 1
+     * @return
+     */
+    public double getSampleTime(final int index) {
+        return sampleTimes[checkSampleIndex(index)];
+    }
+
+    /**
+     * Gets the size of the future event queue in a given sample.
+     * @param index the index of the sample, from 0 to {@link #getQueueSamples()} - 1
+     * @return
+     */
+    public int getSampleFutureQueueSize(final int index) {
+        return futureQueueSizes[checkSampleIndex(index)];
+    }
+
+    /**
+     * Gets the size of the deferred event queue in a given sample.
+     * @param index the index of the sample, from 0 to {@link #getQueueSamples()} - 1
+     * @return
+     */
+    public int getSampleDeferredQueueSize(final int index) {
+        return deferredQueueSizes[checkSampleIndex(index)];
+    }
+
+    private int checkSampleIndex(final int index) {
+        if(index < 0 || index >= samples){
+            throw new IndexOutOfBoundsException("Invalid sample index: " + index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Gets a textual report of the collected data.
+     * @return
+     */
+    public synchronized String getReport() {
+        final String nl = System.lineSeparator();
+        final StringBuilder sb = new StringBuilder();
+        final double wallMillis = startNanos < 0 || finishNanos < startNanos ? 0 : (finishNanos - startNanos) / 1e6;
+        sb.append(nl).append("================== Event Profiler ==================").append(nl)
+          .append(String.format("Simulation time: %.2f s | Wall-clock time: %.2f ms%n", simulationTime, wallMillis))
+          .append(String.format(
+              "Dispatched events: %d in %d clock ticks | Events per simulated second: %.2f%n",
+              dispatchedEvents, batches, getEventsPerSimulatedSecond()))
+          .append(String.format(
+              "Max future queue size: %d | Max deferred queue size: %d%n%n",
+              maxFutureQueueSize, maxDeferredQueueSize));
+
+        sb.append(String.format(Stats.ROW_FORMAT, "Event Tag", "Events", "Total (ms)", "Mean (us)", "p50 (us)", "p99 (us)", "Max (us)"));
+        statsByTag.entrySet()
+                  .stream()
+                  .sorted(Map.Entry.<Integer, Stats>comparingByValue().reversed())
+                  .forEach(entry -> entry.getValue().appendRow(sb, getTagName(entry.getKey())));
+        totalStats.appendRow(sb, "Total");
+
+        sb.append(nl).append(String.format(Stats.ROW_FORMAT, "Entity", "Events", "Total (ms)", "Mean (us)", "p50 (us)", "p99 (us)", "Max (us)"));
+        statsByEntity.entrySet()
+                     .stream()
+                     .sorted(Map.Entry.<SimEntity, Stats>comparingByValue().reversed())
+                     .forEach(entry -> entry.getValue().appendRow(sb, entry.getKey().getName()));
+
+        sb.append(nl).append("Event processing time histogram:").append(nl);
+        final long[] histogram = totalStats.histogram;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            if(histogram[i] > 0) {
+                sb.append(String.format("  < %-12s %d%n", formatNanos(1L << Math.min(i, 62)), histogram[i]));
+            }
+        }
+
+        sb.append(nl).append("Queue sizes (time: future/deferred):").append(nl);
+        final int step = Math.max(1, samples / 20);
+        for (int i = 0; i < samples; i += step) {
+            sb.append(String.format("  %10.2f: %d/%d%n", sampleTimes[i], futureQueueSizes[i], deferredQueueSizes[i]));
+        }
+
+        return sb.append("====================================================").append(nl).toString();
+    }
+
+    private static String formatNanos(final long nanos) {
+        if(nanos < 1000){
+            return nanos + " ns";
+        }
+
+        return nanos < 1_000_000 ? nanos/1000 + " us" : nanos/1_000_000 + " ms";
+    }
+
+    /**
+     * Statistics of the wall-clock time spent processing a set of events.
+     */
+    public static final class Stats implements Comparable<Stats>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private static final String ROW_FORMAT = "%-40s %10s %12s %10s %10s %10s %10s%n";
+
+        private final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void add(final long nanos) {
+            final long value = Math.max(nanos, 0);
+            count++;
+            totalNanos += value;
+            maxNanos = Math.max(maxNanos, value);
+            histogram[Math.min(64 - Long.numberOfLeadingZeros(value), HISTOGRAM_BUCKETS - 1)]++;
+        }
+
+        /**
+         * Gets the number of processed events.
+         * @return
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the total time spent processing the events (in nanoseconds).
+         * @return
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Gets the maximum time spent processing a single event (in nanoseconds).
+         * @return
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Gets the mean time spent processing an event (in nanoseconds).
+         * @return
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / (double) count;
+        }
+
+        /**
+         * Gets the number of events in a histogram bucket.
+         * @param bucket the index of the bucket, from 0 to {@link #HISTOGRAM_BUCKETS} - 1
+         * @return the number of events which took from 2<sup>bucket-1</sup> (inclusive)
+         *         to 2<sup>bucket</sup> (exclusive) nanoseconds to be processed
+         */
+        public long getHistogramCount(final int bucket) {
+            return histogram[bucket];
+        }
+
+        /**
+         * Gets an upper bound for a percentile of the event processing time,
+         * computed from the histogram.
+         * @param percentile the percentile, between 0 and 1
+         * @return the upper limit (in nanoseconds) of the histogram bucket
+         *         containing the percentile, bounded by the {@link #getMaxNanos() max time}
+         */
+        public long getPercentileNanos(final double percentile) {
+            final double target = Math.ceil(count * Math.min(Math.max(percentile, 0), 1));
+            long accumulated = 0;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                accumulated += histogram[i];
+                if(accumulated >= target && accumulated > 0){
+                    return Math.min(i < 63 ? 1L << i : Long.MAX_VALUE, maxNanos);
+                }
+            }
+
+            return maxNanos;
+        }
+
+        private void appendRow(final StringBuilder sb, final String name) {
+            sb.append(String.format(
+                ROW_FORMAT, name, count,
+                String.format("%.3f", totalNanos / 1e6), String.format("%.2f", getMeanNanos() / 1e3),
+                String.format("%.2f", getPercentileNanos(0.5) / 1e3),
+                String.format("%.2f", getPercentileNanos(0.99) / 1e3),
+                String.format("%.2f", maxNanos / 1e3)));
+        }
+
+        /**
+         * Compares the statistics by the total processing time.
+         * @param other the statistics to compare to
+         * @return
+         */
+        @Override
+        public int compareTo(final Stats other) {
+            return Long.compare(totalNanos, other.totalNanos);
+        }
+    }
+}
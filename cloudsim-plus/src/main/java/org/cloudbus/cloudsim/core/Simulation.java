@@ -15,6 +15,7 @@ import org.cloudbus.cloudsim.vms.VmGroup;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
+import java.io.Serializable;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
@@ -31,7 +32,7 @@ import java.util.function.Predicate;
  * @see CloudSim
  * @since CloudSim Plus 1.0
  */
-public interface Simulation {
+public interface Simulation extends Serializable {
     /**
      * A standard predicate that matches any event.
      */
@@ -81,6 +82,19 @@ public interface Simulation {
      */
     boolean cancelAll(SimEntity src, Predicate<SimEvent> p);
 
+    /**
+     * Cancels a given event from the future event queue, then removes it from the queue.
+     * Since the event to cancel is known, it doesn't require checking all events
+     * in the queue, as {@link #cancel(SimEntity, Predicate)} does.
+     * The event works as a cancellation handle, which can be got by
+     * calling methods such as {@link CloudSimEntity#scheduleEvent(SimEntity, double, int, Object)}.
+     *
+     * @param evt the event to cancel
+     * @return true if the event was cancelled; false if it was not found
+     *         (for instance, because it was already processed)
+     */
+    boolean cancel(SimEvent evt);
+
     /**
      * Gets the current simulation time in seconds.
      *
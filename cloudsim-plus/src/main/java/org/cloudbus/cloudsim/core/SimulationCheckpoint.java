@@ -0,0 +1,328 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes and reads the state of a {@link CloudSim} simulation to/from a compressed binary checkpoint,
+ * using Java Serialization.
+ *
+ * <p>Constants such as the NULL objects (e.g. {@link org.cloudbus.cloudsim.vms.Vm#NULL})
+ * are not written to the checkpoint. Instead, a reference to the static field storing them
+ * is written, so that the restored simulation refers to the same constant objects
+ * and comparisons such as {@code vm == Vm.NULL} keep working.</p>
+ *
+ * <p>The same mechanism is used to {@link CloudSim#fork() fork} a simulation,
+ * but without compression and sharing {@link String}s and {@link Immutable} objects
+ * with the copy, instead of duplicating them.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ * @see CloudSim#saveCheckpoint(OutputStream)
+ * @see CloudSim#restoreCheckpoint(InputStream)
+ * @see CloudSim#fork()
+ */
+final class SimulationCheckpoint {
+    /**
+     * The constant fields declared in a class or in its supertypes,
+     * indexed by such a class.
+     */
+    private static final Map<Class<?>, List<Field>> CONSTANT_FIELDS = new ConcurrentHashMap<>();
+
+    /**
+     * A class that is not supposed to be instantiated.
+     */
+    private SimulationCheckpoint(){/**/}
+
+    /**
+     * Writes a simulation to a checkpoint.
+     * @param simulation the simulation to write
+     * @param output the stream to write the checkpoint to (which is not closed)
+     * @throws IOException when the checkpoint cannot be written,
+     *         including when some object in the simulation is not {@link Serializable}
+     */
+    static void write(final CloudSim simulation, final OutputStream output) throws IOException {
+        final GZIPOutputStream gzip = new GZIPOutputStream(new NonClosingOutputStream(output));
+        try(ObjectOutputStream out = new CheckpointOutputStream(new BufferedOutputStream(gzip))) {
+            out.writeUTF(CloudSim.VERSION);
+            out.writeObject(simulation);
+        }
+    }
+
+    /**
+     * Reads a simulation from a checkpoint.
+     * @param input the stream to read the checkpoint from (which is not closed)
+     * @return the restored simulation
+     * @throws IOException when the checkpoint cannot be read or
+     *         was created by a different CloudSim Plus version
+     */
+    static CloudSim read(final InputStream input) throws IOException {
+        final GZIPInputStream gzip = new GZIPInputStream(new NonClosingInputStream(input));
+        try(ObjectInputStream in = new CheckpointInputStream(new BufferedInputStream(gzip))) {
+            final String version = in.readUTF();
+            if(!CloudSim.VERSION.equals(version)) {
+                throw new InvalidObjectException(
+                    "The checkpoint was created by " + version + " and cannot be restored by " + CloudSim.VERSION);
+            }
+
+            return (CloudSim) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    /**
+     * Creates an independent copy of a simulation,
+     * which shares with the original simulation only the objects that cannot change.
+     * @param simulation the simulation to copy
+     * @return the copy of the simulation
+     * @throws IOException when some object in the simulation is not {@link Serializable}
+     */
+    static CloudSim copy(final CloudSim simulation) throws IOException {
+        final List<Object> sharedObjects = new ArrayList<>();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ForkOutputStream(bytes, sharedObjects)) {
+            out.writeObject(simulation);
+        }
+
+        try(ObjectInputStream in = new ForkInputStream(new ByteArrayInputStream(bytes.toByteArray()), sharedObjects)) {
+            return (CloudSim) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the static final field storing a given object,
+     * which is looked up in the object class and its supertypes.
+     * @param obj the object to get the field storing it
+     * @return an {@link Optional} containing the field or an empty Optional
+     *         if the object is not stored in a constant
+     */
+    private static Optional<Field> findConstantField(final Object obj) {
+        for (final Field field : CONSTANT_FIELDS.computeIfAbsent(obj.getClass(), SimulationCheckpoint::getConstantFields)) {
+            if (getFieldValue(field) == obj) {
+                return Optional.of(field);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static List<Field> getConstantFields(final Class<?> klass) {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        addSuperTypes(klass, types);
+
+        final List<Field> fields = new ArrayList<>();
+        for (final Class<?> type : types) {
+            for (final Field field : type.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) &&
+                    field.getType().isAssignableFrom(klass) && trySetAccessible(field))
+                {
+                    fields.add(field);
+                }
+            }
+        }
+
+        return fields;
+    }
+
+    private static void addSuperTypes(final Class<?> klass, final Set<Class<?>> types) {
+        if (klass == null || klass == Object.class || !types.add(klass)) {
+            return;
+        }
+
+        addSuperTypes(klass.getSuperclass(), types);
+        for (final Class<?> anInterface : klass.getInterfaces()) {
+            addSuperTypes(anInterface, types);
+        }
+    }
+
+    /**
+     * Tries to make a field accessible, which may not be allowed for fields in JDK classes.
+     * @param field the field to make accessible
+     * @return true if the field is accessible, false otherwise
+     */
+    private static boolean trySetAccessible(final Field field) {
+        try {
+            field.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static Object getFieldValue(final Field field) {
+        try {
+            return field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A reference to a constant, which is written to the checkpoint
+     * instead of the constant value.
+     */
+    private static final class ConstantReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> declaringClass;
+        private final String fieldName;
+
+        private ConstantReference(final Field field) {
+            this.declaringClass = field.getDeclaringClass();
+            this.fieldName = field.getName();
+        }
+
+        private Object getValue() throws InvalidObjectException {
+            try {
+                final Field field = declaringClass.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return field.get(null);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new InvalidObjectException("Constant not found: " + declaringClass.getName() + "." + fieldName);
+            }
+        }
+    }
+
+    /**
+     * A reference to an object shared between a simulation and its copy,
+     * which is written instead of the object when a simulation is forked.
+     */
+    private static final class SharedReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private SharedReference(final int index) {
+            this.index = index;
+        }
+    }
+
+    private static class CheckpointOutputStream extends ObjectOutputStream {
+        private CheckpointOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) {
+            if (obj instanceof String || obj instanceof Number || obj instanceof Enum || obj instanceof ConstantReference) {
+                return obj;
+            }
+
+            return findConstantField(obj).<Object>map(ConstantReference::new).orElse(obj);
+        }
+    }
+
+    private static final class ForkOutputStream extends CheckpointOutputStream {
+        /**
+         * The objects shared with the copy, where the index of each object
+         * is the one stored in its {@link SharedReference}.
+         */
+        private final List<Object> sharedObjects;
+
+        private ForkOutputStream(final OutputStream out, final List<Object> sharedObjects) throws IOException {
+            super(out);
+            this.sharedObjects = sharedObjects;
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) {
+            if (obj instanceof String || obj instanceof Immutable) {
+                sharedObjects.add(obj);
+                return new SharedReference(sharedObjects.size() - 1);
+            }
+
+            return super.replaceObject(obj);
+        }
+    }
+
+    private static class CheckpointInputStream extends ObjectInputStream {
+        private CheckpointInputStream(final InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            return obj instanceof ConstantReference ? ((ConstantReference) obj).getValue() : obj;
+        }
+    }
+
+    private static final class ForkInputStream extends CheckpointInputStream {
+        private final List<Object> sharedObjects;
+
+        private ForkInputStream(final InputStream in, final List<Object> sharedObjects) throws IOException {
+            super(in);
+            this.sharedObjects = sharedObjects;
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            return obj instanceof SharedReference ? sharedObjects.get(((SharedReference) obj).index) : super.resolveObject(obj);
+        }
+    }
+
+    /**
+     * Avoids closing the stream given by the caller
+     * when the wrapping streams are closed.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Avoids closing the stream given by the caller
+     * when the wrapping streams are closed.
+     */
+    private static final class NonClosingInputStream extends FilterInputStream {
+        private NonClosingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {/**/}
+    }
+}
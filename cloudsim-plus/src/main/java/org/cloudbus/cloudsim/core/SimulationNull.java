@@ -18,6 +18,8 @@ import java.util.function.Predicate;
  * @see Simulation#NULL
  */
 final class SimulationNull implements Simulation {
+    private static final long serialVersionUID = 1L;
+
     @Override public boolean isTerminationTimeSet() { return false; }
     @Override public void abort() {/**/}
     @Override public void addEntity(CloudSimEntity entity) {/**/}
@@ -27,6 +29,7 @@ final class SimulationNull implements Simulation {
     @Override public boolean cancelAll(SimEntity src, Predicate<SimEvent> predicate) {
         return false;
     }
+    @Override public boolean cancel(SimEvent evt) { return false; }
     @Override public double clock() { return 0.0; }
     @Override public String clockStr() { return ""; }
     @Override public double clockInMinutes() { return 0.0; }
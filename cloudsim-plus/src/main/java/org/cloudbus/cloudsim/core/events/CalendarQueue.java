@@ -0,0 +1,564 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link FutureEventQueue} implemented as a
+ * <a href="https://doi.org/10.1145/63039.63045">Calendar Queue</a>,
+ * which provides O(1) amortized time to add and remove events,
+ * instead of the O(log n) time of the {@link FutureQueue}.
+ *
+ * <p>Events are distributed into an array of buckets (the days of a year),
+ * where each bucket stores the events happening inside a time interval
+ * with the size of the {@link #getBucketWidth() bucket width}.
+ * The number of buckets and their width are adjusted as the queue grows or shrinks,
+ * sampling the interval between the next events in the queue.
+ * Each bucket keeps its events sorted, so that the
+ * ordering is the same as the one provided by the {@link FutureQueue}:
+ * events are sorted by time, then by serial and finally by the order they were added.</p>
+ *
+ * <p>The {@link #iterator()} and {@link #stream()} methods
+ * return the events sorted, but they require sorting a copy of the queue.
+ * This way, they should not be used in the main simulation loop.</p>
+ *
+ * @see <a href="https://doi.org/10.1145/63039.63045">R. Brown. Calendar queues: a fast O(1) priority queue implementation for the simulation event set problem. 1988.</a>
+ * @since CloudSim Plus 5.6.0
+ */
+public class CalendarQueue implements FutureEventQueue {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The minimum number of buckets in the calendar (which must be a power of 2).
+     */
+    private static final int MIN_BUCKETS = 16;
+
+    /**
+     * The maximum number of events sampled to compute the bucket width when resizing the calendar.
+     */
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    /**
+     * Compares events by time and then by serial.
+     * Since events having the same time and serial are kept
+     * in the order they were added, the comparator
+     * never considers the event instance as the {@link SimEvent#compareTo(SimEvent)} does.
+     */
+    private static final Comparator<SimEvent> COMPARATOR =
+        Comparator.comparingDouble(SimEvent::getTime).thenComparingLong(SimEvent::getSerial);
+
+    /**
+     * The calendar buckets, whose length is always a power of 2.
+     */
+    private Bucket[] buckets;
+
+    /** @see #getBucketWidth() */
+    private double bucketWidth;
+
+    /**
+     * The virtual bucket (the day since the beginning of the calendar)
+     * from which the search for the next event starts.
+     * There is no event in any previous day.
+     */
+    private long currentDay;
+
+    private int size;
+
+    /** @see #getSerial() */
+    private long serial;
+
+    /** @see #getMaxEventsNumber() */
+    private long maxEventsNumber;
+
+    /**
+     * Creates a Calendar Queue with a default initial bucket width of 1 second.
+     */
+    public CalendarQueue() {
+        this(1);
+    }
+
+    /**
+     * Creates a Calendar Queue with a given initial bucket width.
+     * The width is automatically adjusted as the queue size changes.
+     *
+     * @param initialBucketWidth the initial time interval covered by each calendar bucket (in seconds)
+     */
+    public CalendarQueue(final double initialBucketWidth) {
+        if(initialBucketWidth <= 0){
+            throw new IllegalArgumentException("The bucket width must be greater than zero.");
+        }
+
+        this.bucketWidth = initialBucketWidth;
+        this.buckets = newBuckets(MIN_BUCKETS);
+    }
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        newEvent.setSerial(serial++);
+        insert(newEvent);
+        maxEventsNumber = Math.max(maxEventsNumber, size);
+    }
+
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        newEvent.setSerial(0);
+        insert(newEvent);
+    }
+
+    private void insert(final SimEvent evt) {
+        final long day = day(evt.getTime());
+        bucket(day).add(evt);
+        size++;
+        if(day < currentDay){
+            currentDay = day;
+        }
+
+        if(size > buckets.length * 2){
+            resize(buckets.length * 2);
+        }
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("The Calendar Queue is empty.");
+        }
+
+        return firstBucket().last();
+    }
+
+    /**
+     * Finds the bucket containing the first event,
+     * moving the {@link #currentDay} to the day of that event.
+     * It must be called only when the queue is not empty.
+     *
+     * @return the bucket containing the first event
+     */
+    private Bucket firstBucket() {
+        for (int i = 0; i < buckets.length; i++, currentDay++) {
+            final Bucket bucket = bucket(currentDay);
+            if(!bucket.isEmpty() && day(bucket.last().getTime()) <= currentDay){
+                return bucket;
+            }
+        }
+
+        /* A whole year was checked and no event was found.
+         * Since the next event is far in the future, performs a direct search. */
+        Bucket first = null;
+        for (final Bucket bucket : buckets) {
+            if(!bucket.isEmpty() && (first == null || COMPARATOR.compare(bucket.last(), first.last()) < 0)){
+                first = bucket;
+            }
+        }
+
+        currentDay = day(Objects.requireNonNull(first).last().getTime());
+        return first;
+    }
+
+    /**
+     * Removes the first event from the queue.
+     * @return the removed event
+     * @throws NoSuchElementException when the queue is empty
+     */
+    public SimEvent poll() throws NoSuchElementException {
+        final SimEvent evt = pollWithoutResizing();
+        shrinkIfRequired();
+        return evt;
+    }
+
+    @Override
+    public List<SimEvent> pollAllAt(final double time) {
+        final List<SimEvent> events = new ArrayList<>();
+        while(size > 0 && first().getTime() == time){
+            events.add(pollWithoutResizing());
+        }
+
+        shrinkIfRequired();
+        return events;
+    }
+
+    private SimEvent pollWithoutResizing() {
+        if (size == 0) {
+            throw new NoSuchElementException("The Calendar Queue is empty.");
+        }
+
+        size--;
+        return firstBucket().removeLast();
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        if(size == 0 || !bucket(day(event.getTime())).remove(event)){
+            return false;
+        }
+
+        size--;
+        shrinkIfRequired();
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        final int previousSize = size;
+        for (final Bucket bucket : buckets) {
+            size -= bucket.removeIf(predicate);
+        }
+
+        shrinkIfRequired();
+        return size < previousSize;
+    }
+
+    @Override
+    public void clear() {
+        buckets = newBuckets(MIN_BUCKETS);
+        size = 0;
+        currentDay = 0;
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        final Iterator<SimEvent> it = sortedEvents().iterator();
+        return new Iterator<SimEvent>() {
+            private SimEvent last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public SimEvent next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if(last == null){
+                    throw new IllegalStateException();
+                }
+
+                CalendarQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        return sortedEvents().stream();
+    }
+
+    /**
+     * Gets a sorted copy of all events in the queue.
+     * @return
+     */
+    private List<SimEvent> sortedEvents() {
+        final List<SimEvent> list = new ArrayList<>(allEvents());
+        //The sort is stable, so that events with the same time and serial are kept in the order they were added
+        list.sort(COMPARATOR);
+        return list;
+    }
+
+    /**
+     * Gets all events in the queue, where the events inside each bucket
+     * are in the order they have to be processed.
+     * @return
+     */
+    private List<SimEvent> allEvents() {
+        final List<SimEvent> list = new ArrayList<>(size);
+        for (final Bucket bucket : buckets) {
+            for (int i = bucket.size - 1; i >= 0; i--) {
+                list.add(bucket.events[i]);
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSerial() {
+        return serial;
+    }
+
+    @Override
+    public long getMaxEventsNumber() {
+        return maxEventsNumber;
+    }
+
+    /**
+     * Gets the time interval (in seconds) covered by each bucket,
+     * which is automatically adjusted when the queue is resized.
+     * @return
+     */
+    public double getBucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * Gets the current number of buckets in the calendar.
+     * @return
+     */
+    public int getBucketsNumber() {
+        return buckets.length;
+    }
+
+    private void shrinkIfRequired() {
+        if(buckets.length > MIN_BUCKETS && size < buckets.length / 2){
+            resize(buckets.length / 2);
+        }
+    }
+
+    /**
+     * Changes the number of buckets, recomputing the bucket width
+     * and redistributing the events into the new buckets.
+     *
+     * @param newBucketsNumber the new number of buckets (a power of 2)
+     */
+    private void resize(final int newBucketsNumber) {
+        bucketWidth = newBucketWidth();
+        final List<SimEvent> events = allEvents();
+        buckets = newBuckets(newBucketsNumber);
+        currentDay = Long.MAX_VALUE;
+        /* Since events inside each old bucket are got in the order they have to be processed,
+         * events with the same time and serial are re-added in the same order. */
+        for (final SimEvent evt : events) {
+            final long day = day(evt.getTime());
+            bucket(day).add(evt);
+            currentDay = Math.min(currentDay, day);
+        }
+
+        if(events.isEmpty()){
+            currentDay = 0;
+        }
+    }
+
+    /**
+     * Computes the new bucket width based on the average
+     * interval between the next events in the queue.
+     * It removes such events to get them in order and then re-adds them.
+     *
+     * @return the new bucket width or the current one if it could not be computed
+     */
+    private double newBucketWidth() {
+        final int samples = Math.min(size, WIDTH_SAMPLE_SIZE);
+        if(samples < 2){
+            return bucketWidth;
+        }
+
+        final SimEvent[] next = new SimEvent[samples];
+        for (int i = 0; i < samples; i++) {
+            next[i] = pollWithoutResizing();
+        }
+
+        /* Events are re-added in the reverse order they were removed,
+         * ensuring they keep their original order inside the buckets. */
+        for (int i = samples - 1; i >= 0; i--) {
+            bucket(day(next[i].getTime())).addFirst(next[i]);
+            size++;
+        }
+        currentDay = day(next[0].getTime());
+
+        double sum = 0;
+        int count = 0;
+        for (int i = 1; i < samples; i++) {
+            final double interval = next[i].getTime() - next[i - 1].getTime();
+            if(interval > 0){
+                sum += interval;
+                count++;
+            }
+        }
+
+        if(count == 0){
+            return bucketWidth;
+        }
+
+        //Recomputes the average ignoring too large intervals that may be outliers
+        final double average = sum / count;
+        sum = 0;
+        count = 0;
+        for (int i = 1; i < samples; i++) {
+            final double interval = next[i].getTime() - next[i - 1].getTime();
+            if(interval > 0 && interval <= average * 2){
+                sum += interval;
+                count++;
+            }
+        }
+
+        return count == 0 ? average * 3 : sum / count * 3;
+    }
+
+    /**
+     * Gets the day (the virtual bucket since the beginning of the calendar) for a given time.
+     * @param time the time to get the day
+     * @return
+     */
+    private long day(final double time) {
+        return (long) Math.floor(time / bucketWidth);
+    }
+
+    private Bucket bucket(final long day) {
+        return buckets[(int) (day & (buckets.length - 1))];
+    }
+
+    private static Bucket[] newBuckets(final int number) {
+        final Bucket[] buckets = new Bucket[number];
+        for (int i = 0; i < number; i++) {
+            buckets[i] = new Bucket();
+        }
+
+        return buckets;
+    }
+
+    /**
+     * A calendar bucket which stores its events into an array
+     * sorted in <b>descending order</b>, so that the next event to be processed
+     * is the last one and can be removed in constant time.
+     * Since buckets are expected to store just a few events,
+     * shifting elements when adding an event in the middle is cheap.
+     */
+    private static final class Bucket {
+        private SimEvent[] events = new SimEvent[4];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        SimEvent last() {
+            return events[size - 1];
+        }
+
+        SimEvent removeLast() {
+            final SimEvent evt = events[--size];
+            events[size] = null;
+            return evt;
+        }
+
+        /**
+         * Adds an event after all the ones that have to be processed before or together with it.
+         * @param evt the event to add
+         */
+        void add(final SimEvent evt) {
+            //Finds the first position containing an event that is lower than or equal to the new one
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (COMPARATOR.compare(events[mid], evt) <= 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            insertAt(low, evt);
+        }
+
+        /**
+         * Adds an event before all the ones that have to be processed after or together with it.
+         * @param evt the event to add
+         */
+        void addFirst(final SimEvent evt) {
+            //Finds the first position containing an event that is lower than the new one
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (COMPARATOR.compare(events[mid], evt) < 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            insertAt(low, evt);
+        }
+
+        private void insertAt(final int index, final SimEvent evt) {
+            if (size == events.length) {
+                events = Arrays.copyOf(events, size * 2);
+            }
+
+            System.arraycopy(events, index, events, index + 1, size - index);
+            events[index] = evt;
+            size++;
+        }
+
+        boolean remove(final SimEvent evt) {
+            //Starts from the end because usually the first event is the one removed
+            for (int i = size - 1; i >= 0; i--) {
+                if (events[i] == evt) {
+                    System.arraycopy(events, i + 1, events, i, size - i - 1);
+                    events[--size] = null;
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Removes the events matching a given predicate.
+         * @param predicate the predicate to select events to remove
+         * @return the number of removed events
+         */
+        int removeIf(final Predicate<SimEvent> predicate) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!predicate.test(events[i])) {
+                    events[kept++] = events[i];
+                }
+            }
+
+            final int removed = size - kept;
+            Arrays.fill(events, kept, size, null);
+            size = kept;
+            return removed;
+        }
+    }
+}
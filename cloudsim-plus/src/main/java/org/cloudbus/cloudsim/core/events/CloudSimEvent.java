@@ -24,17 +24,19 @@ import java.util.Objects;
  * @see SimEntity
  */
 public final class CloudSimEvent implements SimEvent {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getSimulation()
      */
     private Simulation simulation;
 
-    private final Type type;
+    private Type type;
 
     /**
      * The actual simulation time that this event was scheduled to (at which it should occur).
      */
-    private final double time;
+    private double time;
 
     /**
      * Time that the event was removed from the queue to start service.
@@ -51,15 +53,22 @@ public final class CloudSimEvent implements SimEvent {
      */
     private SimEntity dest;
 
-    private final int tag;
+    private int tag;
 
-    private final Object data;
+    private Object data;
 
     /**
      * @see #getSerial()
      */
     private long serial = -1;
 
+    /**
+     * The pool this event belongs to, or null if the event is not pooled
+     * (it was not taken from an {@link EventPool}, it has already returned to the pool
+     * or it has escaped from it).
+     */
+    EventPool pool;
+
     /**
      * Creates a {@link Type#SEND} CloudSimEvent.
      * @param delay how many seconds after the current simulation time the event should be scheduled
@@ -142,8 +151,9 @@ public final class CloudSimEvent implements SimEvent {
      */
     public CloudSimEvent(final SimEvent src) {
         this(
-            src.getType(), src.getTime(),
+            src.getType(), 0,
             src.getSource(), src.getDestination(), src.getTag(), src.getData());
+        this.time = src.getTime();
     }
 
     /**
@@ -159,6 +169,20 @@ public final class CloudSimEvent implements SimEvent {
         final Type type, final double delay,
         final SimEntity src, final SimEntity dest,
         final int tag, final Object data)
+    {
+        init(type, delay, src, dest, tag, data);
+    }
+
+    /**
+     * Initializes the attributes of the event.
+     * It's used both when the event is created and when it's reused from an {@link EventPool}.
+     * @see #CloudSimEvent(Type, double, SimEntity, SimEntity, int, Object)
+     * @return this event
+     */
+    CloudSimEvent init(
+        final Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
     {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay can't be negative.");
@@ -171,6 +195,19 @@ public final class CloudSimEvent implements SimEvent {
         this.time = simulation.clock() + delay;
         this.tag = tag;
         this.data = data;
+        this.serial = -1;
+        this.endWaitingTime = 0;
+        return this;
+    }
+
+    /**
+     * Clears the references held by the event, so that a pooled event
+     * doesn't keep objects alive while it's not being used.
+     */
+    void clear() {
+        this.src = SimEntity.NULL;
+        this.dest = SimEntity.NULL;
+        this.data = null;
     }
 
     @Override
@@ -1,5 +1,8 @@
 package org.cloudbus.cloudsim.core.events;
 
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -12,24 +15,49 @@ import java.util.stream.Stream;
  * because the {@link LinkedList} provides constant O(1) complexity
  * to add elements to the end.
  *
+ * <p>Events are indexed by their {@link SimEvent#getDestination() destination entity},
+ * so that there is a separate time-ordered list for each entity.
+ * This way, getting the events for a given entity by calling {@link #stream(SimEntity)}
+ * just checks the events sent to such an entity,
+ * not the events from all entities.
+ * Since events are usually requested for a specific entity,
+ * this makes a huge difference for simulations with lots of entities
+ * (such as a large number of brokers).
+ * The {@link #iterator()} and {@link #stream()} methods, which return
+ * the events for all entities, require merging the lists of all entities.
+ * In that case, the order of events with the same time,
+ * but sent to different entities, is not defined.</p>
+ *
+ * <p>The list of an entity is removed as soon as it becomes empty,
+ * so that entities without deferred events don't use any memory.
+ * Since the lists are changed when events are removed,
+ * the queue must be accessed under the simulation lock when entities
+ * process events in parallel.</p>
+ *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.4.2
  */
 public class DeferredQueue implements EventQueue {
+    private static final long serialVersionUID = 1L;
+
     /**
-     * Despite the events are sorted by time and there are
+     * A map where each key is a destination entity and each value is the time-ordered list
+     * of events sent to that entity.
+     * It uses the identity of entities, as done when selecting events to an entity.
+     *
+     * <p>Despite the events are sorted by time and there are
      * sorted collections such as {@link java.util.SortedSet},
      * since the time of a new event is usually higher than the previous
      * one, in such a case, the {@link LinkedList#add(Object)} provides
-     * better performance, which is O(1).
+     * better performance, which is O(1).</p>
      */
-    private final List<SimEvent> list = new LinkedList<>();
+    private final Map<SimEntity, EntityEvents> eventsByEntity = new IdentityHashMap<>();
 
     /**
-     * The max time that an added event is scheduled.
+     * The total number of events in the queue.
      */
-    private double maxTime = -1;
+    private int size;
 
     private int addedToTail;
     private int addedToMiddle;
@@ -37,60 +65,82 @@ public class DeferredQueue implements EventQueue {
 
     /**
      * Adds a new event to the queue, preserving the temporal order
-     * of the events.
+     * of the events sent to the same destination entity.
      *
      * @param newEvent the event to be added to the queue.
      */
     public void addEvent(final SimEvent newEvent) {
-        // The event has to be inserted as the last of all events
-        // with the same event_time(). Yes, this matters.
-        final double eventTime = newEvent.getTime();
-        maxSize = Math.max(maxSize, list.size());
-        if (eventTime >= maxTime) {
-            list.add(newEvent);
-            maxTime = eventTime;
-            addedToTail++;
-            return;
-        }
-
-        /*
-         * Adds an event in some position from the tail of the list.
-         * If the event time is smaller than the maxTime, traverses the list
-         * to find the place to insert the event.
-         * It uses a reverse iterator because usually in such cases,
-         * the time of the new event is close to the last events.
-         * Starting from the tail of the list will ensure the lowest number
-         * of iterations on the best cases.
-         * */
-        final ListIterator<SimEvent> reverseIterator = list.listIterator(list.size() - 1);
-        while (reverseIterator.hasPrevious()) {
-            if (reverseIterator.previous().getTime() <= eventTime) {
-                reverseIterator.next();
-                reverseIterator.add(newEvent);
-                addedToMiddle++;
-                return;
-            }
-        }
-
-        list.add(newEvent);
+        maxSize = Math.max(maxSize, size);
+        size++;
+        eventsByEntity.computeIfAbsent(newEvent.getDestination(), dest -> new EntityEvents()).add(newEvent);
     }
 
     /**
      * Returns an iterator to the events in the queue.
      *
      * @return the iterator
+     * @see #stream(SimEntity)
      */
     public Iterator<SimEvent> iterator() {
-        return list.iterator();
+        final Iterator<SimEvent> it = sortedEvents().iterator();
+        return new Iterator<SimEvent>() {
+            private SimEvent last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public SimEvent next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if(last == null){
+                    throw new IllegalStateException();
+                }
+
+                DeferredQueue.this.remove(last);
+                last = null;
+            }
+        };
     }
 
     /**
      * Returns a stream to the elements into the queue.
      *
      * @return the stream
+     * @see #stream(SimEntity)
      */
     public Stream<SimEvent> stream() {
-        return list.stream();
+        return sortedEvents().stream();
+    }
+
+    /**
+     * Returns a stream to the events sent to a given entity,
+     * ordered by time.
+     * It just checks the events sent to such an entity.
+     *
+     * @param dest the destination entity to get the events
+     * @return the stream of events sent to the given entity
+     */
+    public Stream<SimEvent> stream(final SimEntity dest) {
+        final EntityEvents events = eventsByEntity.get(dest);
+        return events == null ? Stream.empty() : events.list.stream();
+    }
+
+    /**
+     * Gets a list with the events sent to all entities, ordered by time.
+     * @return the sorted list of events
+     */
+    private List<SimEvent> sortedEvents() {
+        final List<SimEvent> events = new ArrayList<>(size);
+        eventsByEntity.values().forEach(entityEvents -> events.addAll(entityEvents.list));
+        events.sort(Comparator.comparingDouble(SimEvent::getTime));
+        return events;
     }
 
     /**
@@ -99,22 +149,34 @@ public class DeferredQueue implements EventQueue {
      * @return the number of events in the queue.
      */
     public int size() {
-        return list.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return list.isEmpty();
+        return size == 0;
     }
 
     /**
      * Removes the event from the queue.
+     * It just checks the events sent to the same destination
+     * of the given event.
      *
      * @param event the event
      * @return true, if successful
      */
     public boolean remove(final SimEvent event) {
-        return list.remove(event);
+        final EntityEvents events = eventsByEntity.get(event.getDestination());
+        if(events == null || !events.remove(event)){
+            return false;
+        }
+
+        size--;
+        if(events.list.isEmpty()){
+            eventsByEntity.remove(event.getDestination());
+        }
+
+        return true;
     }
 
     /**
@@ -124,27 +186,52 @@ public class DeferredQueue implements EventQueue {
      * @return true, if successful
      */
     public boolean removeAll(final Collection<SimEvent> events) {
-        return list.removeAll(events);
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
     }
 
     public boolean removeIf(final Predicate<SimEvent> predicate) {
-        return list.removeIf(predicate);
+        final int previousSize = size;
+        final Iterator<EntityEvents> it = eventsByEntity.values().iterator();
+        while (it.hasNext()) {
+            final EntityEvents events = it.next();
+            final int entitySize = events.list.size();
+            events.list.removeIf(predicate);
+            size -= entitySize - events.list.size();
+            if(events.list.isEmpty()){
+                it.remove();
+            }
+        }
+
+        return size < previousSize;
     }
 
     /**
      * Clears the queue.
      */
     public void clear() {
-        list.clear();
+        eventsByEntity.clear();
+        size = 0;
     }
 
     @Override
     public SimEvent first() throws NoSuchElementException {
-        if (list.isEmpty()) {
+        SimEvent first = null;
+        for (final EntityEvents events : eventsByEntity.values()) {
+            if(first == null || events.list.getFirst().getTime() < first.getTime()){
+                first = events.list.getFirst();
+            }
+        }
+
+        if (first == null) {
             throw new NoSuchElementException("The Deferred Queue is empty.");
         }
 
-        return list.get(0);
+        return first;
     }
 
     /**
@@ -172,4 +259,69 @@ public class DeferredQueue implements EventQueue {
     public int getMaxSize() {
         return maxSize;
     }
+
+    /**
+     * The time-ordered list of events sent to a single entity.
+     */
+    private final class EntityEvents implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final LinkedList<SimEvent> list = new LinkedList<>();
+
+        /**
+         * The max time that an added event is scheduled.
+         */
+        private double maxTime = -1;
+
+        private void add(final SimEvent newEvent) {
+            // The event has to be inserted as the last of all events
+            // with the same event_time(). Yes, this matters.
+            final double eventTime = newEvent.getTime();
+            if (eventTime >= maxTime) {
+                list.add(newEvent);
+                maxTime = eventTime;
+                addedToTail++;
+                return;
+            }
+
+            /*
+             * Adds an event in some position from the tail of the list.
+             * If the event time is smaller than the maxTime, traverses the list
+             * to find the place to insert the event.
+             * It uses a reverse iterator because usually in such cases,
+             * the time of the new event is close to the last events.
+             * Starting from the tail of the list will ensure the lowest number
+             * of iterations on the best cases.
+             * */
+            final ListIterator<SimEvent> reverseIterator = list.listIterator(list.size());
+            while (reverseIterator.hasPrevious()) {
+                if (reverseIterator.previous().getTime() <= eventTime) {
+                    reverseIterator.next();
+                    reverseIterator.add(newEvent);
+                    addedToMiddle++;
+                    return;
+                }
+            }
+
+            list.addFirst(newEvent);
+        }
+
+        /**
+         * Removes an event from the list, checking the object identity
+         * to avoid removing a different event with the same time and serial.
+         * Since the event to be removed is usually one of the first ones, starts from the head of the list.
+         * @param event the event to remove
+         * @return true if the event was removed, false otherwise
+         */
+        private boolean remove(final SimEvent event) {
+            for (final Iterator<SimEvent> it = list.iterator(); it.hasNext(); ) {
+                if(it.next() == event){
+                    it.remove();
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A pool of {@link CloudSimEvent}s that enables reusing events
+ * after they are processed, instead of creating new ones.
+ * This reduces the number of objects to be garbage collected
+ * in simulations generating a large number of events.
+ *
+ * <p>An event taken from the pool by {@link #acquire(SimEvent.Type, double, SimEntity, SimEntity, int, Object)}
+ * returns to it when {@link #release(SimEvent)} is called.
+ * Events created directly by calling a {@link CloudSimEvent} constructor
+ * never return to the pool.
+ * If some code needs to keep a reference to a pooled event
+ * after it's processed, the event must be marked as escaped by calling
+ * {@link #escape(SimEvent)}, so that it's not reused anymore.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class EventPool implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of free events kept by the pool.
+     * Released events are discarded when the pool is full.
+     */
+    private static final int MAX_FREE_EVENTS = 1 << 16;
+
+    private final Deque<CloudSimEvent> freeEvents = new ArrayDeque<>();
+
+    /** @see #getCreatedEvents() */
+    private long createdEvents;
+
+    /** @see #getReusedEvents() */
+    private long reusedEvents;
+
+    /**
+     * Gets an event from the pool, or creates a new one if the pool is empty.
+     *
+     * @param type the internal type of the event
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message
+     * @return the event, initialized with the given attributes
+     */
+    public CloudSimEvent acquire(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        CloudSimEvent evt = freeEvents.pollLast();
+        if (evt == null) {
+            evt = new CloudSimEvent(type, delay, src, dest, tag, data);
+            createdEvents++;
+        } else {
+            evt.init(type, delay, src, dest, tag, data);
+            reusedEvents++;
+        }
+
+        evt.pool = this;
+        return evt;
+    }
+
+    /**
+     * Returns an event to the pool, if it was taken from this pool
+     * and has not escaped or been released yet.
+     * Otherwise, nothing is done.
+     *
+     * @param evt the event to return to the pool
+     */
+    public void release(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent) || ((CloudSimEvent) evt).pool != this) {
+            return;
+        }
+
+        final CloudSimEvent cloudSimEvent = (CloudSimEvent) evt;
+        cloudSimEvent.pool = null;
+        cloudSimEvent.clear();
+        if (freeEvents.size() < MAX_FREE_EVENTS) {
+            freeEvents.addLast(cloudSimEvent);
+        }
+    }
+
+    /**
+     * Marks an event as escaped, so that it never returns to a pool
+     * and can be safely kept after it's processed.
+     * It must be called for pooled events that remain referenced
+     * after they are processed.
+     *
+     * @param evt the event that escaped
+     */
+    public static void escape(final SimEvent evt) {
+        if (evt instanceof CloudSimEvent) {
+            ((CloudSimEvent) evt).pool = null;
+        }
+    }
+
+    /**
+     * Gets the number of events created by the pool because there was no free event to reuse.
+     */
+    public long getCreatedEvents() {
+        return createdEvents;
+    }
+
+    /**
+     * Gets the number of times a free event was reused instead of creating a new one.
+     */
+    public long getReusedEvents() {
+        return reusedEvents;
+    }
+}
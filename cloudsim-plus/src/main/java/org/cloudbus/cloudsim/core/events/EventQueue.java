@@ -6,6 +6,7 @@
  */
 package org.cloudbus.cloudsim.core.events;
 
+import java.io.Serializable;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
@@ -17,7 +18,7 @@ import java.util.stream.Stream;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface EventQueue {
+public interface EventQueue extends Serializable {
     /**
      * Adds a new event to the queue. Adding a new event to the queue preserves the temporal order of
      * the events in the queue.
@@ -0,0 +1,102 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An interface to be implemented by {@link EventQueue}s that store
+ * the events to be processed in a future simulation time.
+ * Events are ordered by their {@link SimEvent#getTime() time}
+ * and then by their {@link SimEvent#getSerial() serial}.
+ * Events having the same time and serial are kept in the order they were added.
+ *
+ * <p>The implementation to be used by a simulation can be given
+ * when instantiating the {@link CloudSim} object.</p>
+ *
+ * @see FutureQueue
+ * @see CalendarQueue
+ * @since CloudSim Plus 5.6.0
+ */
+public interface FutureEventQueue extends EventQueue {
+    /**
+     * Adds a new event to the head of the queue.
+     *
+     * @param newEvent The event to be put in the queue.
+     */
+    void addEventFirst(SimEvent newEvent);
+
+    /**
+     * Removes the event from the queue.
+     *
+     * @param event the event
+     * @return true, if successful
+     */
+    boolean remove(SimEvent event);
+
+    /**
+     * Removes all the events from the queue.
+     *
+     * @param events the events
+     * @return true, if successful
+     */
+    boolean removeAll(Collection<SimEvent> events);
+
+    /**
+     * Removes all the events matching a given predicate.
+     *
+     * @param predicate the predicate to select the events to remove
+     * @return true if any event was removed, false otherwise
+     */
+    boolean removeIf(Predicate<SimEvent> predicate);
+
+    /**
+     * Removes all the events happening at a given time from the head of the queue,
+     * without checking any event after them.
+     * If the {@link #first()} event is not at such a time, no event is removed.
+     *
+     * @param time the time of the events to remove
+     * @return the list of removed events, in the order they must be processed
+     *         (which is empty if there is no event at the given time on the head of the queue)
+     */
+    List<SimEvent> pollAllAt(double time);
+
+    /**
+     * Clears the queue.
+     */
+    void clear();
+
+    /** Gets an incremental number used for {@link SimEvent#getSerial()} event attribute. */
+    long getSerial();
+
+    /**
+     * Maximum number of events that have ever existed at the same time
+     * inside the queue.
+     */
+    long getMaxEventsNumber();
+}
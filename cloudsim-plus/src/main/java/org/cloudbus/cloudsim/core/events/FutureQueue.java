@@ -8,6 +8,8 @@
 
 package org.cloudbus.cloudsim.core.events;
 
+import org.cloudbus.cloudsim.core.SimEntity;
+
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -18,18 +20,21 @@ import java.util.stream.Stream;
  * are stored ordered. Using a {@link java.util.LinkedList}
  * as defined by {@link DeferredQueue} to improve performance
  * doesn't work for this queue.
+ * It is the default queue used by a {@link org.cloudbus.cloudsim.core.CloudSim} instance.
  *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @see java.util.TreeSet
+ * @see CalendarQueue
  * @since CloudSim Toolkit 1.0
  */
-public class FutureQueue implements EventQueue {
+public class FutureQueue implements FutureEventQueue {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The sorted set of events.
      */
-    private final SortedSet<SimEvent> sortedSet = new TreeSet<>();
+    private final NavigableSet<SimEvent> sortedSet = new TreeSet<>();
 
     /** @see #getSerial() */
     private long serial;
@@ -44,11 +49,7 @@ public class FutureQueue implements EventQueue {
         maxEventsNumber = Math.max(maxEventsNumber, sortedSet.size());
     }
 
-    /**
-     * Adds a new event to the head of the queue.
-     *
-     * @param newEvent The event to be put in the queue.
-     */
+    @Override
     public void addEventFirst(final SimEvent newEvent) {
         newEvent.setSerial(0);
         sortedSet.add(newEvent);
@@ -74,26 +75,38 @@ public class FutureQueue implements EventQueue {
         return sortedSet.isEmpty();
     }
 
-    /**
-     * Removes the event from the queue.
-     *
-     * @param event the event
-     * @return true, if successful
-     */
+    @Override
     public boolean remove(final SimEvent event) {
-        return sortedSet.remove(event);
+        if(sortedSet.remove(event)){
+            return true;
+        }
+
+        /* SimEvent.compareTo() doesn't return 0 for distinct events having the same time and serial
+         * (such as the ones added by addEventFirst), so the TreeSet may not find the event.
+         * In such a case, checks just the events having the same time and serial. */
+        final SimEvent lowerBound = new CloudSimEvent(event.getTime(), SimEntity.NULL, SimEntity.NULL, 0, null);
+        lowerBound.setSerial(event.getSerial()-1);
+        for (final Iterator<SimEvent> it = sortedSet.tailSet(lowerBound).iterator(); it.hasNext(); ) {
+            final SimEvent evt = it.next();
+            if(evt.getTime() != event.getTime() || evt.getSerial() != event.getSerial()){
+                return false;
+            }
+
+            if(evt == event){
+                it.remove();
+                return true;
+            }
+        }
+
+        return false;
     }
 
-    /**
-     * Removes all the events from the queue.
-     *
-     * @param events the events
-     * @return true, if successful
-     */
+    @Override
     public boolean removeAll(final Collection<SimEvent> events) {
         return sortedSet.removeAll(events);
     }
 
+    @Override
     public boolean removeIf(final Predicate<SimEvent> predicate){
         return sortedSet.removeIf(predicate);
     }
@@ -103,22 +116,27 @@ public class FutureQueue implements EventQueue {
         return sortedSet.first();
     }
 
-    /**
-     * Clears the queue.
-     */
+    @Override
+    public List<SimEvent> pollAllAt(final double time) {
+        final List<SimEvent> events = new ArrayList<>();
+        while(!sortedSet.isEmpty() && sortedSet.first().getTime() == time){
+            events.add(sortedSet.pollFirst());
+        }
+
+        return events;
+    }
+
+    @Override
     public void clear() {
         sortedSet.clear();
     }
 
-    /** Gets an incremental number used for {@link SimEvent#getSerial()} event attribute. */
+    @Override
     public long getSerial() {
         return serial;
     }
 
-    /**
-     * Maximum number of events that have ever existed at the same time
-     * inside the queue.
-     */
+    @Override
     public long getMaxEventsNumber() {
         return maxEventsNumber;
     }
@@ -13,6 +13,8 @@ import org.cloudsimplus.listeners.EventListener;
  * @see SimEvent#NULL
  */
 final class SimEventNull implements SimEvent {
+    private static final long serialVersionUID = 1L;
+
     @Override public SimEvent setSimulation(Simulation simulation) { return this; }
     @Override public Type getType() { return Type.NULL; }
     @Override public SimEntity getDestination() { return SimEntity.NULL; }
@@ -62,6 +62,16 @@ public interface Datacenter extends SimEntity, PowerAware<PowerModelDatacenter>,
      */
     void requestVmMigration(Vm sourceVm, Host targetHost);
 
+    /**
+     * Requests the processing of a given Host to be updated
+     * the next times the Datacenter processing is updated,
+     * since the {@link Host#isProcessingUpdateRequired()} value of the Host may have changed to true.
+     * The default implementation does nothing.
+     *
+     * @param host the Host to update the processing
+     */
+    default void requestHostProcessingUpdate(final Host host){/**/}
+
     /**
      * Gets an <b>unmodifiable</b> host list.
      *
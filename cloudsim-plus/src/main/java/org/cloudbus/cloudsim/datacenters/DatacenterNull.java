@@ -21,6 +21,8 @@ import java.util.List;
  * @see Datacenter#NULL
  */
 final class DatacenterNull implements Datacenter, SimEntityNullBase {
+    private static final long serialVersionUID = 1L;
+
     private static final DatacenterStorage STORAGE = new DatacenterStorage();
 
     @Override public int compareTo(SimEntity entity) { return 0; }
@@ -10,8 +10,10 @@ import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
 import org.cloudbus.cloudsim.allocationpolicies.migration.VmAllocationPolicyMigration;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudInformationService;
 import org.cloudbus.cloudsim.core.CloudSimEntity;
 import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.DeferredSideEffects;
 import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.core.events.PredicateType;
 import org.cloudbus.cloudsim.core.events.SimEvent;
@@ -32,7 +34,10 @@ import org.cloudsimplus.faultinjection.HostFaultInjection;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
 
+import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -47,6 +52,7 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterSimple extends CloudSimEntity implements Datacenter {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The last time some Host on the Datacenter was under or overloaded.
@@ -70,6 +76,45 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     private List<? extends Host> hostList;
 
+    /**
+     * The position of each Host in the {@link #hostList}.
+     */
+    private final Map<Host, Integer> hostIndexes = new IdentityHashMap<>();
+
+    /**
+     * The positions in the {@link #hostList} of the Hosts whose processing has to be updated,
+     * so that Hosts without VMs aren't updated every time the Datacenter processing is.
+     * It may include Hosts that don't {@link Host#isProcessingUpdateRequired() require}
+     * such an update anymore, which are removed after their next update.
+     */
+    private final BitSet hostsToUpdate = new BitSet();
+
+    /**
+     * The minimum number of Hosts whose processing is updated by each parallel task,
+     * when {@link #isUpdateHostsInParallel() Hosts are updated in parallel}.
+     */
+    private static final int MIN_HOSTS_PER_PARALLEL_TASK = 64;
+
+    private static final ParallelHostUpdate[] NO_PARALLEL_HOST_UPDATES = new ParallelHostUpdate[0];
+
+    /** @see #isUpdateOnlyDueHosts() */
+    private boolean updateOnlyDueHosts;
+
+    /** @see #isUpdateHostsInParallel() */
+    private boolean updateHostsInParallel;
+
+    /**
+     * The next time the processing of each Host has to be updated,
+     * sorted by such a time, when {@link #isUpdateOnlyDueHosts() only due Hosts are updated}.
+     * The Hosts in this set aren't in {@link #hostsToUpdate} until such a time is reached.
+     */
+    private final TreeSet<HostUpdateTime> hostUpdateTimes = new TreeSet<>();
+
+    /**
+     * The entry in {@link #hostUpdateTimes} for each Host.
+     */
+    private final Map<Host, HostUpdateTime> hostUpdateTimeMap = new IdentityHashMap<>();
+
     /** @see #getCharacteristics() */
     private final DatacenterCharacteristics characteristics;
 
@@ -208,6 +253,22 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
 
         Simulation.setIdForEntitiesWithoutOne(this.hostList);
+        indexHosts();
+    }
+
+    /**
+     * Stores the position of each Host in the {@link #hostList}
+     * and requests the processing of all of them to be updated.
+     */
+    private void indexHosts() {
+        hostUpdateTimes.clear();
+        hostUpdateTimeMap.clear();
+        hostIndexes.clear();
+        for (int i = 0; i < hostList.size(); i++) {
+            hostIndexes.put(hostList.get(i), i);
+        }
+
+        hostsToUpdate.set(0, hostList.size());
     }
 
     @Override
@@ -253,7 +314,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     private void processHostRemovalRequest(final SimEvent srcEvt) {
         final long hostId = (long)srcEvt.getData();
         final Host host = getHostById(hostId);
+        final CloudInformationService cis = getSimulation().getCloudInfoService();
         if(host == Host.NULL) {
+            cis.finishHostRemovalRequest(srcEvt, false);
             LOGGER.warn(
                 "{}: {}: Host {} was not found to be removed from {}.",
                 getSimulation().clockStr(), getClass().getSimpleName(), hostId, this);
@@ -271,9 +334,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
 
         /*If the Host was found in this Datacenter, cancel the message sent to others
-        * Datacenters to try to find the Host for removal.*/
+        * Datacenters to try to find the Host for removal.
+        * Requests not sent by CloudInformationService.scheduleHostRemoval are searched in the future queue.*/
+        if(cis.finishHostRemovalRequest(srcEvt, true)) {
+            return;
+        }
+
         getSimulation().cancelAll(
-            getSimulation().getCloudInfoService(),
+            cis,
             evt -> MathUtil.same(evt.getTime(), srcEvt.getTime()) &&
                    evt.getTag() == CloudSimTags.HOST_REMOVE &&
                    (long)evt.getData() == host.getId());
@@ -340,7 +408,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return false;
         }
 
-        return vmAllocationPolicy.scaleVmVertically((VerticalVmScaling)evt.getData());
+        final VerticalVmScaling scaling = (VerticalVmScaling)evt.getData();
+        requestHostProcessingUpdate(scaling.getVm().getHost());
+        return vmAllocationPolicy.scaleVmVertically(scaling);
     }
 
     private boolean processCloudletEvents(final SimEvent evt) {
@@ -461,6 +531,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         // time to transfer cloudlet's files
         final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles());
 
+        requestHostProcessingUpdate(cloudlet.getVm().getHost());
         final CloudletScheduler scheduler = cloudlet.getVm().getCloudletScheduler();
         final double estimatedFinishTime = scheduler.cloudletSubmit(cloudlet, fileTransferTime);
 
@@ -516,6 +587,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * acknowledge message when the event finishes to be processed
      */
     protected void processCloudletResume(final Cloudlet cloudlet, final boolean ack) {
+        requestHostProcessingUpdate(cloudlet.getVm().getHost());
         final double estimatedFinishTime = cloudlet.getVm()
             .getCloudletScheduler().cloudletResume(cloudlet);
 
@@ -542,6 +614,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * acknowledge message when the event finishes to be processed
      */
     protected void processCloudletPause(final Cloudlet cloudlet, final boolean ack) {
+        requestHostProcessingUpdate(cloudlet.getVm().getHost());
         cloudlet.getVm().getCloudletScheduler().cloudletPause(cloudlet);
         sendAck(ack, cloudlet, CloudSimTags.CLOUDLET_PAUSE_ACK);
     }
@@ -552,6 +625,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @param cloudlet cloudlet to be canceled
      */
     protected void processCloudletCancel(final Cloudlet cloudlet) {
+        requestHostProcessingUpdate(cloudlet.getVm().getHost());
         cloudlet.getVm().getCloudletScheduler().cloudletCancel(cloudlet);
         sendNow(cloudlet.getBroker(), CloudSimTags.CLOUDLET_CANCEL, cloudlet);
     }
@@ -591,6 +665,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     protected void processVmDestroy(final SimEvent evt, final boolean ack) {
         final Vm vm = (Vm) evt.getData();
+        requestHostProcessingUpdate(vm.getHost());
         vmAllocationPolicy.deallocateHostForVm(vm);
 
         if (ack) {
@@ -638,6 +713,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final Host targetHost = entry.getValue();
 
         //Updates processing of all Hosts to get their latest state before migrating VMs
+        requestHostProcessingUpdate(vm.getHost());
         updateHostsProcessing();
 
         //De-allocates the VM on the source Host (where it is migrating out)
@@ -714,7 +790,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     }
 
     /**
-     * Updates the processing of all Hosts, meaning
+     * Updates the processing of all Hosts that
+     * {@link Host#isProcessingUpdateRequired() require} it, meaning
      * it makes the processing of VMs running inside such hosts to be updated.
      * Finally, the processing of Cloudlets running inside such VMs is updated too.
      *
@@ -723,15 +800,46 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
      */
     private double updateHostsProcessing() {
+        //The Host list given to the constructor may have been changed directly
+        if (hostIndexes.size() != hostList.size()) {
+            hostsToUpdate.clear();
+            indexHosts();
+        }
+
+        if (updateOnlyDueHosts) {
+            addDueHostsToUpdate();
+        }
+
+        final ParallelHostUpdate[] parallelUpdates = updateHostsInParallel ? updateHostsWithVmsInParallel() : NO_PARALLEL_HOST_UPDATES;
+        int nextParallelUpdate = 0;
         double nextSimulationDelay = Double.MAX_VALUE;
-        for (final Host host : getHostList()) {
-            final double delay = host.updateProcessing(clock());
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final Host host = hostList.get(i);
+            final double delay;
+            if (nextParallelUpdate < parallelUpdates.length && parallelUpdates[nextParallelUpdate].hostIndex == i) {
+                delay = parallelUpdates[nextParallelUpdate++].applySideEffects();
+            } else {
+                delay = host.updateProcessing(clock());
+            }
+
             nextSimulationDelay = Math.min(delay, nextSimulationDelay);
+            if (!host.isProcessingUpdateRequired()) {
+                hostsToUpdate.clear(i);
+                removeHostUpdateTime(host);
+            } else if (updateOnlyDueHosts && delay != Double.MAX_VALUE) {
+                hostsToUpdate.clear(i);
+                addHostUpdateTime(host, i, delay);
+            } else if (updateOnlyDueHosts && isThereJustIdleVms(host)) {
+                hostsToUpdate.clear(i);
+                removeHostUpdateTime(host);
+            }
         }
 
-        // Guarantees a minimal interval before scheduling the event
-        final double minTimeBetweenEvents = getSimulation().getMinTimeBetweenEvents()+0.01;
-        nextSimulationDelay = nextSimulationDelay == 0 ? nextSimulationDelay : Math.max(nextSimulationDelay, minTimeBetweenEvents);
+        if (updateOnlyDueHosts) {
+            nextSimulationDelay = hostUpdateTimes.isEmpty() ? Double.MAX_VALUE : hostUpdateTimes.first().time - clock();
+        }
+
+        nextSimulationDelay = getMinDelayBetweenUpdates(nextSimulationDelay);
 
         if (nextSimulationDelay == Double.MAX_VALUE) {
             return nextSimulationDelay;
@@ -740,6 +848,133 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationDelay;
     }
 
+    /**
+     * Updates the processing of the Hosts to be updated which have VMs,
+     * using the {@link ForkJoinPool#commonPool()}.
+     * Hosts without VMs are cheap to update and may be shut down when idle,
+     * changing objects shared with other Hosts, so they are updated sequentially.
+     *
+     * @return the updates of the Hosts, sorted by Host index,
+     *         whose side effects have to be applied in such an order;
+     *         or an empty array if there are too few Hosts or threads to update Hosts in parallel
+     */
+    private ParallelHostUpdate[] updateHostsWithVmsInParallel() {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (parallelism < 2) {
+            return NO_PARALLEL_HOST_UPDATES;
+        }
+
+        final List<ParallelHostUpdate> updates = new ArrayList<>();
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final Host host = hostList.get(i);
+            if (!host.getVmList().isEmpty()) {
+                updates.add(new ParallelHostUpdate(host, i));
+            }
+        }
+
+        final int tasksNumber = Math.min(updates.size() / MIN_HOSTS_PER_PARALLEL_TASK, parallelism * 4);
+        if (tasksNumber < 2) {
+            return NO_PARALLEL_HOST_UPDATES;
+        }
+
+        final double time = clock();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(tasksNumber);
+        for (int i = 0; i < tasksNumber; i++) {
+            final List<ParallelHostUpdate> chunk = updates.subList(updates.size() * i / tasksNumber, updates.size() * (i + 1) / tasksNumber);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> chunk.forEach(update -> update.run(time))));
+        }
+
+        tasks.forEach(ForkJoinTask::join);
+        return updates.toArray(NO_PARALLEL_HOST_UPDATES);
+    }
+
+    /**
+     * Guarantees a minimal interval before scheduling the next processing update.
+     * @param delay the delay until the next processing update
+     * @return the given delay or the minimal interval between events, if the delay is lower than that
+     */
+    private double getMinDelayBetweenUpdates(final double delay) {
+        final double minTimeBetweenEvents = getSimulation().getMinTimeBetweenEvents()+0.01;
+        return delay == 0 ? delay : Math.max(delay, minTimeBetweenEvents);
+    }
+
+    /**
+     * Moves the Hosts whose next processing update time was reached
+     * from the {@link #hostUpdateTimes} to the {@link #hostsToUpdate}.
+     */
+    private void addDueHostsToUpdate() {
+        while (!hostUpdateTimes.isEmpty()) {
+            final HostUpdateTime next = hostUpdateTimes.first();
+            if (next.time > clock() && !MathUtil.same(next.time, clock())) {
+                return;
+            }
+
+            hostUpdateTimes.pollFirst();
+            hostUpdateTimeMap.remove(next.host);
+            hostsToUpdate.set(next.hostIndex);
+        }
+    }
+
+    /**
+     * Defines the next time the processing of a Host has to be updated,
+     * in the same way the next update of the whole Datacenter is scheduled.
+     * @param host the Host to define the next processing update time
+     * @param hostIndex the position of the Host in the {@link #hostList}
+     * @param delay the delay returned by the last processing update of the Host
+     */
+    private void addHostUpdateTime(final Host host, final int hostIndex, final double delay) {
+        removeHostUpdateTime(host);
+        final double time = clock() + getCloudletProcessingUpdateInterval(getMinDelayBetweenUpdates(delay));
+        final HostUpdateTime hostUpdateTime = new HostUpdateTime(host, hostIndex, time);
+        hostUpdateTimes.add(hostUpdateTime);
+        hostUpdateTimeMap.put(host, hostUpdateTime);
+    }
+
+    /**
+     * Checks if the processing of a Host was already updated at the current simulation time,
+     * given by the last time the processing of the Cloudlets of each one of its VMs was updated.
+     * @param host the Host to check
+     * @return true if the Host processing is up-to-date, false otherwise
+     */
+    private boolean isHostProcessingUpToDate(final Host host) {
+        for (final Vm vm : host.getVmList()) {
+            if (!MathUtil.same(vm.getCloudletScheduler().getPreviousTime(), clock())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a Host has VMs and all of them are idle.
+     * When {@link #isUpdateOnlyDueHosts() only due Hosts are updated},
+     * such a Host isn't updated until a change in it is {@link #requestHostProcessingUpdate(Host) requested}.
+     * @param host the Host to check
+     * @return true if the Host has only idle VMs, false otherwise
+     */
+    private static boolean isThereJustIdleVms(final Host host) {
+        final List<Vm> vmList = host.getVmList();
+        if (vmList.isEmpty()) {
+            return false;
+        }
+
+        for (final Vm vm : vmList) {
+            if (!vm.getCloudletScheduler().isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void removeHostUpdateTime(final Host host) {
+        final HostUpdateTime hostUpdateTime = hostUpdateTimeMap.remove(host);
+        if (hostUpdateTime != null) {
+            hostUpdateTimes.remove(hostUpdateTime);
+        }
+    }
+
     /**
      * Updates processing of each Host, that fires the update of VMs,
      * which in turn updates cloudlets running in this Datacenter.
@@ -875,6 +1110,118 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         sendNow(getSimulation().getCloudInfoService(), CloudSimTags.DATACENTER_REGISTRATION_REQUEST, this);
     }
 
+    /**
+     * {@inheritDoc}
+     * When {@link #isUpdateOnlyDueHosts() only due Hosts are updated},
+     * the Host is updated in the next Datacenter processing update,
+     * even if its next processing update time was not reached yet.
+     * If the Host is waiting for such a time, its processing is updated
+     * up to the current time right away, since this method is called
+     * when the capacity of the Host, its VMs or the Cloudlets inside them is about to change.
+     * This way, the progress of such Cloudlets is not computed with the new capacity.
+     *
+     * @param host {@inheritDoc}
+     */
+    @Override
+    public void requestHostProcessingUpdate(final Host host) {
+        if (DeferredSideEffects.isDeferring()) {
+            DeferredSideEffects.runOrDefer(() -> requestHostProcessingUpdate(host));
+            return;
+        }
+
+        final Integer index = hostIndexes.get(host);
+        if(index == null) {
+            return;
+        }
+
+        hostsToUpdate.set(index);
+        if (hostUpdateTimeMap.containsKey(host)) {
+            removeHostUpdateTime(host);
+            if (!isHostProcessingUpToDate(host)) {
+                host.updateProcessing(clock());
+            }
+        }
+    }
+
+    /**
+     * Checks if the processing of each Host is updated just when it's due,
+     * instead of updating all Hosts every time the Datacenter processing is updated.
+     * The processing of a Host is due at the time it expects the next Cloudlet to finish
+     * (limited by the {@link #getSchedulingInterval() scheduling interval}, if it's set)
+     * or when it's {@link #requestHostProcessingUpdate(Host) requested},
+     * such as when a Cloudlet is submitted to, paused, resumed or canceled in one of its VMs,
+     * or when the Host PEs, the MIPS allocated to its VMs or the VMs PEs change.
+     * A Host whose VMs are all idle isn't updated until some of such changes happens.
+     *
+     * <p>It's disabled by default. It reduces the processing time of simulations
+     * with many Hosts running Cloudlets which finish at different times.
+     * However, Hosts are not updated when other Hosts are,
+     * so Cloudlets whose resource usage changes along the time
+     * (such as Cloudlets with a {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic})
+     * have such usage updated less often, unless a scheduling interval is set.
+     * For the same reason, Host listeners and state history
+     * are just notified/updated when the Host processing is.</p>
+     *
+     * @return true if only due Hosts are updated, false if all Hosts are updated
+     */
+    public boolean isUpdateOnlyDueHosts() {
+        return updateOnlyDueHosts;
+    }
+
+    /**
+     * Enables or disables updating the processing of each Host just when it's due.
+     * @param updateOnlyDueHosts true to update only due Hosts, false to update all Hosts
+     * @return this Datacenter
+     * @see #isUpdateOnlyDueHosts()
+     */
+    public DatacenterSimple setUpdateOnlyDueHosts(final boolean updateOnlyDueHosts) {
+        if (!updateOnlyDueHosts) {
+            hostUpdateTimes.forEach(hostUpdateTime -> hostsToUpdate.set(hostUpdateTime.hostIndex));
+            hostUpdateTimes.clear();
+            hostUpdateTimeMap.clear();
+        }
+
+        this.updateOnlyDueHosts = updateOnlyDueHosts;
+        return this;
+    }
+
+    /**
+     * Checks if the processing of Hosts having VMs is updated in parallel,
+     * using the {@link ForkJoinPool#commonPool()}.
+     * Since each Host has its own VMs and Cloudlets, their processing can be updated independently.
+     * The side effects of such updates, which change objects shared among Hosts
+     * (such as sending events, notifying listeners and requesting a broker to destroy idle VMs),
+     * are deferred and then applied in the order of the Hosts,
+     * as if they were updated sequentially.
+     * This way, the simulation results are the same as in a sequential execution.
+     *
+     * <p>It's disabled by default. It's worth enabling in simulations with thousands of busy Hosts,
+     * since Hosts are just updated in parallel when each parallel task
+     * can update at least {@value #MIN_HOSTS_PER_PARALLEL_TASK} Hosts with VMs
+     * and the common pool has more than one thread.
+     * Since listeners are notified after their Hosts are updated,
+     * they see the state of VMs and Cloudlets at the end of such an update.
+     * Objects shared among Cloudlets in different Hosts
+     * (such as a {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic})
+     * must be thread-safe and listeners must not change objects inside other Hosts.</p>
+     *
+     * @return true if Hosts are updated in parallel, false otherwise
+     */
+    public boolean isUpdateHostsInParallel() {
+        return updateHostsInParallel;
+    }
+
+    /**
+     * Enables or disables updating the processing of Hosts in parallel.
+     * @param updateHostsInParallel true to update Hosts in parallel, false to update them sequentially
+     * @return this Datacenter
+     * @see #isUpdateHostsInParallel()
+     */
+    public DatacenterSimple setUpdateHostsInParallel(final boolean updateHostsInParallel) {
+        this.updateHostsInParallel = updateHostsInParallel;
+        return this;
+    }
+
     @Override
     public <T extends Host> List<T> getHostList() {
         return (List<T>)Collections.unmodifiableList(hostList);
@@ -1013,6 +1360,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         host.setDatacenter(this);
         ((List<T>)hostList).add(host);
+        hostIndexes.put(host, hostList.size() - 1);
+        hostsToUpdate.set(hostList.size() - 1);
 
         //Sets the Datacenter again so that the new Host is registered internally on the VmAllocationPolicy
         vmAllocationPolicy.setDatacenter(this);
@@ -1025,7 +1374,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public <T extends Host> Datacenter removeHost(final T host) {
-        hostList.remove(host);
+        if(hostList.remove(host)) {
+            hostsToUpdate.clear();
+            indexHosts();
+        }
+
         return this;
     }
 
@@ -1047,9 +1400,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public int hashCode() {
-        int result = super.hashCode();
-        result = 31 * result + characteristics.hashCode();
-        return result;
+        //The characteristics are not included since they may not be set yet while the Datacenter is restored from a checkpoint
+        return super.hashCode();
     }
 
     @Override
@@ -1132,4 +1484,60 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         this.hostSearchForMigrationDelay = hostSearchDelay;
         return this;
     }
+
+    /**
+     * The next time the processing of a Host has to be updated.
+     */
+    private static final class HostUpdateTime implements Comparable<HostUpdateTime>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Host host;
+        private final int hostIndex;
+        private final double time;
+
+        private HostUpdateTime(final Host host, final int hostIndex, final double time) {
+            this.host = host;
+            this.hostIndex = hostIndex;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(final HostUpdateTime other) {
+            final int timeComparison = Double.compare(time, other.time);
+            return timeComparison == 0 ? Integer.compare(hostIndex, other.hostIndex) : timeComparison;
+        }
+    }
+
+    /**
+     * The update of the processing of a Host executed in parallel with other ones,
+     * whose side effects are applied afterwards.
+     */
+    private static final class ParallelHostUpdate {
+        private final Host host;
+        private final int hostIndex;
+        private double delay;
+        private List<Runnable> sideEffects;
+
+        private ParallelHostUpdate(final Host host, final int hostIndex) {
+            this.host = host;
+            this.hostIndex = hostIndex;
+        }
+
+        /**
+         * Updates the processing of the Host, deferring the side effects of such an update.
+         * @param time the current simulation time
+         */
+        private void run(final double time) {
+            sideEffects = DeferredSideEffects.runDeferring(() -> delay = host.updateProcessing(time));
+        }
+
+        /**
+         * Applies the side effects of the Host update.
+         * @return the delay returned by the Host update
+         */
+        private double applySideEffects() {
+            sideEffects.forEach(Runnable::run);
+            return delay;
+        }
+    }
 }
@@ -44,6 +44,7 @@ import static java.util.stream.Collectors.toList;
  *
  */
 public class NetworkDatacenter extends DatacenterSimple {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSwitchMap()
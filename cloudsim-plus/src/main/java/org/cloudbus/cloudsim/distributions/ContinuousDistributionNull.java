@@ -11,6 +11,8 @@ import org.apache.commons.math3.exception.OutOfRangeException;
  * @see ContinuousDistribution#NULL
  */
 final class ContinuousDistributionNull implements ContinuousDistribution {
+    private static final long serialVersionUID = 1L;
+
     @Override public double originalSample() { return 0; }
     @Override public double probability(double v) { return 0; }
     @Override public double density(double v) { return 0; }
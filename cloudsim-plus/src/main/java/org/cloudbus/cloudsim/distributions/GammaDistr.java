@@ -21,6 +21,8 @@ import org.apache.commons.math3.random.RandomGenerator;
  * @since CloudSim Toolkit 1.0
  */
 public class GammaDistr extends GammaDistribution implements ContinuousDistribution {
+    private static final long serialVersionUID = 1L;
+
     /** @see #isApplyAntitheticVariates() */
     private boolean applyAntitheticVariates;
 
@@ -20,6 +20,8 @@ import org.apache.commons.math3.random.RandomGenerator;
  * @since CloudSim Toolkit 1.0
  */
 public class LomaxDistr extends ParetoDistr implements ContinuousDistribution {
+    private static final long serialVersionUID = 1L;
+
     private long seed;
 
     /**
@@ -11,6 +11,8 @@ import org.apache.commons.math3.random.RandomGenerator;
  * @author Manoel Campos da Silva Filho
  */
 public class NormalDistr extends NormalDistribution implements ContinuousDistribution{
+    private static final long serialVersionUID = 1L;
+
     /** @see #isApplyAntitheticVariates() */
     private boolean applyAntitheticVariates;
     private long seed;
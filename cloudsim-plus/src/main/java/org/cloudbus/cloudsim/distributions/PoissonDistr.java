@@ -41,6 +41,8 @@ import java.util.stream.IntStream;
  * @since CloudSim Plus 1.2.0
  */
 public class PoissonDistr implements DiscreteDistribution {
+    private static final long serialVersionUID = 1L;
+
     /** @see #isApplyAntitheticVariates() */
     private boolean applyAntitheticVariates;
 
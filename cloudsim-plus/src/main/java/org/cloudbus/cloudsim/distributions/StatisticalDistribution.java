@@ -4,6 +4,8 @@ import org.apache.commons.math3.distribution.RealDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
 
+import java.io.Serializable;
+
 /**
  * Interface to be implemented by a Pseudo-Random Number Generator (PRNG)
  * that follows some statistical distribution, even discrete or continuous.
@@ -11,7 +13,7 @@ import org.apache.commons.math3.random.Well19937c;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 5.5.1
  */
-public interface StatisticalDistribution {
+public interface StatisticalDistribution extends Serializable {
     /**
      * Generate a new pseudo random number
      * directly from the {@link RealDistribution#sample()} method.
@@ -454,6 +454,22 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
      */
     double updateProcessing(double currentTime);
 
+    /**
+     * Checks if the processing of this Host has to be updated
+     * when the {@link Datacenter} processing is updated,
+     * or if calling {@link #updateProcessing(double)} would do nothing.
+     * The default implementation always returns true.
+     *
+     * <p>When this value changes from false to true,
+     * the Host must {@link Datacenter#requestHostProcessingUpdate(Host) notify}
+     * its Datacenter.</p>
+     *
+     * @return true if the Host processing has to be updated, false otherwise
+     */
+    default boolean isProcessingUpdateRequired() {
+        return true;
+    }
+
     /**
      * Try to allocate resources to a new VM in the Host.
      *
@@ -23,6 +23,8 @@ import java.util.*;
  * @see Host#NULL
  */
 final class HostNull implements Host {
+    private static final long serialVersionUID = 1L;
+
     @Override public List<ResourceManageable> getResources() {
         return Collections.emptyList();
     }
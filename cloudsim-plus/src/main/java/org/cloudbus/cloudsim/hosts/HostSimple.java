@@ -6,8 +6,10 @@
  */
 package org.cloudbus.cloudsim.hosts;
 
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.core.AbstractMachine;
 import org.cloudbus.cloudsim.core.ChangeableId;
+import org.cloudbus.cloudsim.core.DeferredSideEffects;
 import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.power.models.PowerModelHost;
@@ -23,6 +25,9 @@ import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.*;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -48,6 +53,8 @@ import static java.util.stream.Collectors.*;
  * @since CloudSim Toolkit 1.0
  */
 public class HostSimple implements Host {
+    private static final long serialVersionUID = 1L;
+
     private static long defaultRamCapacity = (long)Conversion.gigaToMega(10);
     private static long defaultBwCapacity = 1000;
     private static long defaultStorageCapacity = (long)Conversion.gigaToMega(500);
@@ -349,11 +356,46 @@ public class HostSimple implements Host {
         notifyOnUpdateProcessingListeners(currentTime);
         addStateHistory(currentTime);
 
+        /*Requests the Datacenter to reschedule the next update of this Host,
+        * since it may be updated outside the Datacenter processing update.*/
+        requestProcessingUpdate();
         return nextSimulationDelay;
     }
 
+    /**
+     * {@inheritDoc}
+     * It's required when the Host has VMs (including VMs migrating in),
+     * it's active and may be shut down after becoming idle,
+     * or it has listeners or state history to be updated.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isProcessingUpdateRequired() {
+        return !vmList.isEmpty() || !vmsMigratingIn.isEmpty() ||
+               active && idleShutdownDeadline >= 0 ||
+               stateHistoryEnabled || !onUpdateProcessingListeners.isEmpty();
+    }
+
+    /**
+     * Requests the Datacenter to update the processing of this Host,
+     * after something that makes {@link #isProcessingUpdateRequired()} true has changed
+     * or before the number of working PEs changes.
+     * @see Datacenter#requestHostProcessingUpdate(Host)
+     */
+    private void requestProcessingUpdate() {
+        if(datacenter != null) {
+            datacenter.requestHostProcessingUpdate(this);
+        }
+    }
+
     private void notifyOnUpdateProcessingListeners(final double nextSimulationTime) {
-        onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l,this, nextSimulationTime)));
+        if(onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
+        DeferredSideEffects.runOrDefer(() ->
+            onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l,this, nextSimulationTime))));
     }
 
     @Override
@@ -387,7 +429,9 @@ public class HostSimple implements Host {
             return false;
         }
 
-        return vmList.add(vm);
+        vmList.add(vm);
+        requestProcessingUpdate();
+        return true;
     }
 
     /**
@@ -495,6 +539,11 @@ public class HostSimple implements Host {
         }
 
         this.active = activate;
+        if(activate != wasActive) {
+            notifyStateChanged();
+            requestProcessingUpdate();
+        }
+
         notifyStartupOrShutdown(activate, wasActive);
         return this;
     }
@@ -801,6 +850,7 @@ public class HostSimple implements Host {
     @Override
     public Host setIdleShutdownDeadline(final double deadline) {
         this.idleShutdownDeadline = deadline;
+        requestProcessingUpdate();
         return this;
     }
 
@@ -866,6 +916,7 @@ public class HostSimple implements Host {
         * it must remain inactive.*/
         if(failed && this.active){
             this.active = false;
+            notifyStateChanged();
         }
 
         return true;
@@ -886,9 +937,22 @@ public class HostSimple implements Host {
 
     private void updatePeStatus(final Pe pe, final Pe.Status newStatus) {
         if(pe.getStatus() != newStatus) {
+            requestProcessingUpdate();
             updateFailedAndFreePesNumber(pe.getStatus(), false);
             updateFailedAndFreePesNumber(newStatus, true);
             pe.setStatus(newStatus);
+            notifyStateChanged();
+        }
+    }
+
+    /**
+     * Notifies the {@link VmAllocationPolicy} of the Datacenter that
+     * the number of free PEs or the active state of this Host has changed.
+     * @see VmAllocationPolicy#notifyHostStateChanged(Host)
+     */
+    private void notifyStateChanged() {
+        if(datacenter != null && datacenter.getVmAllocationPolicy() != null) {
+            datacenter.getVmAllocationPolicy().notifyHostStateChanged(this);
         }
     }
 
@@ -928,6 +992,7 @@ public class HostSimple implements Host {
         }
 
         ((VmSimple)vm).updateMigrationStartListeners(this);
+        requestProcessingUpdate();
 
         updateProcessing(simulation.clock());
         vm.getHost().updateProcessing(simulation.clock());
@@ -988,6 +1053,7 @@ public class HostSimple implements Host {
         }
 
         this.onUpdateProcessingListeners.add(requireNonNull(listener));
+        requestProcessingUpdate();
         return this;
     }
 
@@ -1046,14 +1112,13 @@ public class HostSimple implements Host {
         final HostSimple that = (HostSimple) o;
 
         if (id != that.id) return false;
-        return simulation.equals(that.simulation);
+        return Objects.equals(simulation, that.simulation);
     }
 
     @Override
     public int hashCode() {
-        int result = Long.hashCode(id);
-        result = 31 * result + simulation.hashCode();
-        return result;
+        //The simulation is not included since it may not be set yet while the Host is restored from a checkpoint
+        return Long.hashCode(id);
     }
 
     @Override
@@ -1230,6 +1295,7 @@ public class HostSimple implements Host {
     @Override
     public void enableStateHistory() {
         this.stateHistoryEnabled = true;
+        requestProcessingUpdate();
     }
 
     @Override
@@ -1338,4 +1404,21 @@ public class HostSimple implements Host {
             .filter(vm -> !vm.isInMigration())
             .collect(Collectors.toList());
     }
+
+    /**
+     * Writes the id before the other fields, so that it is already set
+     * when objects referring to this one are restored from a checkpoint,
+     * since the {@link #hashCode()} depends on it.
+     * @param out the stream to write this object to
+     * @throws IOException when the object cannot be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.writeLong(id);
+        out.defaultWriteObject();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        id = in.readLong();
+        in.defaultReadObject();
+    }
 }
@@ -8,13 +8,16 @@
 
 package org.cloudbus.cloudsim.hosts;
 
+import java.io.Serializable;
+
 /**
  * Keeps historic CPU utilization data about a host.
  *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 2.1.2
  */
-public final class HostStateHistoryEntry {
+public final class HostStateHistoryEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getTime()
@@ -48,6 +48,8 @@ import java.util.List;
  * @since CloudSim Toolkit 3.0
  */
 public class NetworkHost extends HostSimple {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkHost.class.getSimpleName());
 
     private int totalDataTransferBytes;
@@ -96,6 +98,18 @@ public class NetworkHost extends HostSimple {
         return  timeOfNextFinishingCloudlet;
     }
 
+    /**
+     * {@inheritDoc}
+     * A NetworkHost always requires its processing to be updated,
+     * since it has to deliver the packets received, even if it has no VM.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isProcessingUpdateRequired() {
+        return true;
+    }
+
     /**
      * Receives packets and forwards them to targeting VMs and respective Cloudlets.
      */
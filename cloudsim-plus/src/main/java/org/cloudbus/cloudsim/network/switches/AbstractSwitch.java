@@ -10,7 +10,6 @@ package org.cloudbus.cloudsim.network.switches;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.core.CloudSimEntity;
 import org.cloudbus.cloudsim.core.CloudSimTags;
-import org.cloudbus.cloudsim.core.events.PredicateType;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.hosts.network.NetworkHost;
@@ -32,6 +31,8 @@ import java.util.Map;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSwitch.class.getSimpleName());
 
     /**
@@ -87,6 +88,13 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     private double switchingDelay;
 
+    /**
+     * The pending {@link CloudSimTags#NETWORK_EVENT_SEND} event,
+     * which is cancelled when a new one is scheduled.
+     * @see #scheduleSendEvent(double)
+     */
+    private SimEvent sendEvent = SimEvent.NULL;
+
     public AbstractSwitch(final CloudSim simulation, final NetworkDatacenter dc) {
         super(simulation);
         this.packetToHostMap = new HashMap<>();
@@ -141,8 +149,7 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     protected void processPacketDown(final SimEvent evt) {
         // Packet coming from up level router has to send downward.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTags.NETWORK_EVENT_SEND));
-        schedule(this, getSwitchingDelay(), CloudSimTags.NETWORK_EVENT_SEND);
+        scheduleSendEvent(getSwitchingDelay());
     }
 
     /**
@@ -161,8 +168,18 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     protected void processPacketUp(final SimEvent evt) {
         // Packet coming from down level router has to be sent up.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTags.NETWORK_EVENT_SEND));
-        schedule(this, switchingDelay, CloudSimTags.NETWORK_EVENT_SEND);
+        scheduleSendEvent(switchingDelay);
+    }
+
+    /**
+     * Schedules a {@link CloudSimTags#NETWORK_EVENT_SEND} event to forward the received packets,
+     * cancelling the previous one if it wasn't processed yet.
+     *
+     * @param delay the delay to forward the packets
+     */
+    private void scheduleSendEvent(final double delay) {
+        cancelEvent(sendEvent);
+        sendEvent = scheduleEvent(this, delay, CloudSimTags.NETWORK_EVENT_SEND, null);
     }
 
     /**
@@ -41,6 +41,8 @@ import java.util.Objects;
  * @since CloudSim Toolkit 3.0
  */
 public class EdgeSwitch extends AbstractSwitch {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Default downlink bandwidth of EdgeSwitch in Megabits/s.
      * It also represents the uplink bandwidth of connected hosts.
@@ -39,6 +39,7 @@ import org.slf4j.LoggerFactory;
  * @since CloudSim Toolkit 3.0
  */
 public class RootSwitch extends AbstractSwitch {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The level (layer) of the switch in the network topology.
@@ -18,6 +18,8 @@ import java.util.List;
  * @see Switch#NULL
  */
 final class SwitchNull implements Switch, SimEntityNullBase {
+    private static final long serialVersionUID = 1L;
+
     private static final NetworkDatacenter DATACENTER = new NetworkDatacenter(Simulation.NULL, Collections.emptyList(), VmAllocationPolicy.NULL);
 
     @Override public double downlinkTransferDelay(HostPacket packet, int simultaneousPackets) { return 0; }
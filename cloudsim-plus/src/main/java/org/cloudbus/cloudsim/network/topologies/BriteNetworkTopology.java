@@ -41,6 +41,8 @@ import java.util.Map;
  * @see #getInstance(String)
  */
 public final class BriteNetworkTopology implements NetworkTopology {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(BriteNetworkTopology.class.getSimpleName());
 
     /**
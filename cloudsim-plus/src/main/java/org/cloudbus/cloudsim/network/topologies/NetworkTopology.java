@@ -9,6 +9,8 @@ package org.cloudbus.cloudsim.network.topologies;
 
 import org.cloudbus.cloudsim.core.SimEntity;
 
+import java.io.Serializable;
+
 /**
  **
  * Implements a network layer by reading the topology from a file in a specific format
@@ -21,7 +23,7 @@ import org.cloudbus.cloudsim.core.SimEntity;
  * @see BriteNetworkTopology
  * @since CloudSim Plus 1.0
  */
-public interface NetworkTopology {
+public interface NetworkTopology extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link NetworkTopology}
      * objects.
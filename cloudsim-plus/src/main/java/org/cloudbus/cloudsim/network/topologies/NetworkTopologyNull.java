@@ -10,6 +10,8 @@ import org.cloudbus.cloudsim.core.SimEntity;
  * @see NetworkTopology#NULL
  */
 final class NetworkTopologyNull implements NetworkTopology {
+    private static final long serialVersionUID = 1L;
+
     private static final TopologicalGraph GRAPH = new TopologicalGraph();
 
     @Override public void addLink(SimEntity src, SimEntity dest, double bandwidth, double lat) {/**/}
@@ -2,6 +2,7 @@ package org.cloudbus.cloudsim.power;
 
 import org.cloudbus.cloudsim.power.models.PowerModel;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -13,7 +14,8 @@ import java.util.Objects;
  * such as {@link #add(PowerMeasurement)} and {@link #multiply(double)} that returns a new instance.</p>
  * @since CloudSim Plus 6.0.0
  */
-public class PowerMeasurement {
+public class PowerMeasurement implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     /** @see #getStaticUsage() */
     private double staticUsage;
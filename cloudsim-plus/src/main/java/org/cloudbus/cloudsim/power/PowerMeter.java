@@ -22,6 +22,7 @@ import static org.cloudbus.cloudsim.core.CloudSimTags.POWER_MEASUREMENT;
  * @since CloudSim Plus 6.0.0
  */
 public class PowerMeter extends CloudSimEntity {
+    private static final long serialVersionUID = 1L;
 
     private final Supplier<List<? extends PowerAware<? extends PowerModel>>> powerAwareEntitiesSupplier;
 
@@ -4,6 +4,8 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.power.PowerMeasurement;
 
+import java.io.Serializable;
+
 /**
  * A common interface for implementing models of power consumption
  * for entities such as {@link Datacenter}s and {@link Host}s.
@@ -11,7 +13,7 @@ import org.cloudbus.cloudsim.power.PowerMeasurement;
  * A PowerModel computes the current power usage (in Watts) of an entity during the simulation.
  * @since CloudSim Plus 6.0.0
  */
-public interface PowerModel {
+public interface PowerModel extends Serializable {
 
     /**
      * Returns the entity's current power usage as a {@link PowerMeasurement},
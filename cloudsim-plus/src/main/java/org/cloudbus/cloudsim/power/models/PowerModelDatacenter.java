@@ -7,6 +7,8 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
  * @since CloudSim Plus 6.0.0
  */
 public abstract class PowerModelDatacenter implements PowerModel {
+    private static final long serialVersionUID = 1L;
+
     /**
      * An attribute that implements the Null Object Design Pattern for {@link PowerModelDatacenter}
      * objects.
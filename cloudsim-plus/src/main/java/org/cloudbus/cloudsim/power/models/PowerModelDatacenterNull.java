@@ -8,6 +8,7 @@ import org.cloudbus.cloudsim.power.PowerMeasurement;
  * @since CloudSim Plus 6.0.0
  */
 class PowerModelDatacenterNull extends PowerModelDatacenter {
+    private static final long serialVersionUID = 1L;
 
     @Override
     public PowerMeasurement getPowerMeasurement() {
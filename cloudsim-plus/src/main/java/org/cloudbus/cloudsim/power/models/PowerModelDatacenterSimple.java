@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.power.PowerMeasurement;
  * @since CloudSim Plus 6.0.0
  */
 public class PowerModelDatacenterSimple extends PowerModelDatacenter {
+    private static final long serialVersionUID = 1L;
+
     /** @see #getPowerUsageEffectiveness() */
     private double powerUsageEffectiveness = 1;
 
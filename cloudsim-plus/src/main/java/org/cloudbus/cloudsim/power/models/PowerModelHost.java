@@ -9,6 +9,8 @@ import java.util.Objects;
  * @since CloudSim Plus 6.0.0
  */
 public abstract class PowerModelHost implements PowerModel {
+    private static final long serialVersionUID = 1L;
+
     /**
      * An attribute that implements the Null Object Design Pattern for {@link PowerModelHost}
      * objects.
@@ -8,6 +8,8 @@ import org.cloudbus.cloudsim.power.PowerMeasurement;
  * @since CloudSim Plus 6.0.0
  */
 class PowerModelHostNull extends PowerModelHost {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public PowerMeasurement getPowerMeasurement() {
         return new PowerMeasurement();
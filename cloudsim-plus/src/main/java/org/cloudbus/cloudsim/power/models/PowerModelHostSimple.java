@@ -9,6 +9,8 @@ import static org.cloudbus.cloudsim.power.PowerMeasurement.validatePower;
  * @since CloudSim Plus 6.0.0
  */
 public class PowerModelHostSimple extends PowerModelHost {
+    private static final long serialVersionUID = 1L;
+
     private double maxPower;
     private double staticPower;
 
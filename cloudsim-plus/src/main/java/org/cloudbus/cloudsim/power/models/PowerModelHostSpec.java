@@ -23,6 +23,8 @@ import java.util.Objects;
  * @since CloudSim Plus 6.0.0
  */
 public class PowerModelHostSpec extends PowerModelHost {
+    private static final long serialVersionUID = 1L;
+
     private final List<Double> powerSpec;
 
     /**
@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+
 /**
  * An interface that represents the provisioning policy used by a {@link Host}
  * to provide a given physical resource to its {@link Vm}s.
@@ -34,7 +36,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  *       VmScheduler is using the term "allocation", but since it's accountable for running a VM,
  *       it should perform resource provisioning (request the actual amount of the allocated resource to be used in that moment).
  */
-public interface ResourceProvisioner {
+public interface ResourceProvisioner extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for
      * ResourceProvisioner objects.
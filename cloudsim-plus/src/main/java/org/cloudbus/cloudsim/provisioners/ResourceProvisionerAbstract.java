@@ -27,6 +27,8 @@ import java.util.Objects;
  * @since 3.0.4
  */
 public abstract class ResourceProvisionerAbstract implements ResourceProvisioner {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getResource()
      */
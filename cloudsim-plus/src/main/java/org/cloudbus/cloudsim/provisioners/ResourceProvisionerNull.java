@@ -11,6 +11,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see ResourceProvisioner#NULL
  */
 class ResourceProvisionerNull implements ResourceProvisioner {
+    private static final long serialVersionUID = 1L;
+
     @Override public boolean allocateResourceForVm(Vm vm, long newTotalVmResourceCapacity) {
         return false;
     }
@@ -28,6 +28,8 @@ import java.util.Objects;
  * @since CloudSim Toolkit 1.0
  */
 public class PeSimple extends ResourceManageableAbstract implements Pe {
+    private static final long serialVersionUID = 1L;
+
     /** @see #setDefaultMips(double) */
     private static double defaultMips = 1000;
 
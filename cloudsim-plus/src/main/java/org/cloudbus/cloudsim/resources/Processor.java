@@ -33,6 +33,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 1.0
  */
 public final class Processor extends ResourceManageableAbstract {
+    private static final long serialVersionUID = 1L;
+
     public static final Processor NULL = new Processor();
     private Vm vm;
 
@@ -81,6 +83,7 @@ public final class Processor extends ResourceManageableAbstract {
             throw new IllegalArgumentException("MIPS cannot be negative");
         }
 
+        requestHostProcessingUpdate();
         this.mips = newMips;
     }
 
@@ -121,9 +124,22 @@ public final class Processor extends ResourceManageableAbstract {
         if(numberOfPes <= 0){
             throw new IllegalArgumentException("The Processor's number of PEs must be greater than 0.");
         }
+
+        requestHostProcessingUpdate();
         return super.setCapacity(numberOfPes);
     }
 
+    /**
+     * Requests the Datacenter to update the processing of the Host where the {@link #getVm() VM} is placed,
+     * before the capacity of the Processor changes.
+     * @see org.cloudbus.cloudsim.datacenters.Datacenter#requestHostProcessingUpdate(org.cloudbus.cloudsim.hosts.Host)
+     */
+    private void requestHostProcessingUpdate() {
+        if(vm != null) {
+            vm.getHost().getDatacenter().requestHostProcessingUpdate(vm.getHost());
+        }
+    }
+
     /**
      * Gets the {@link Vm} the processor belongs to.
      * @return
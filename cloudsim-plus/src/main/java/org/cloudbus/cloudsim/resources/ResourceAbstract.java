@@ -30,6 +30,8 @@ package org.cloudbus.cloudsim.resources;
  * @since CloudSim Plus 1.2.0
  */
 public abstract class ResourceAbstract implements Resource {
+    private static final long serialVersionUID = 1L;
+
     /** @see #getCapacity() */
     protected long capacity;
 
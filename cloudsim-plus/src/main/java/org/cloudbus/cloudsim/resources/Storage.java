@@ -33,6 +33,8 @@ package org.cloudbus.cloudsim.resources;
  * @since CloudSim Plus 1.0
  */
 public final class Storage extends ResourceManageableAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new Storage device.
      * @param capacity the storage capacity in Megabytes
@@ -0,0 +1,348 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import java.io.Serializable;
+
+/**
+ * A reservation profile used by the {@link CloudletSchedulerBackfilling},
+ * where each time the number of used PEs is expected to change is stored along with how much it changes.
+ * The number of PEs expected to be used at a time {@code t} is the number of currently used PEs
+ * plus the sum of all the changes up to {@code t}.
+ *
+ * <p>The changes are stored in a balanced tree (a treap) ordered by time,
+ * where each node keeps the time interval and the sum of the changes in its subtree,
+ * along with the minimum and maximum partial sums of such changes.
+ * That way, besides adding a change in O(log n), the first time when the sum of the changes
+ * gets lower than a given value is found in O(log n).
+ * And the earliest time when such a sum stays lower than a given value for a given duration
+ * is found skipping entire subtrees where it is always lower or always higher than that value,
+ * instead of visiting every change in the profile.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+final class AvailabilityProfile implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Node root;
+
+    /**
+     * A sequential number assigned to each node, used to compute its priority.
+     */
+    private long sequence;
+
+    /**
+     * Adds a change in the number of used PEs at a given time.
+     * If the changes at that time cancel each other, the time is removed from the profile.
+     *
+     * @param time the time the number of used PEs changes
+     * @param pes the number of PEs used from that time on, which is negative when PEs are released
+     */
+    void add(final double time, final long pes) {
+        final Node[] lower = split(root, time);
+        final Node[] upper = split(lower[1], Math.nextUp(time));
+        Node node = upper[0];
+        if (node == null) {
+            node = new Node(time, pes, sequence++);
+        } else {
+            node.pes += pes;
+            node = node.pes == 0 ? null : node;
+        }
+
+        if (node != null) {
+            node.update();
+        }
+
+        root = merge(merge(lower[0], node), upper[1]);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Gets the sum of the changes up to a given time (inclusive).
+     * @param time the time to get the sum of the changes up to
+     * @return the sum of the changes
+     */
+    long sumUpTo(final double time) {
+        long sum = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.time <= time) {
+                sum += sumOf(node.left) + node.pes;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Finds the first time when the sum of the changes up to it is at most a given value.
+     * @param maxSum the maximum sum of the changes
+     * @return the found time or {@link Double#MAX_VALUE} if there is no such a time
+     */
+    double findFirstTimeAtMost(final long maxSum) {
+        long offset = 0;
+        Node node = root;
+        while (node != null && offset + node.minPrefix <= maxSum) {
+            final long sum = offset + sumOf(node.left) + node.pes;
+            if (node.left != null && offset + node.left.minPrefix <= maxSum) {
+                node = node.left;
+            } else if (sum <= maxSum) {
+                return node.time;
+            } else {
+                offset = sum;
+                node = node.right;
+            }
+        }
+
+        return Double.MAX_VALUE;
+    }
+
+    /**
+     * Finds the earliest time, from a given one, when the sum of the changes stays at most
+     * a given value for a given duration.
+     * The time found is either the given one or a time when the sum of the changes gets
+     * lower than the given value.
+     *
+     * @param from the time to start searching from
+     * @param maxSum the maximum sum of the changes
+     * @param duration the time the sum must stay at most the maxSum
+     * @return the found time or {@link Double#MAX_VALUE} if the sum never stays at most the maxSum
+     */
+    double findEarliestFit(final double from, final long maxSum, final double duration) {
+        final long sum = sumUpTo(from);
+        final FitSearch search = new FitSearch(from, maxSum, duration, sum, sum <= maxSum);
+        if (search.visit(root)) {
+            return search.startTime;
+        }
+
+        return search.fits ? search.startTime : Double.MAX_VALUE;
+    }
+
+    /**
+     * Splits a subtree into the nodes before a given time and the ones at or after it.
+     * @return an array with the roots of the lower and upper subtrees
+     */
+    private Node[] split(final Node node, final double time) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        if (node.time < time) {
+            final Node[] parts = split(node.right, time);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+            return parts;
+        }
+
+        final Node[] parts = split(node.left, time);
+        node.left = parts[1];
+        node.update();
+        parts[1] = node;
+        return parts;
+    }
+
+    /**
+     * Merges two subtrees, where all nodes in the first one are before the ones in the second.
+     * @return the root of the merged tree
+     */
+    private Node merge(final Node lower, final Node upper) {
+        if (lower == null) {
+            return upper;
+        }
+
+        if (upper == null) {
+            return lower;
+        }
+
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            lower.update();
+            return lower;
+        }
+
+        upper.left = merge(lower, upper.left);
+        upper.update();
+        return upper;
+    }
+
+    private static long sumOf(final Node node) {
+        return node == null ? 0 : node.sum;
+    }
+
+    /**
+     * The state of a search for the earliest time when the sum of the changes stays at most
+     * a given value for a given duration, which visits the changes after a given time in order.
+     * @see #findEarliestFit(double, long, double)
+     */
+    private static final class FitSearch {
+        private final double from;
+        private final long maxSum;
+        private final double duration;
+
+        /**
+         * The sum of the changes up to the last visited one.
+         */
+        private long sum;
+
+        /**
+         * Indicates if the sum of the changes is at most the {@link #maxSum} since the {@link #startTime}.
+         */
+        private boolean fits;
+
+        /**
+         * The time when the sum of the changes got at most the {@link #maxSum}.
+         */
+        private double startTime;
+
+        private FitSearch(final double from, final long maxSum, final double duration, final long sum, final boolean fits) {
+            this.from = from;
+            this.maxSum = maxSum;
+            this.duration = duration;
+            this.sum = sum;
+            this.fits = fits;
+            this.startTime = from;
+        }
+
+        /**
+         * Visits the changes in a subtree, in order.
+         * A subtree where the sum of the changes is always at most (or always greater than)
+         * the maxSum is skipped, since it doesn't change the search state.
+         *
+         * @param node the root of the subtree
+         * @return true if the earliest time was found, false if the search must continue
+         */
+        private boolean visit(final Node node) {
+            if (node == null || node.maxTime <= from) {
+                return false;
+            }
+
+            if (node.minTime > from) {
+                if (fits && node.minTime - startTime >= duration) {
+                    return true;
+                }
+
+                if (fits ? sum + node.maxPrefix <= maxSum : sum + node.minPrefix > maxSum) {
+                    sum += node.sum;
+                    return fits && node.maxTime - startTime >= duration;
+                }
+            }
+
+            if (visit(node.left)) {
+                return true;
+            }
+
+            if (node.time > from) {
+                if (fits && node.time - startTime >= duration) {
+                    return true;
+                }
+
+                sum += node.pes;
+                if (fits != (sum <= maxSum)) {
+                    fits = !fits;
+                    startTime = node.time;
+                }
+            }
+
+            return visit(node.right);
+        }
+    }
+
+    /**
+     * A node representing a time the number of used PEs changes,
+     * which also stores information about the changes in its entire subtree.
+     */
+    private static final class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final double time;
+        private final int priority;
+        private long pes;
+        private Node left;
+        private Node right;
+
+        /**
+         * The time of the first node in the subtree.
+         */
+        private double minTime;
+
+        /**
+         * The time of the last node in the subtree.
+         */
+        private double maxTime;
+
+        /**
+         * The sum of the changes in the subtree.
+         */
+        private long sum;
+
+        /**
+         * The minimum sum of the changes from the first node in the subtree up to each node.
+         */
+        private long minPrefix;
+
+        /**
+         * The maximum sum of the changes from the first node in the subtree up to each node.
+         */
+        private long maxPrefix;
+
+        private Node(final double time, final long pes, final long seq) {
+            this.time = time;
+            this.pes = pes;
+            this.priority = mix(seq);
+        }
+
+        /**
+         * Computes a pseudo-random and reproducible priority for a node.
+         */
+        private static int mix(final long seq) {
+            long z = seq + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return (int) (z ^ (z >>> 31));
+        }
+
+        /**
+         * Updates the information about the subtree after any of its nodes changes.
+         */
+        private void update() {
+            minTime = left == null ? time : left.minTime;
+            maxTime = right == null ? time : right.maxTime;
+            sum = sumOf(left) + pes;
+            minPrefix = left == null ? sum : Math.min(left.minPrefix, sum);
+            maxPrefix = left == null ? sum : Math.max(left.maxPrefix, sum);
+            if (right != null) {
+                minPrefix = Math.min(minPrefix, sum + right.minPrefix);
+                maxPrefix = Math.max(maxPrefix, sum + right.maxPrefix);
+                sum += right.sum;
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * An index of the Cloudlets waiting in a {@link CloudletSchedulerDeadlineAbstract},
+ * ordered as they are expected to execute, used to check in O(log n) if a new Cloudlet can be admitted
+ * without making any waiting Cloudlet miss its deadline.
+ *
+ * <p>Cloudlets are expected to run one after another, according to the order given by a {@link Comparator}.
+ * The expected finish time of each Cloudlet is computed as
+ * {@code T = max(T, arrivalTime) + remainingLength/capacity},
+ * where T starts at the time the Cloudlets currently executing are expected to finish.
+ * Since that is a composition of functions in the form {@code T -> max(T + E, A)},
+ * it is stored in a balanced tree (a treap) where each node keeps such a function
+ * for its entire subtree, along with the minimum slack between the deadlines and
+ * the expected finish times of Cloudlets in the subtree.
+ * That way, the admission of a new Cloudlet is checked by inserting it in the tree
+ * and looking at the minimum slack of the root.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+final class CloudletAdmissionTree implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The nodes of the tree, indexed by the Cloudlet they represent.
+     */
+    private final Map<CloudletExecution, Node> nodes;
+
+    /**
+     * The order in which Cloudlets are expected to execute.
+     */
+    private final Comparator<CloudletExecution> comparator;
+
+    private Node root;
+
+    /**
+     * The MIPS capacity used to compute how long each Cloudlet takes to execute.
+     */
+    private double capacity;
+
+    /**
+     * A sequential number assigned to each node, used to keep
+     * Cloudlets that are equal according to the {@link #comparator} in insertion order.
+     */
+    private long sequence;
+
+    /**
+     * Creates an admission tree.
+     * @param comparator the order in which Cloudlets are expected to execute,
+     *                   which must be {@link Serializable} to allow simulation checkpoints
+     */
+    CloudletAdmissionTree(final Comparator<CloudletExecution> comparator) {
+        this.nodes = new IdentityHashMap<>();
+        this.comparator = comparator;
+        this.capacity = 1;
+    }
+
+    /**
+     * Sets the MIPS capacity used to compute how long each Cloudlet takes to execute.
+     * If the capacity changes, the information stored for all nodes is recomputed in O(n),
+     * which only happens when the MIPS share of the VM changes.
+     * @param capacity the capacity to set
+     */
+    void setCapacity(final double capacity) {
+        if (capacity != this.capacity) {
+            this.capacity = capacity;
+            recompute(root);
+        }
+    }
+
+    /**
+     * Adds a Cloudlet which is waiting to execute.
+     * @param cle the Cloudlet to add
+     */
+    void add(final CloudletExecution cle) {
+        if (nodes.containsKey(cle)) {
+            return;
+        }
+
+        final long remaining = cle.getRemainingCloudletLength();
+        final Node node = new Node(cle, remaining == 0 ? cle.getCloudletLength() : remaining, sequence++);
+        node.update(capacity);
+        nodes.put(cle, node);
+        final Node[] parts = split(root, cle, node.seq);
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Removes a Cloudlet that isn't waiting anymore.
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the tree, false otherwise
+     */
+    boolean remove(final CloudletExecution cle) {
+        final Node node = nodes.remove(cle);
+        if (node == null) {
+            return false;
+        }
+
+        final Node[] lower = split(root, cle, node.seq);
+        final Node[] upper = split(lower[1], cle, node.seq + 1);
+        root = merge(lower[0], upper[1]);
+        return true;
+    }
+
+    void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Checks if a new Cloudlet, inserted after every waiting Cloudlet that is expected to execute before or
+     * is equal to it according to the {@link #comparator},
+     * would make some Cloudlet expected to finish after its deadline.
+     * The tree is left unchanged.
+     *
+     * @param cle the new Cloudlet to check
+     * @param startTime the time the Cloudlets currently executing are expected to finish
+     * @return true if all Cloudlets are expected to meet their deadlines, false otherwise
+     */
+    boolean isFeasible(final CloudletExecution cle, final double startTime) {
+        final Node candidate = new Node(cle, cle.getCloudletLength(), Long.MAX_VALUE);
+        candidate.update(capacity);
+        final Node[] parts = split(root, cle, Long.MAX_VALUE);
+
+        /* Copies the aggregate of the lower part to avoid changing its node,
+         * then appends the candidate and the upper part to it. */
+        final Node all = new Node(parts[0]);
+        all.append(candidate);
+        all.append(parts[1]);
+        root = merge(parts[0], parts[1]);
+        return all.minSlack(startTime) >= 0;
+    }
+
+    /**
+     * Splits a subtree into the nodes lower than a given key and the ones equal or greater than it.
+     * @return an array with the roots of the lower and upper subtrees
+     */
+    private Node[] split(final Node node, final CloudletExecution cle, final long seq) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        if (compare(node, cle, seq) < 0) {
+            final Node[] parts = split(node.right, cle, seq);
+            node.right = parts[0];
+            node.update(capacity);
+            parts[0] = node;
+            return parts;
+        }
+
+        final Node[] parts = split(node.left, cle, seq);
+        node.left = parts[1];
+        node.update(capacity);
+        parts[1] = node;
+        return parts;
+    }
+
+    /**
+     * Merges two subtrees, where all nodes in the first one are lower than the ones in the second.
+     * @return the root of the merged tree
+     */
+    private Node merge(final Node lower, final Node upper) {
+        if (lower == null) {
+            return upper;
+        }
+
+        if (upper == null) {
+            return lower;
+        }
+
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            lower.update(capacity);
+            return lower;
+        }
+
+        upper.left = merge(lower, upper.left);
+        upper.update(capacity);
+        return upper;
+    }
+
+    private int compare(final Node node, final CloudletExecution cle, final long seq) {
+        final int result = comparator.compare(node.cle, cle);
+        return result == 0 ? Long.compare(node.seq, seq) : result;
+    }
+
+    private void recompute(final Node node) {
+        if (node != null) {
+            recompute(node.left);
+            recompute(node.right);
+            node.update(capacity);
+        }
+    }
+
+    /**
+     * A node representing a waiting Cloudlet, which also stores information about its entire subtree
+     * so that the Cloudlets in it can be treated as a single sequence of Cloudlets.
+     * Given the time T when the sequence starts, the time it finishes is {@code max(T + totalTime, minFinishTime)}.
+     */
+    private static final class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final CloudletExecution cle;
+        private final double deadline;
+        private final long seq;
+        private final double length;
+        private final double arrivalTime;
+        private final int priority;
+        private Node left;
+        private Node right;
+
+        /**
+         * The sum of the execution times of Cloudlets in the subtree.
+         */
+        private double totalTime;
+
+        /**
+         * The time the Cloudlets in the subtree finish, when they start at time zero,
+         * considering they may have to wait for their arrival.
+         */
+        private double minFinishTime;
+
+        /**
+         * The minimum value of {@code deadline - finishTime + T} for Cloudlets in the subtree,
+         * where {@code finishTime} is computed for a start time T as if no Cloudlet waited for its arrival.
+         */
+        private double startSlack;
+
+        /**
+         * The minimum value of {@code deadline - finishTime} for Cloudlets in the subtree,
+         * considering only the finish times caused by the Cloudlet arrivals.
+         */
+        private double arrivalSlack;
+
+        private Node(final CloudletExecution cle, final double length, final long seq) {
+            this.cle = cle;
+            this.deadline = cle.getDeadline();
+            this.seq = seq;
+            this.length = length;
+            this.arrivalTime = cle.getCloudletArrivalTime();
+            this.priority = mix(seq);
+        }
+
+        /**
+         * Creates a node that isn't part of the tree, having just the information about
+         * the subtree of a given node (or an empty sequence if the node is null).
+         */
+        private Node(final Node subtree) {
+            this.cle = CloudletExecution.NULL;
+            this.deadline = 0;
+            this.seq = 0;
+            this.length = 0;
+            this.arrivalTime = 0;
+            this.priority = 0;
+            if (subtree == null) {
+                this.minFinishTime = Double.NEGATIVE_INFINITY;
+                this.startSlack = Double.POSITIVE_INFINITY;
+                this.arrivalSlack = Double.POSITIVE_INFINITY;
+            } else {
+                this.totalTime = subtree.totalTime;
+                this.minFinishTime = subtree.minFinishTime;
+                this.startSlack = subtree.startSlack;
+                this.arrivalSlack = subtree.arrivalSlack;
+            }
+        }
+
+        /**
+         * Computes a pseudo-random and reproducible priority for a node.
+         */
+        private static int mix(final long seq) {
+            long z = seq + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return (int) (z ^ (z >>> 31));
+        }
+
+        /**
+         * Updates the information about the subtree after any of its nodes changes.
+         */
+        private void update(final double capacity) {
+            final double time = length / capacity;
+            if (left == null) {
+                totalTime = time;
+                minFinishTime = arrivalTime + time;
+                startSlack = deadline - time;
+                arrivalSlack = deadline - minFinishTime;
+            } else {
+                totalTime = left.totalTime + time;
+                minFinishTime = Math.max(left.minFinishTime + time, arrivalTime + time);
+                startSlack = Math.min(left.startSlack, deadline - totalTime);
+                arrivalSlack = Math.min(left.arrivalSlack, deadline - minFinishTime);
+            }
+
+            append(right);
+        }
+
+        /**
+         * Appends the Cloudlets in a subtree to the end of the sequence represented by this node.
+         */
+        private void append(final Node next) {
+            if (next == null) {
+                return;
+            }
+
+            startSlack = Math.min(startSlack, next.startSlack - totalTime);
+            arrivalSlack = Math.min(Math.min(arrivalSlack, next.arrivalSlack), next.startSlack - minFinishTime);
+            minFinishTime = Math.max(minFinishTime + next.totalTime, next.minFinishTime);
+            totalTime += next.totalTime;
+        }
+
+        /**
+         * Gets the minimum slack between the deadline and the finish time
+         * of the Cloudlets in the sequence, when it starts at a given time.
+         */
+        private double minSlack(final double startTime) {
+            return Math.min(startSlack - startTime, arrivalSlack);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet.Status;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.DeferredSideEffects;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.Bandwidth;
 import org.cloudbus.cloudsim.resources.Pe;
@@ -19,14 +20,17 @@ import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.CloudletTaskScheduler;
 import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
 import org.cloudsimplus.listeners.CloudletResourceAllocationFailEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -49,6 +53,13 @@ import static org.cloudsimplus.listeners.CloudletResourceAllocationFailEventInfo
  * @since CloudSim Toolkit 1.0
  */
 public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A tolerance (in seconds) for rounding errors when computing
+     * the lower bound of the completion time of Cloudlets.
+     */
+    private static final double COMPLETION_TIME_TOLERANCE = 1e-6;
 
     /**
      * @see #getCloudletPausedList()
@@ -78,10 +89,17 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @see #getCloudletExecList()
      */
     private final List<CloudletExecution> cloudletExecList;
+
+    /**
+     * The total number of PEs required by the Cloudlets in the {@link #cloudletExecList},
+     * kept to avoid traversing such a list every time the MIPS available
+     * for each Cloudlet are computed.
+     */
+    private long execCloudletsPes;
     /**
      * @see #getCloudletWaitingList()
      */
-    private final List<CloudletExecution> cloudletWaitingList;
+    private final CloudletWaitingQueue cloudletWaitingList;
 
     /**
      * @see #getVm()
@@ -98,6 +116,48 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private final List<EventListener<CloudletResourceAllocationFailEventInfo>> resourceAllocationFailListeners;
 
+    /**
+     * The running Cloudlets ordered by a lower bound of their completion time,
+     * used to find the next Cloudlet to finish without estimating
+     * the finish time of every running Cloudlet.
+     * A Cloudlet gets a new entry only when its allocated MIPS change.
+     */
+    private final TreeSet<CompletionTime> completionTimes;
+
+    /**
+     * The entry of each running Cloudlet in the {@link #completionTimes} index.
+     */
+    private final Map<CloudletExecution, CompletionTime> completionTimeHandles;
+
+    /**
+     * A sequence number used to break ties between Cloudlets with the same completion time lower bound.
+     */
+    private long completionTimeSeq;
+
+    /**
+     * @see #isLazyProgressAccounting()
+     */
+    private boolean lazyProgressAccounting;
+
+    /**
+     * The number of Cloudlets in the {@link #cloudletExecList} whose progress is lazily accounted,
+     * that is, which have a {@link CloudletExecution#getLazyProgressMips() lazy progress MIPS}.
+     */
+    private int lazyProgressCloudlets;
+
+    /**
+     * A copy of the {@link #getCurrentMipsShare() MIPS share} in the last processing update
+     * when the {@link #isLazyProgressAccounting() progress is lazily accounted},
+     * used to check if the MIPS allocated to running Cloudlets may have changed.
+     */
+    private List<Double> lazyProgressMipsShare;
+
+    /**
+     * Indicates if Cloudlets were added to or removed from the {@link #cloudletExecList}
+     * since the last time the processing of all of them was updated.
+     */
+    private boolean execCloudletsChanged;
+
     /**
      * Creates a new CloudletScheduler object.
      */
@@ -108,11 +168,14 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cloudletPausedList = new ArrayList<>();
         cloudletFinishedList = new ArrayList<>();
         cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        cloudletWaitingList = new CloudletWaitingQueue();
         cloudletReturnedList = new HashSet<>();
         currentMipsShare = new ArrayList<>();
         taskScheduler = CloudletTaskScheduler.NULL;
         resourceAllocationFailListeners = new ArrayList<>();
+        completionTimes = new TreeSet<>();
+        completionTimeHandles = new IdentityHashMap<>();
+        lazyProgressMipsShare = new ArrayList<>();
     }
 
     @Override
@@ -196,9 +259,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return
      */
     private long totalPesOfAllExecCloudlets() {
-        return cloudletExecList.stream()
-            .map(CloudletExecution::getCloudlet)
-            .mapToLong(Cloudlet::getNumberOfPes).sum();
+        return execCloudletsPes;
     }
 
     private double getTotalMipsShare(){
@@ -244,17 +305,28 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return cloudletFailedList;
     }
 
+    /**
+     * {@inheritDoc}
+     * The returned list is not updated when the waiting list changes.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public List<CloudletExecution> getCloudletWaitingList() {
-        return Collections.unmodifiableList(cloudletWaitingList);
+        return cloudletWaitingList.asList();
     }
 
     /**
      * Sorts the {@link #cloudletWaitingList} using a given {@link Comparator}.
-     * @param comparator the {@link Comparator} to sort the Waiting Cloudlets List
+     * Cloudlets added to the waiting list afterwards are inserted according to it,
+     * so the list just needs to be sorted again if the order of the waiting Cloudlets changes.
+     * Cloudlets that are equal according to the Comparator are kept in arrival order.
+     *
+     * @param comparator the {@link Comparator} to sort the Waiting Cloudlets List,
+     *                   which must be {@link java.io.Serializable} to allow simulation checkpoints
      */
     protected void sortCloudletWaitingList(final Comparator<CloudletExecution> comparator){
-        cloudletWaitingList.sort(comparator);
+        cloudletWaitingList.setOrder(comparator);
     }
 
     @Override
@@ -298,6 +370,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cle.setStatus(Cloudlet.Status.INEXEC);
         cle.setLastProcessingTime(getVm().getSimulation().clock());
         cloudletExecList.add(cle);
+        execCloudletsPes += cle.getCloudlet().getNumberOfPes();
+        execCloudletsChanged = true;
         addUsedPes(cle.getNumberOfPes());
     }
 
@@ -316,7 +390,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     protected Optional<CloudletExecution> findCloudletInAllLists(final double cloudletId) {
         //Concatenate all lists into a stream
         final Stream<List<CloudletExecution>> streamOfAllLists
-            = Stream.of(cloudletExecList, cloudletPausedList, cloudletWaitingList,
+            = Stream.of(cloudletExecList, cloudletPausedList, cloudletWaitingList.asList(),
             cloudletFinishedList, cloudletFailedList);
 
         //Gets all elements in each list and makes them a single full list,
@@ -375,6 +449,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
          the processing update is requested right away.
          */
         final Datacenter dc = vm.getHost().getDatacenter();
+        dc.requestHostProcessingUpdate(vm.getHost());
         dc.schedule(CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
         return true;
     }
@@ -389,7 +464,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             return true;
         }
 
-        return changeStatusOfCloudletIntoList(cloudletWaitingList, cloudlet, this::changeReadyToPaused);
+        return changeStatusOfWaitingCloudlet(cloudlet, this::changeReadyToPaused);
     }
 
     private void changeInExecToPaused(final CloudletExecution cle) {
@@ -438,9 +513,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             return cloudlet;
         }
 
-        changeStatusOfCloudletIntoList(
-            cloudletWaitingList, cloudlet,
-            cle -> changeStatusOfCloudlet(cle, Status.READY, stopStatus));
+        changeStatusOfWaitingCloudlet(
+            cloudlet, cle -> changeStatusOfCloudlet(cle, Status.READY, stopStatus));
         if (found) {
             return cloudlet;
         }
@@ -491,7 +565,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         final Consumer<CloudletExecution> cloudletStatusUpdaterConsumer)
     {
         final Function<CloudletExecution, Cloudlet> removeCloudletAndUpdateStatus = cle -> {
-            cloudletList.remove(cle);
+            if (cloudletList.remove(cle) && cloudletList == cloudletExecList) {
+                cloudletRemovedFromExecList(cle);
+            }
+
             cloudletStatusUpdaterConsumer.accept(cle);
             return cle.getCloudlet();
         };
@@ -501,6 +578,30 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             .isPresent();
     }
 
+    /**
+     * Changes the status of a given cloudlet inside the waiting list,
+     * removing it from that list.
+     *
+     * @param cloudlet the cloudlet to have its status changed
+     * @param cloudletStatusUpdaterConsumer the {@link Consumer} that will apply
+     *                                      the change in the status of the found cloudlet
+     * @return true if the Cloudlet was found, false otherwise
+     */
+    private boolean changeStatusOfWaitingCloudlet(
+        final Cloudlet cloudlet,
+        final Consumer<CloudletExecution> cloudletStatusUpdaterConsumer)
+    {
+        final Function<CloudletExecution, Cloudlet> removeCloudletAndUpdateStatus = cle -> {
+            removeCloudletFromWaitingList(cle);
+            cloudletStatusUpdaterConsumer.accept(cle);
+            return cle.getCloudlet();
+        };
+
+        return findCloudletInList(cloudlet, cloudletWaitingList.asList())
+            .map(removeCloudletAndUpdateStatus)
+            .isPresent();
+    }
+
     @Override
     public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
         setCurrentMipsShare(mipsShare);
@@ -533,18 +634,207 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private double updateCloudletsProcessing(final double currentTime) {
-        double nextCloudletFinishTime = Double.MAX_VALUE;
+        if (isLazyProgressUpToDate()) {
+            return updateDueCloudletsProcessing(currentTime);
+        }
+
         long usedPes = 0;
         /* Uses an indexed for to avoid ConcurrentModificationException,
          * e.g., in cases when Cloudlet is cancelled during simulation execution. */
         for (int i = 0; i < cloudletExecList.size(); i++) {
             final CloudletExecution cle = cloudletExecList.get(i);
-            updateCloudletProcessingAndPacketsDispatch(cle, currentTime);
-            nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(cle, currentTime));
+            if (!isLazyProgressCurrent(cle, currentTime)) {
+                updateCloudletProgress(cle, currentTime);
+            }
+
+            updateCompletionTime(cle, currentTime);
             usedPes += cle.getCloudlet().getNumberOfPes();
         }
 
         ((VmSimple) vm).setFreePesNumber(vm.getNumberOfPes() - usedPes);
+        execCloudletsChanged = false;
+
+        return nextCloudletFinishTime(currentTime);
+    }
+
+    /**
+     * Updates the processing of just the running Cloudlets that may have finished,
+     * when the progress of all running Cloudlets is lazily accounted and their MIPS didn't change.
+     *
+     * @param currentTime current simulation time
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no running Cloudlet
+     * @see #isLazyProgressUpToDate()
+     */
+    private double updateDueCloudletsProcessing(final double currentTime) {
+        final List<CloudletExecution> dueCloudlets = new ArrayList<>();
+        for (final CompletionTime entry : completionTimes) {
+            if (entry.lowerBound > currentTime) {
+                break;
+            }
+
+            dueCloudlets.add(entry.cle);
+        }
+
+        for (final CloudletExecution cle : dueCloudlets) {
+            updateCloudletProgress(cle, currentTime);
+            updateCompletionTime(cle, currentTime);
+        }
+
+        ((VmSimple) vm).setFreePesNumber(vm.getNumberOfPes() - execCloudletsPes);
+        return nextCloudletFinishTime(currentTime);
+    }
+
+    /**
+     * Updates the processing of a running Cloudlet, even if its progress is lazily accounted,
+     * and then defines if it will be lazily accounted from now on.
+     *
+     * @param cle the running Cloudlet to update
+     * @param currentTime current simulation time
+     */
+    private void updateCloudletProgress(final CloudletExecution cle, final double currentTime) {
+        if (cle.getLazyProgressMips() > 0) {
+            //The completion time bound is updated since the remaining length is computed again
+            removeCompletionTime(cle);
+        }
+
+        updateCloudletProcessingAndPacketsDispatch(cle, currentTime);
+
+        final double mips = isLazyProgressAllowed(cle, currentTime) ? getAllocatedMipsForCloudlet(cle, currentTime) : 0;
+        setLazyProgressMips(cle, mips);
+    }
+
+    private void setLazyProgressMips(final CloudletExecution cle, final double mips) {
+        if (cle.getLazyProgressMips() > 0 != mips > 0) {
+            lazyProgressCloudlets += mips > 0 ? 1 : -1;
+        }
+
+        cle.setLazyProgressMips(mips);
+    }
+
+    /**
+     * Checks if the progress of a running Cloudlet can be lazily accounted,
+     * which requires it to use all the MIPS allocated to it,
+     * to have a defined length and not to have packets to send or receive.
+     *
+     * @param cle the running Cloudlet to check
+     * @param currentTime current simulation time
+     * @return true if the Cloudlet progress can be lazily accounted, false otherwise
+     */
+    private boolean isLazyProgressAllowed(final CloudletExecution cle, final double currentTime) {
+        final Cloudlet cloudlet = cle.getCloudlet();
+        return isLazyProgressAccounting() &&
+               !isThereTaskScheduler() &&
+               cloudlet.getUtilizationModelCpu() instanceof UtilizationModelFull &&
+               cloudlet.getLength() > 0 && !cloudlet.isFinished() &&
+               hasCloudletFileTransferTimePassed(cle, currentTime);
+    }
+
+    /**
+     * Checks if the progress of a running Cloudlet is lazily accounted
+     * and doesn't need to be updated now, because it keeps executing at the same MIPS
+     * and cannot have finished yet.
+     *
+     * @param cle the running Cloudlet to check
+     * @param currentTime current simulation time
+     * @return true if the Cloudlet progress doesn't need to be updated, false otherwise
+     */
+    private boolean isLazyProgressCurrent(final CloudletExecution cle, final double currentTime) {
+        if (cle.getLazyProgressMips() <= 0 || !isLazyProgressAccounting() ||
+            vm.getSimulation().isTimeToTerminateSimulationUnderRequest())
+        {
+            return false;
+        }
+
+        final CompletionTime entry = completionTimeHandles.get(cle);
+        return entry != null && entry.lowerBound > currentTime &&
+               getAllocatedMipsForCloudlet(cle, currentTime) == cle.getLazyProgressMips();
+    }
+
+    /**
+     * Checks if the progress of all running Cloudlets is lazily accounted
+     * and the MIPS allocated to them cannot have changed since the last processing update,
+     * because neither the {@link #getCurrentMipsShare() MIPS share} nor the running Cloudlets changed.
+     * This way, just the Cloudlets that may have finished need to be updated.
+     *
+     * @return true if only the Cloudlets that may have finished need to be updated, false otherwise
+     */
+    private boolean isLazyProgressUpToDate() {
+        if (!isLazyProgressAccounting()) {
+            return false;
+        }
+
+        final boolean mipsShareChanged = !currentMipsShare.equals(lazyProgressMipsShare);
+        if (mipsShareChanged) {
+            lazyProgressMipsShare = new ArrayList<>(currentMipsShare);
+        }
+
+        return !mipsShareChanged && !execCloudletsChanged &&
+               lazyProgressCloudlets == cloudletExecList.size() &&
+               !vm.getSimulation().isTimeToTerminateSimulationUnderRequest();
+    }
+
+    /**
+     * Updates the {@link #completionTimes index} entry of a running Cloudlet,
+     * if its allocated MIPS have changed since the entry was created.
+     *
+     * <p>While the allocated MIPS don't change, the Cloudlet executes at most that amount of MIPS,
+     * so the lower bound of its completion time remains valid.
+     * The bound discounts 1 MI from the remaining length, since the remaining length
+     * used to estimate the finish time is truncated.</p>
+     *
+     * @param cle the running Cloudlet to update the entry
+     * @param currentTime the current simulation time
+     */
+    private void updateCompletionTime(final CloudletExecution cle, final double currentTime) {
+        final double mips = getAllocatedMipsForCloudlet(cle, currentTime);
+        final CompletionTime previous = completionTimeHandles.get(cle);
+        if (previous != null && previous.mips == mips) {
+            return;
+        }
+
+        if (previous != null) {
+            completionTimes.remove(previous);
+        }
+
+        /* If no MIPS are allocated or the Cloudlet runs indefinitely (length is negative),
+         * there is no bound and the Cloudlet is checked every time. */
+        final double lowerBound =
+            mips > 0 && cle.getCloudletLength() > 0 ?
+                currentTime + (cle.getRemainingCloudletLength() - 1) / mips - COMPLETION_TIME_TOLERANCE :
+                Double.NEGATIVE_INFINITY;
+        final CompletionTime entry = new CompletionTime(cle, mips, lowerBound, completionTimeSeq++);
+        completionTimeHandles.put(cle, entry);
+        completionTimes.add(entry);
+    }
+
+    private void removeCompletionTime(final CloudletExecution cle) {
+        final CompletionTime entry = completionTimeHandles.remove(cle);
+        if (entry != null) {
+            completionTimes.remove(entry);
+        }
+    }
+
+    /**
+     * Gets the estimated finish time of the running Cloudlet that will finish first,
+     * estimating the finish time only of the Cloudlets whose completion time lower bound
+     * is smaller than the earliest finish time found so far.
+     *
+     * @param currentTime current simulation time
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no running Cloudlet
+     */
+    private double nextCloudletFinishTime(final double currentTime) {
+        double nextCloudletFinishTime = Double.MAX_VALUE;
+        for (final CompletionTime entry : completionTimes) {
+            if (entry.lowerBound - currentTime >= nextCloudletFinishTime) {
+                break;
+            }
+
+            nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(entry.cle, currentTime));
+        }
 
         return nextCloudletFinishTime;
     }
@@ -610,7 +900,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
                     vm.getSimulation().clockStr(), getClass().getSimpleName(),
                     cloudlet, requested, resource.getClass().getSimpleName(), msg);
 
-                updateOnResourceAllocationFailListeners(resource, cloudlet, requested, available);
+                DeferredSideEffects.runOrDefer(() -> updateOnResourceAllocationFailListeners(resource, cloudlet, requested, available));
             }
             resource.allocateResource(Math.min(requested, available));
         }
@@ -693,7 +983,15 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
          */
         final double actualProcessingTime = hasCloudletFileTransferTimePassed(cle, currentTime) ? timeSpan(cle, currentTime) : 0;
         final double cloudletUsedMips = getAllocatedMipsForCloudlet(cle, currentTime);
-        return cloudletUsedMips * actualProcessingTime * Conversion.MILLION;
+        if (cle.getLazyProgressMips() <= 0) {
+            return cloudletUsedMips * actualProcessingTime * Conversion.MILLION;
+        }
+
+        /* A lazily accounted Cloudlet executed at its lazy progress MIPS until the previous processing update
+         * and at the MIPS currently allocated since then, as if it had been updated at every processing update. */
+        final double lazyProgressTime = Math.max(Math.min(getPreviousTime(), currentTime) - cle.getLastProcessingTime(), 0);
+        return (cle.getLazyProgressMips() * lazyProgressTime +
+                cloudletUsedMips * (actualProcessingTime - lazyProgressTime)) * Conversion.MILLION;
     }
 
     /**
@@ -758,7 +1056,44 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
         removeUsedPes(cle.getNumberOfPes());
-        return cloudletExecList.remove(cle) ? cle : CloudletExecution.NULL;
+        if (cloudletExecList.remove(cle)) {
+            cloudletRemovedFromExecList(cle);
+            return cle;
+        }
+
+        return CloudletExecution.NULL;
+    }
+
+    /**
+     * Updates the data kept about the Cloudlets in the execution list
+     * after a given Cloudlet is removed from it.
+     * @param cle the removed Cloudlet
+     */
+    private void cloudletRemovedFromExecList(final CloudletExecution cle) {
+        execCloudletsPes -= cle.getCloudlet().getNumberOfPes();
+        execCloudletsChanged = true;
+        removeCompletionTime(cle);
+
+        /* Accounts the progress of a lazily accounted Cloudlet until the previous processing update,
+         * as it would be if the Cloudlet had been updated at every processing update. */
+        final double mips = cle.getLazyProgressMips();
+        if (mips > 0) {
+            final double lazyProgressTime = getPreviousTime() - cle.getLastProcessingTime();
+            setLazyProgressMips(cle, 0);
+            if (lazyProgressTime > 0) {
+                cle.updateProcessing(mips * lazyProgressTime * Conversion.MILLION);
+            }
+        }
+    }
+
+    /**
+     * Removes a Cloudlet from the waiting list.
+     *
+     * @param cle the Cloudlet to be removed
+     * @return the removed Cloudlet or {@link CloudletExecution#NULL} if not found
+     */
+    protected CloudletExecution removeCloudletFromWaitingList(final CloudletExecution cle) {
+        return cloudletWaitingList.remove(cle) ? cle : CloudletExecution.NULL;
     }
 
     /**
@@ -845,11 +1180,35 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Optional otherwise
      */
     protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
-        return cloudletWaitingList
-                .stream()
-                .filter(cle -> cle.getCloudlet().getStatus() != Status.FROZEN)
-                .filter(this::canExecuteCloudlet)
-                .findFirst();
+        return cloudletWaitingList.findFirst(
+                getMaxPesForWaitingCloudlet(),
+                cle -> cle.getCloudlet().getStatus() != Status.FROZEN && canExecuteCloudlet(cle));
+    }
+
+    /**
+     * Gets the first Cloudlet in the waiting list that requires up to a given number of PEs
+     * and matches a given condition, without traversing the whole list.
+     *
+     * @param maxPes the maximum number of PEs the Cloudlet can require
+     * @param condition the condition to test
+     * @return an {@link Optional} containing the found Cloudlet or an empty
+     * Optional otherwise
+     */
+    protected Optional<CloudletExecution> findFirstWaitingCloudlet(final long maxPes, final Predicate<CloudletExecution> condition) {
+        return cloudletWaitingList.findFirst(maxPes, condition);
+    }
+
+    /**
+     * Gets the maximum number of PEs a waiting Cloudlet can require
+     * to be able to start executing now.
+     * Waiting Cloudlets requiring more PEs are not even checked by
+     * {@link #canExecuteCloudletInternal(CloudletExecution)} when looking for the next Cloudlet to execute.
+     *
+     * @return the maximum number of PEs, which is {@link Long#MAX_VALUE} by default
+     *         (meaning the number of PEs doesn't prevent a Cloudlet from executing)
+     */
+    protected long getMaxPesForWaitingCloudlet() {
+        return Long.MAX_VALUE;
     }
 
     /**
@@ -870,7 +1229,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     protected CloudletExecution addWaitingCloudletToExecList(final CloudletExecution cle) {
         /*If the Cloudlet is not found in the waiting List, there is no problem.
         * Just add it to the exec List.*/
-        cloudletWaitingList.remove(cle);
+        removeCloudletFromWaitingList(cle);
         addCloudletToExecList(cle);
         return cle;
     }
@@ -1037,7 +1396,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @param maxResourceAllowedToUse the maximum absolute resource that the Cloudlet will be allowed to use
      * @return the absolute amount of resource that the Cloudlet will use
      */
-    private double getAbsoluteCloudletResourceUtilization(
+    protected double getAbsoluteCloudletResourceUtilization(
         final UtilizationModel model,
         final double time,
         final double maxResourceAllowedToUse)
@@ -1116,5 +1475,82 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     public void clear() {
         this.cloudletWaitingList.clear();
         this.cloudletExecList.clear();
+        this.execCloudletsPes = 0;
+        this.completionTimes.clear();
+        this.completionTimeHandles.clear();
+        this.lazyProgressCloudlets = 0;
+        this.lazyProgressMipsShare.clear();
+        this.execCloudletsChanged = true;
+    }
+
+    /**
+     * Checks if the progress of running Cloudlets that use all the MIPS allocated to them
+     * (which have a {@link UtilizationModelFull} for CPU) is lazily accounted.
+     * In such a case, as the progress of these Cloudlets is linear while their allocated MIPS don't change,
+     * it is just updated when such MIPS change or the Cloudlet may have finished,
+     * instead of at every processing update.
+     *
+     * <p>The {@link CloudletExecution#getRemainingCloudletLength() remaining length} of such Cloudlets
+     * is computed on demand, but the {@link Cloudlet#getFinishedLengthSoFar() Cloudlet finished length}
+     * and the {@link Cloudlet#addOnUpdateProcessingListener(EventListener) processing update listeners}
+     * are only updated when the progress is.
+     * Since the executed length is truncated to whole MI fewer times,
+     * the Cloudlets may finish a little earlier than when the progress is not lazily accounted.</p>
+     *
+     * @return true if the progress is lazily accounted, false otherwise
+     * @see #setLazyProgressAccounting(boolean)
+     */
+    public boolean isLazyProgressAccounting() {
+        return lazyProgressAccounting && isLazyProgressAccountingSupported();
+    }
+
+    /**
+     * Defines if the progress of running Cloudlets that use all the MIPS allocated to them
+     * is lazily accounted.
+     *
+     * @param lazyProgressAccounting true to lazily account the progress, false otherwise
+     * @return this scheduler
+     * @see #isLazyProgressAccounting()
+     */
+    public CloudletSchedulerAbstract setLazyProgressAccounting(final boolean lazyProgressAccounting) {
+        this.lazyProgressAccounting = lazyProgressAccounting;
+        return this;
+    }
+
+    /**
+     * Checks if this scheduler supports {@link #isLazyProgressAccounting() lazy progress accounting},
+     * which requires the MIPS allocated to Cloudlets using all of them to change only when
+     * the {@link #getCurrentMipsShare() MIPS share} or the running Cloudlets change.
+     *
+     * @return true if lazy progress accounting is supported, false otherwise
+     */
+    protected boolean isLazyProgressAccountingSupported() {
+        return true;
+    }
+
+    /**
+     * A running Cloudlet and a lower bound of the time it will finish,
+     * considering it keeps the same allocated MIPS.
+     */
+    private static final class CompletionTime implements Comparable<CompletionTime>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final CloudletExecution cle;
+        private final double mips;
+        private final double lowerBound;
+        private final long seq;
+
+        private CompletionTime(final CloudletExecution cle, final double mips, final double lowerBound, final long seq) {
+            this.cle = cle;
+            this.mips = mips;
+            this.lowerBound = lowerBound;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(final CompletionTime other) {
+            final int result = Double.compare(lowerBound, other.lowerBound);
+            return result == 0 ? Long.compare(seq, other.seq) : result;
+        }
     }
 }
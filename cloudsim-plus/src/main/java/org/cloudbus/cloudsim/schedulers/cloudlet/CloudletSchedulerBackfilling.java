@@ -0,0 +1,527 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A space-shared {@link CloudletScheduler} that executes waiting Cloudlets in
+ * First Come First Served (FCFS) order, but lets later Cloudlets jump ahead
+ * (which is called backfilling)
+ * when they can use idle PEs without delaying the Cloudlets ahead of them.
+ * A Cloudlet is admitted only if it is expected to meet its deadline.
+ *
+ * <p>The running time of a Cloudlet is estimated as its remaining length
+ * divided by the MIPS of each VM {@link org.cloudbus.cloudsim.resources.Pe}.
+ * Such estimates are kept in an {@link AvailabilityProfile}, that is, the times
+ * when the number of used PEs is expected to change, which is updated incrementally
+ * (in O(log n)) when Cloudlets start, finish or get reservations.
+ * The profile is indexed, so that the time when enough PEs are free for a Cloudlet is found
+ * skipping entire periods when the Cloudlet always fits or never fits, instead of visiting every change.
+ * The profile is used according to the {@link Mode} given when creating the scheduler:</p>
+ * <ul>
+ *     <li>{@link Mode#EASY}: only the first waiting Cloudlet gets a reservation,
+ *     computed from the finish time of running Cloudlets.
+ *     A later Cloudlet starts if there are enough free PEs and it either finishes
+ *     before that reservation or uses only PEs the first Cloudlet won't need.
+ *     Admission control is the same as in the {@link CloudletSchedulerFCFSWithDeadline}.</li>
+ *     <li>{@link Mode#CONSERVATIVE}: every waiting Cloudlet gets a reservation
+ *     at the earliest time it fits in the profile, when it arrives.
+ *     A Cloudlet starts when its reservation is due, so it never delays the reservation of another Cloudlet.
+ *     A Cloudlet is admitted only if its reservation finishes before its deadline,
+ *     so that admitted deadlines are never violated by Cloudlets that arrive later.
+ *     If PEs are released earlier than expected (e.g. when a Cloudlet is canceled),
+ *     reservations are moved to earlier times, in arrival order.</li>
+ * </ul>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletSchedulerBackfilling extends CloudletSchedulerDeadlineAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The ways the {@link CloudletSchedulerBackfilling} protects waiting Cloudlets from being delayed.
+     */
+    public enum Mode {
+        /**
+         * Extensible Argonne Scheduling sYstem (EASY) backfilling,
+         * where only the first waiting Cloudlet cannot be delayed.
+         */
+        EASY,
+
+        /**
+         * Conservative backfilling, where no waiting Cloudlet can be delayed.
+         */
+        CONSERVATIVE
+    }
+
+    /**
+     * @see #getMode()
+     */
+    private final Mode mode;
+
+    /**
+     * The reservation profile, with the times the number of used PEs is expected to change
+     * and how much it changes, which is negative when PEs are released.
+     */
+    private final AvailabilityProfile usedPesChanges;
+
+    /**
+     * The expected finish time of each running Cloudlet.
+     */
+    private final Map<CloudletExecution, Double> runningFinishTimes;
+
+    /**
+     * The reservations of waiting Cloudlets, ordered by start time,
+     * which are kept only in the {@link Mode#CONSERVATIVE} mode.
+     */
+    private final TreeSet<Reservation> reservations;
+
+    /**
+     * The entry of each Cloudlet in the {@link #reservations} index.
+     */
+    private final Map<CloudletExecution, Reservation> reservationHandles;
+
+    /**
+     * A sequence number used to break ties between reservations with the same start time.
+     */
+    private long reservationSeq;
+
+    /**
+     * Indicates if PEs were released earlier than expected,
+     * so that reservations may be moved to earlier times.
+     */
+    private boolean compressionNeeded;
+
+    /**
+     * @see #getBackfilledCloudlets()
+     */
+    private long backfilledCloudlets;
+
+    /**
+     * Creates a scheduler using {@link Mode#EASY} backfilling.
+     */
+    public CloudletSchedulerBackfilling() {
+        this(Mode.EASY);
+    }
+
+    /**
+     * Creates a scheduler using a given backfilling mode.
+     * @param mode the backfilling mode
+     */
+    public CloudletSchedulerBackfilling(final Mode mode) {
+        /* All Cloudlets are equal, so that they are kept in arrival order. */
+        super((Comparator<CloudletExecution> & Serializable) (lhs, rhs) -> 0);
+        this.mode = requireNonNull(mode);
+        this.usedPesChanges = new AvailabilityProfile();
+        this.runningFinishTimes = new IdentityHashMap<>();
+        this.reservations = new TreeSet<>();
+        this.reservationHandles = new IdentityHashMap<>();
+    }
+
+    /**
+     * Gets the backfilling mode.
+     * @return the backfilling mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the number of Cloudlets that started executing while some Cloudlet that arrived before was still waiting.
+     * @return the number of backfilled Cloudlets
+     */
+    public long getBackfilledCloudlets() {
+        return backfilledCloudlets;
+    }
+
+    /**
+     * {@inheritDoc}
+     * In the {@link Mode#CONSERVATIVE} mode, a Cloudlet is admitted only if it gets a reservation
+     * that finishes before its deadline.
+     *
+     * @param cle {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isSchedulable(final CloudletExecution cle) {
+        if (mode == Mode.EASY) {
+            return super.isSchedulable(cle);
+        }
+
+        compressReservationsIfNeeded();
+        final double runningTime = getExpectedRunningTime(cle);
+        return findEarliestStartTime(cle.getNumberOfPes(), runningTime) + runningTime <= cle.getDeadline();
+    }
+
+    /**
+     * {@inheritDoc}
+     * In the {@link Mode#CONSERVATIVE} mode, Cloudlets are admitted according to their reservations instead.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isQueueAdmissionControlUsed() {
+        return mode == Mode.EASY;
+    }
+
+    @Override
+    protected boolean canExecuteCloudletInternal(final CloudletExecution cle) {
+        if (!isThereEnoughFreePesForCloudlet(cle)) {
+            return false;
+        }
+
+        final double currentTime = getVm().getSimulation().clock();
+        if (mode == Mode.CONSERVATIVE) {
+            compressReservationsIfNeeded();
+            return findEarliestStartTime(cle.getNumberOfPes(), getExpectedRunningTime(cle)) <= currentTime;
+        }
+
+        final Optional<CloudletExecution> head = findFirstWaitingCloudlet(Long.MAX_VALUE, this::isNotFrozen);
+        return !head.isPresent() || getHeadReservation(head.get()).canBackfill(cle, currentTime + getExpectedRunningTime(cle));
+    }
+
+    @Override
+    public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+        final double nextCloudletFinishTime = super.updateProcessing(currentTime, mipsShare);
+        return Math.min(nextCloudletFinishTime, nextReservationDelay(currentTime));
+    }
+
+    /**
+     * Gets the time until the next reservation that is not due yet.
+     * @param currentTime the current simulation time
+     * @return the delay until the next reservation
+     *         or {@link Double#MAX_VALUE} if there is no such a reservation
+     */
+    private double nextReservationDelay(final double currentTime) {
+        for (final Reservation reservation : reservations) {
+            if (!reservation.isDue(currentTime, getMinTimeBetweenEvents())) {
+                return reservation.startTime - currentTime;
+            }
+        }
+
+        return Double.MAX_VALUE;
+    }
+
+    @Override
+    protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
+        final Optional<CloudletExecution> head = findFirstWaitingCloudlet(Long.MAX_VALUE, this::isNotFrozen);
+        if (!head.isPresent()) {
+            return head;
+        }
+
+        final Optional<CloudletExecution> next =
+            mode == Mode.EASY ? findNextCloudletAfterHead(head.get()) : findNextReservedCloudlet();
+        next.filter(cle -> cle != head.get()).ifPresent(cle -> backfilledCloudlets++);
+        return next;
+    }
+
+    /**
+     * Finds the next Cloudlet to execute in the {@link Mode#EASY} mode,
+     * which is the first waiting Cloudlet if there are enough free PEs for it,
+     * or the first later Cloudlet that can be backfilled without delaying it.
+     *
+     * @param head the first waiting Cloudlet
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    private Optional<CloudletExecution> findNextCloudletAfterHead(final CloudletExecution head) {
+        final long freePes = getVm().getProcessor().getAvailableResource();
+        if (head.getNumberOfPes() <= freePes) {
+            return Optional.of(head);
+        }
+
+        final double currentTime = getVm().getSimulation().clock();
+        final HeadReservation reservation = getHeadReservation(head);
+        return findFirstWaitingCloudlet(
+            freePes, cle -> isNotFrozen(cle) && reservation.canBackfill(cle, currentTime + getExpectedRunningTime(cle)));
+    }
+
+    /**
+     * Finds the next Cloudlet to execute in the {@link Mode#CONSERVATIVE} mode,
+     * which is the one with the earliest due reservation that has enough free PEs.
+     *
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    private Optional<CloudletExecution> findNextReservedCloudlet() {
+        compressReservationsIfNeeded();
+        final double currentTime = getVm().getSimulation().clock();
+        final long freePes = getVm().getProcessor().getAvailableResource();
+        for (final Reservation reservation : reservations) {
+            if (!reservation.isDue(currentTime, getMinTimeBetweenEvents())) {
+                break;
+            }
+
+            if (reservation.cle.getNumberOfPes() <= freePes && isNotFrozen(reservation.cle)) {
+                return Optional.of(reservation.cle);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Computes the reservation of the first waiting Cloudlet in the {@link Mode#EASY} mode,
+     * from the finish time of running Cloudlets.
+     *
+     * @param head the first waiting Cloudlet
+     * @return the reservation of the first waiting Cloudlet
+     */
+    private HeadReservation getHeadReservation(final CloudletExecution head) {
+        final double currentTime = getVm().getSimulation().clock();
+        final long freePes = getVm().getProcessor().getAvailableResource();
+        if (freePes >= head.getNumberOfPes()) {
+            return new HeadReservation(currentTime, freePes - head.getNumberOfPes());
+        }
+
+        /* The Cloudlet starts at the first time when the PEs released up to it are enough. */
+        final long maxChanges = freePes - head.getNumberOfPes();
+        final double startTime = usedPesChanges.findFirstTimeAtMost(maxChanges);
+        if (startTime == Double.MAX_VALUE) {
+            /* The Cloudlet requires more PEs than the VM has,
+             * thus it will never execute and cannot be delayed. */
+            return new HeadReservation(Double.MAX_VALUE, 0);
+        }
+
+        return new HeadReservation(Math.max(startTime, currentTime), maxChanges - usedPesChanges.sumUpTo(startTime));
+    }
+
+    /**
+     * Finds the earliest time a Cloudlet fits in the reservation profile for its entire running time,
+     * without changing any existing reservation.
+     *
+     * @param pes the number of PEs the Cloudlet requires
+     * @param runningTime the expected running time of the Cloudlet
+     * @return the earliest start time or {@link Double#MAX_VALUE} if the Cloudlet never fits
+     */
+    private double findEarliestStartTime(final long pes, final double runningTime) {
+        final double currentTime = getVm().getSimulation().clock();
+        /* The Cloudlet fits when the changes up to a time don't increase the used PEs beyond that. */
+        final long maxChanges = getVm().getProcessor().getCapacity() - getUsedPes() - pes;
+        return usedPesChanges.findEarliestFit(currentTime, maxChanges, runningTime);
+    }
+
+    /**
+     * Moves reservations to earlier times when PEs were released earlier than expected.
+     * Each reservation is removed and added again at the earliest time it fits,
+     * in arrival order, so that no reservation is moved to a later time.
+     */
+    private void compressReservationsIfNeeded() {
+        if (!compressionNeeded) {
+            return;
+        }
+
+        compressionNeeded = false;
+        final List<CloudletExecution> reservedCloudlets = new ArrayList<>(reservationHandles.size());
+        for (final CloudletExecution cle : getCloudletWaitingList()) {
+            if (removeReservation(cle)) {
+                reservedCloudlets.add(cle);
+            }
+        }
+
+        reservedCloudlets.forEach(this::addReservation);
+    }
+
+    private void addReservation(final CloudletExecution cle) {
+        final double runningTime = getExpectedRunningTime(cle);
+        final double startTime = findEarliestStartTime(cle.getNumberOfPes(), runningTime);
+        if (startTime == Double.MAX_VALUE) {
+            return;
+        }
+
+        final Reservation reservation = new Reservation(cle, startTime, startTime + runningTime, reservationSeq++);
+        reservationHandles.put(cle, reservation);
+        reservations.add(reservation);
+        addUsedPesChange(reservation.startTime, cle.getNumberOfPes());
+        addUsedPesChange(reservation.finishTime, -cle.getNumberOfPes());
+    }
+
+    /**
+     * Removes the reservation of a Cloudlet.
+     * @param cle the Cloudlet to remove the reservation
+     * @return true if the Cloudlet had a reservation, false otherwise
+     */
+    private boolean removeReservation(final CloudletExecution cle) {
+        final Reservation reservation = reservationHandles.remove(cle);
+        if (reservation == null) {
+            return false;
+        }
+
+        reservations.remove(reservation);
+        addUsedPesChange(reservation.startTime, -cle.getNumberOfPes());
+        addUsedPesChange(reservation.finishTime, cle.getNumberOfPes());
+        return true;
+    }
+
+    private void addUsedPesChange(final double time, final long pes) {
+        usedPesChanges.add(time, pes);
+    }
+
+    /**
+     * Gets the expected time a Cloudlet uses its PEs, from the time it starts executing.
+     * Besides the time to execute the remaining length, a finished Cloudlet
+     * is only found at the next processing update and releases its PEs at the update after that,
+     * which are at least the {@link org.cloudbus.cloudsim.core.Simulation#getMinTimeBetweenEvents() minimum time between events} apart.
+     *
+     * @param cle the Cloudlet to get the expected running time
+     * @return the expected running time (in seconds)
+     */
+    private double getExpectedRunningTime(final CloudletExecution cle) {
+        return cle.getRemainingCloudletLength() / getVm().getMips() + 2 * getMinTimeBetweenEvents();
+    }
+
+    private double getMinTimeBetweenEvents() {
+        return getVm().getSimulation().getMinTimeBetweenEvents();
+    }
+
+    private boolean isNotFrozen(final CloudletExecution cle) {
+        return cle.getCloudlet().getStatus() != Cloudlet.Status.FROZEN;
+    }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        if (mode == Mode.CONSERVATIVE && cle != CloudletExecution.NULL) {
+            compressReservationsIfNeeded();
+            addReservation(cle);
+        }
+    }
+
+    @Override
+    protected CloudletExecution removeCloudletFromWaitingList(final CloudletExecution cle) {
+        /* The Cloudlet leaves the waiting list without executing (e.g. it was canceled or aborted). */
+        compressionNeeded |= removeReservation(cle);
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    @Override
+    protected CloudletExecution addWaitingCloudletToExecList(final CloudletExecution cle) {
+        removeReservation(cle);
+        return super.addWaitingCloudletToExecList(cle);
+    }
+
+    @Override
+    protected void addCloudletToExecList(final CloudletExecution cle) {
+        super.addCloudletToExecList(cle);
+        final double finishTime = getVm().getSimulation().clock() + getExpectedRunningTime(cle);
+        runningFinishTimes.put(cle, finishTime);
+        addUsedPesChange(finishTime, -cle.getNumberOfPes());
+    }
+
+    @Override
+    protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
+        final Double finishTime = runningFinishTimes.remove(cle);
+        if (finishTime != null) {
+            addUsedPesChange(finishTime, cle.getNumberOfPes());
+            /* The Cloudlet released its PEs earlier than expected (e.g. it was canceled or aborted). */
+            compressionNeeded |= mode == Mode.CONSERVATIVE &&
+                                 finishTime > getVm().getSimulation().clock() + getMinTimeBetweenEvents();
+        }
+
+        return super.removeCloudletFromExecList(cle);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        usedPesChanges.clear();
+        runningFinishTimes.clear();
+        reservations.clear();
+        reservationHandles.clear();
+        compressionNeeded = false;
+    }
+
+    /**
+     * The reservation of the first waiting Cloudlet in the {@link Mode#EASY} mode.
+     */
+    private static final class HeadReservation {
+        /**
+         * The time the first waiting Cloudlet is expected to start.
+         */
+        private final double startTime;
+
+        /**
+         * The number of PEs expected to be free at the {@link #startTime}
+         * that the first waiting Cloudlet won't use.
+         */
+        private final long extraPes;
+
+        private HeadReservation(final double startTime, final long extraPes) {
+            this.startTime = startTime;
+            this.extraPes = extraPes;
+        }
+
+        /**
+         * Checks if a Cloudlet starting now doesn't delay the first waiting Cloudlet.
+         * @param cle the Cloudlet to check
+         * @param releaseTime the time the Cloudlet is expected to release its PEs if started now,
+         *                    computed as the reservation {@link #startTime} is
+         * @return true if the Cloudlet can be backfilled, false otherwise
+         */
+        private boolean canBackfill(final CloudletExecution cle, final double releaseTime) {
+            return cle.getNumberOfPes() <= extraPes || releaseTime <= startTime;
+        }
+    }
+
+    /**
+     * The time interval a waiting Cloudlet is expected to execute in the {@link Mode#CONSERVATIVE} mode.
+     */
+    private static final class Reservation implements Comparable<Reservation>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final CloudletExecution cle;
+        private final double startTime;
+        private final double finishTime;
+        private final long seq;
+
+        private Reservation(final CloudletExecution cle, final double startTime, final double finishTime, final long seq) {
+            this.cle = cle;
+            this.startTime = startTime;
+            this.finishTime = finishTime;
+            this.seq = seq;
+        }
+
+        /**
+         * Checks if the Cloudlet is expected to start by a given time.
+         * @param currentTime the current simulation time
+         * @param tolerance the time the Cloudlet may start earlier than reserved,
+         *                  to avoid missing a reservation due to rounding errors
+         * @return true if the reservation is due, false otherwise
+         */
+        private boolean isDue(final double currentTime, final double tolerance) {
+            return startTime <= currentTime + tolerance;
+        }
+
+        @Override
+        public int compareTo(final Reservation other) {
+            final int result = Double.compare(startTime, other.startTime);
+            return result == 0 ? Long.compare(seq, other.seq) : result;
+        }
+    }
+}
@@ -29,6 +29,8 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.util.MathUtil;
 
+import java.io.Serializable;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -123,6 +125,8 @@ import static java.util.stream.Collectors.toList;
  * @see <a href="https://oakbytes.wordpress.com/linux-scheduler/">Linux Scheduler FAQ</a>
  */
 public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTimeShared {
+    private static final long serialVersionUID = 1L;
+
 	/**
 	 * @see #getMinimumGranularity()
 	 */
@@ -133,6 +137,16 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	 */
 	private int latency = 3;
 
+    /**
+     * Creates a Completely Fair Scheduler (CFS), which keeps the waiting list (runqueue)
+     * sorted by the {@link #waitingCloudletsComparator(CloudletExecution, CloudletExecution) virtual runtime}
+     * of the Cloudlets.
+     */
+    public CloudletSchedulerCompletelyFair() {
+        super();
+        sortCloudletWaitingList((Comparator<CloudletExecution> & Serializable) this::waitingCloudletsComparator);
+    }
+
     /**
      * A comparator used to increasingly sort Cloudlets into the waiting list
      * based on their virtual runtime (vruntime or VRT). By this way, the Cloudlets in the beginning
@@ -237,12 +251,13 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * The cloudlet waiting list (runqueue) is sorted according to the virtual runtime (vruntime or VRT),
      * which indicates the amount of time the Cloudlet has run.
      * This runtime increases as the Cloudlet executes.
+     * Since it just changes for waiting Cloudlets when they are preempted,
+     * the list is kept sorted as Cloudlets are added, instead of sorting it at every call.
      *
      * @return {@inheritDoc}
      */
     @Override
     protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
-        sortCloudletWaitingList(this::waitingCloudletsComparator);
         return super.findSuitableWaitingCloudlet();
     }
 
@@ -371,6 +386,17 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
                 .min().orElse(Double.MAX_VALUE);
     }
 
+    /**
+     * {@inheritDoc}
+     * The progress of each Cloudlet is updated to compute its virtual runtime, so it cannot be lazily accounted.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isLazyProgressAccountingSupported() {
+        return false;
+    }
+
     @Override
     public long updateCloudletProcessing(final CloudletExecution cle, final double currentTime) {
         /*
@@ -440,6 +466,18 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         return isThereEnoughFreePesForCloudlet(cloudlet);
     }
 
+    /**
+     * {@inheritDoc}
+     * Since a Cloudlet just executes if there are enough free PEs for it,
+     * that is the number of free PEs.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected long getMaxPesForWaitingCloudlet() {
+        return getVm().getProcessor().getAvailableResource();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -490,9 +528,14 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         and next Cloudlets on the beginning of this list are moved
         to the execution list, the virtual runtime of these preempted Cloudlets
         is reset so that they can compete with other waiting Cloudlets to use
-        the processor again.*/
+        the processor again.
+        The ones still waiting are re-inserted to keep the waiting list sorted.*/
         for(final CloudletExecution c: preemptedCloudlets) {
+            final boolean waiting = removeCloudletFromWaitingList(c) != CloudletExecution.NULL;
             c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            if(waiting) {
+                addCloudletToWaitingList(c);
+            }
         }
 
         return nextCloudletFinishTime;
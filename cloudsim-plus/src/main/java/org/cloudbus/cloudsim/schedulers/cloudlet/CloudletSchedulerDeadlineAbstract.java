@@ -0,0 +1,378 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A base class for space-shared {@link CloudletScheduler}s that perform admission control,
+ * accepting a submitted Cloudlet only if it and all the waiting Cloudlets are expected
+ * to finish before their deadlines. Otherwise, the submitted Cloudlet fails.
+ *
+ * <p>Cloudlets are expected to run one after another, in the order given by a {@link Comparator},
+ * which is the only thing that changes between subclasses.
+ * The waiting list is kept in that order and the waiting Cloudlets are also indexed in a {@link CloudletAdmissionTree},
+ * so that the admission of a Cloudlet is checked in O(log n).</p>
+ *
+ * <p>Optionally, Cloudlets that can no longer meet their deadlines can be
+ * {@link #setAbortInfeasibleCloudlets(boolean) aborted}, so that they stop using PEs
+ * that could run Cloudlets still able to meet their deadlines.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public abstract class CloudletSchedulerDeadlineAbstract extends CloudletSchedulerSpaceShared {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @see #getQueueOrder()
+     */
+    private final Comparator<CloudletExecution> queueOrder;
+
+    /**
+     * The waiting Cloudlets in the {@link #getQueueOrder() queue order}, used for admission control.
+     */
+    private final CloudletAdmissionTree admissionTree;
+
+    /**
+     * @see #isAbortInfeasibleCloudlets()
+     */
+    private boolean abortInfeasibleCloudlets;
+
+    /**
+     * The waiting Cloudlets ordered by their {@link #getLatestStartTime(CloudletExecution) latest start time},
+     * used to find the ones that cannot meet their deadlines anymore,
+     * which is kept only when {@link #isAbortInfeasibleCloudlets() infeasible Cloudlets are aborted}.
+     */
+    private final TreeSet<WaitingCloudlet> waitingByLatestStartTime;
+
+    /**
+     * The entry of each Cloudlet in the {@link #waitingByLatestStartTime} index.
+     */
+    private final Map<CloudletExecution, WaitingCloudlet> waitingHandles;
+
+    /**
+     * A sequence number used to break ties between waiting Cloudlets with the same latest start time.
+     */
+    private long waitingSeq;
+
+    /**
+     * @see #getAbortedCloudlets()
+     */
+    private long abortedCloudlets;
+
+    /**
+     * @see #getReclaimedLength()
+     */
+    private double reclaimedLength;
+
+    /**
+     * Creates a deadline-aware scheduler.
+     * @param queueOrder the order in which waiting Cloudlets are expected to execute,
+     *                   which must be {@link Serializable} to allow simulation checkpoints
+     */
+    protected CloudletSchedulerDeadlineAbstract(final Comparator<CloudletExecution> queueOrder) {
+        super();
+        this.queueOrder = requireNonNull(queueOrder);
+        this.admissionTree = new CloudletAdmissionTree(queueOrder);
+        this.waitingByLatestStartTime = new TreeSet<>();
+        this.waitingHandles = new IdentityHashMap<>();
+        sortCloudletWaitingList(queueOrder);
+    }
+
+    /**
+     * Gets the latest time a Cloudlet can start (or resume) executing and still meet its deadline,
+     * considering it uses the entire capacity of the VM {@link org.cloudbus.cloudsim.resources.Pe}s.
+     *
+     * @param cle the Cloudlet to get the latest start time
+     * @return the latest start time (in seconds)
+     */
+    protected static double getLatestStartTime(final CloudletExecution cle) {
+        return cle.getDeadline() - cle.getRemainingCloudletLength() / cle.getCloudlet().getVm().getMips();
+    }
+
+    /**
+     * Checks if Cloudlets that can no longer meet their deadlines are aborted,
+     * instead of keeping them waiting or running until they finish late.
+     * Aborted Cloudlets fail and are returned to their broker, just as finished ones.
+     *
+     * <p>A Cloudlet can no longer meet its deadline when it wouldn't finish in time
+     * even if it started right now (or kept running) using the entire capacity of its PEs.
+     * That is checked at each processing update, before waiting Cloudlets are moved
+     * to the execution list. Waiting Cloudlets are also checked before a new Cloudlet is admitted.
+     * This way, PEs and waiting list positions are given to Cloudlets still able to meet their deadlines.</p>
+     *
+     * @return true if infeasible Cloudlets are aborted, false otherwise (the default)
+     * @see #getAbortedCloudlets()
+     * @see #getReclaimedLength()
+     */
+    public boolean isAbortInfeasibleCloudlets() {
+        return abortInfeasibleCloudlets;
+    }
+
+    /**
+     * Enables or disables the abortion of Cloudlets that can no longer meet their deadlines.
+     *
+     * @param abortInfeasibleCloudlets true to abort infeasible Cloudlets, false otherwise
+     * @return this scheduler
+     * @see #isAbortInfeasibleCloudlets()
+     */
+    public CloudletSchedulerDeadlineAbstract setAbortInfeasibleCloudlets(final boolean abortInfeasibleCloudlets) {
+        if (this.abortInfeasibleCloudlets == abortInfeasibleCloudlets) {
+            return this;
+        }
+
+        this.abortInfeasibleCloudlets = abortInfeasibleCloudlets;
+        waitingByLatestStartTime.clear();
+        waitingHandles.clear();
+        if (abortInfeasibleCloudlets) {
+            getCloudletWaitingList().forEach(this::addToLatestStartTimeIndex);
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets the number of Cloudlets {@link #isAbortInfeasibleCloudlets() aborted}
+     * because they could no longer meet their deadlines.
+     * @return the number of aborted Cloudlets
+     */
+    public long getAbortedCloudlets() {
+        return abortedCloudlets;
+    }
+
+    /**
+     * Gets the total length of the Cloudlets {@link #isAbortInfeasibleCloudlets() aborted}
+     * that was not executed, considering all their PEs.
+     * That is the capacity reclaimed for other Cloudlets.
+     *
+     * @return the reclaimed length (in MI)
+     */
+    public double getReclaimedLength() {
+        return reclaimedLength;
+    }
+
+    /**
+     * Gets the order in which waiting Cloudlets are expected to execute.
+     * @return the queue order
+     */
+    public Comparator<CloudletExecution> getQueueOrder() {
+        return queueOrder;
+    }
+
+    @Override
+    protected double cloudletSubmitInternal(final CloudletExecution cle, final double fileTransferTime) {
+        abortInfeasibleWaitingCloudlets(getVm().getSimulation().clock());
+        if (!isSchedulable(cle)) {
+            cle.setStatus(Cloudlet.Status.FAILED);
+            return 0.0;
+        }
+
+        return super.cloudletSubmitInternal(cle, fileTransferTime);
+    }
+
+    /**
+     * Checks if a Cloudlet can be admitted without making it or any waiting Cloudlet
+     * miss its deadline, considering Cloudlets run one after another in the {@link #getQueueOrder() queue order},
+     * after the ones currently executing.
+     *
+     * @param cle the Cloudlet to check
+     * @return true if the Cloudlet can be admitted, false otherwise
+     */
+    protected boolean isSchedulable(final CloudletExecution cle) {
+        double capacity = 0.0;
+        int cpus = 0;
+        for (final double mips : getCurrentMipsShare()) {
+            capacity += mips;
+            if (mips > 0) {
+                cpus++;
+            }
+        }
+
+        if (cpus == 0) {
+            return true;
+        }
+
+        capacity /= cpus;
+        double totalExpected = CloudSim.NULL.clock();
+        for (final CloudletExecution ce : getCloudletExecList()) {
+            final double estimatedFinishTime =
+                Math.max(ce.getRemainingCloudletLength() / capacity, CloudSim.NULL.getMinTimeBetweenEvents());
+            totalExpected = Math.max(totalExpected, ce.getCloudletArrivalTime()) + estimatedFinishTime;
+        }
+
+        admissionTree.setCapacity(capacity);
+        return admissionTree.isFeasible(cle, totalExpected);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Before that, the Cloudlets that cannot meet their deadlines anymore are aborted,
+     * if {@link #isAbortInfeasibleCloudlets() enabled}, so that their PEs can be used by waiting Cloudlets.
+     *
+     * @param currentTime {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected double moveNextCloudletsFromWaitingToExecList(final double currentTime) {
+        abortInfeasibleRunningCloudlets(currentTime);
+        abortInfeasibleWaitingCloudlets(currentTime);
+        return super.moveNextCloudletsFromWaitingToExecList(currentTime);
+    }
+
+    /**
+     * Aborts the running Cloudlets that cannot meet their deadlines anymore,
+     * if {@link #isAbortInfeasibleCloudlets() enabled}.
+     * It must be called just after the processing of such Cloudlets is updated.
+     *
+     * @param currentTime the current simulation time
+     */
+    private void abortInfeasibleRunningCloudlets(final double currentTime) {
+        if (!abortInfeasibleCloudlets) {
+            return;
+        }
+
+        /* Uses an indexed for to avoid ConcurrentModificationException,
+         * since aborted Cloudlets are removed from the list. */
+        final List<CloudletExecution> execList = getCloudletExecList();
+        for (int i = execList.size() - 1; i >= 0; i--) {
+            final CloudletExecution cle = execList.get(i);
+            if (getLatestStartTime(cle) < currentTime) {
+                abortCloudlet(removeCloudletFromExecList(cle));
+            }
+        }
+    }
+
+    /**
+     * Aborts the waiting Cloudlets that cannot meet their deadlines anymore,
+     * if {@link #isAbortInfeasibleCloudlets() enabled}.
+     * Only the Cloudlets whose latest start time has passed are visited.
+     *
+     * @param currentTime the current simulation time
+     */
+    private void abortInfeasibleWaitingCloudlets(final double currentTime) {
+        while (!waitingByLatestStartTime.isEmpty() && waitingByLatestStartTime.first().latestStartTime < currentTime) {
+            abortCloudlet(removeCloudletFromWaitingList(waitingByLatestStartTime.first().cle));
+        }
+    }
+
+    /**
+     * Aborts a Cloudlet that cannot meet its deadline anymore,
+     * returning it to its broker with {@link Cloudlet.Status#FAILED} status,
+     * just as it's done for finished Cloudlets.
+     *
+     * @param cle the Cloudlet to abort, already removed from the waiting or execution list
+     */
+    private void abortCloudlet(final CloudletExecution cle) {
+        abortedCloudlets++;
+        reclaimedLength += cle.getRemainingCloudletLength() * cle.getNumberOfPes();
+        cle.setStatus(Cloudlet.Status.FAILED);
+        cle.finalizeCloudlet();
+        getCloudletFailedList().add(cle);
+        LOGGER.debug(
+            "{}: {}: {} was aborted because it cannot meet its deadline anymore.",
+            getVm().getSimulation().clockStr(), getClass().getSimpleName(), cle.getCloudlet());
+        cle.getCloudlet().returnToBroker();
+    }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        if (cle != CloudletExecution.NULL) {
+            if (isQueueAdmissionControlUsed()) {
+                admissionTree.add(cle);
+            }
+
+            if (abortInfeasibleCloudlets) {
+                addToLatestStartTimeIndex(cle);
+            }
+        }
+    }
+
+    /**
+     * Checks if the admission control performed by {@link #isSchedulable(CloudletExecution)},
+     * which considers the waiting Cloudlets in the {@link #getQueueOrder() queue order}, is used.
+     * Subclasses that override such a method with a different admission control
+     * may return false, so that waiting Cloudlets aren't indexed for it.
+     *
+     * @return true if the queue order admission control is used (the default), false otherwise
+     */
+    protected boolean isQueueAdmissionControlUsed() {
+        return true;
+    }
+
+    private void addToLatestStartTimeIndex(final CloudletExecution cle) {
+        final WaitingCloudlet entry = new WaitingCloudlet(cle, getLatestStartTime(cle), waitingSeq++);
+        waitingHandles.put(cle, entry);
+        waitingByLatestStartTime.add(entry);
+    }
+
+    @Override
+    protected CloudletExecution removeCloudletFromWaitingList(final CloudletExecution cle) {
+        admissionTree.remove(cle);
+        final WaitingCloudlet entry = waitingHandles.remove(cle);
+        if (entry != null) {
+            waitingByLatestStartTime.remove(entry);
+        }
+
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        admissionTree.clear();
+        waitingByLatestStartTime.clear();
+        waitingHandles.clear();
+    }
+
+    /**
+     * A waiting Cloudlet and its latest start time, which doesn't change while it waits.
+     */
+    private static final class WaitingCloudlet implements Comparable<WaitingCloudlet>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final CloudletExecution cle;
+        private final double latestStartTime;
+        private final long seq;
+
+        private WaitingCloudlet(final CloudletExecution cle, final double latestStartTime, final long seq) {
+            this.cle = cle;
+            this.latestStartTime = latestStartTime;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(final WaitingCloudlet other) {
+            final int result = Double.compare(latestStartTime, other.latestStartTime);
+            return result == 0 ? Long.compare(seq, other.seq) : result;
+        }
+    }
+}
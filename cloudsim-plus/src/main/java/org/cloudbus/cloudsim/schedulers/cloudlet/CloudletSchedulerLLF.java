@@ -0,0 +1,303 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * A space-shared {@link CloudletScheduler} that implements the preemptive
+ * <a href="https://en.wikipedia.org/wiki/Least_slack_time_scheduling">Least Laxity First (LLF)</a> policy,
+ * admitting a Cloudlet only if it and all the waiting ones are expected to meet their deadlines.
+ *
+ * <p>The laxity of a Cloudlet is the time it can still wait without missing its deadline,
+ * that is {@code deadline - now - remainingLength/mips}, where the MIPS are the ones of each VM {@link org.cloudbus.cloudsim.resources.Pe}.
+ * Waiting Cloudlets are executed in increasing order of laxity and a running Cloudlet is preempted
+ * (moved back to the waiting list) when a waiting one gets a laxity smaller than the running one,
+ * by more than the {@link #getPreemptionHysteresis() preemption hysteresis}.</p>
+ *
+ * <p>Laxities are not recomputed on every processing update. While a Cloudlet waits, its laxity decreases
+ * at the same rate as the ones of all other waiting Cloudlets, so the waiting list is kept ordered by
+ * the time each Cloudlet has to start at the latest, which doesn't change while it waits.
+ * While a Cloudlet runs, its laxity doesn't change, so it's computed just when the Cloudlet starts
+ * and kept in an index of running Cloudlets. That way, the time of the next preemption is computed
+ * from the first waiting and the running Cloudlet with the highest laxity, in O(log n).</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletSchedulerLLF extends CloudletSchedulerDeadlineAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default {@link #getPreemptionHysteresis() preemption hysteresis} (in seconds).
+     */
+    public static final double DEF_PREEMPTION_HYSTERESIS = 1.0;
+
+    /**
+     * @see #getPreemptionHysteresis()
+     */
+    private double preemptionHysteresis;
+
+    /**
+     * @see #getPreemptions()
+     */
+    private long preemptions;
+
+    /**
+     * The laxity of each running Cloudlet, ordered from the highest one.
+     * Entries of Cloudlets that left the execution list without being
+     * removed from the index (such as paused or canceled ones) are discarded
+     * only when they are found at the top of the index.
+     */
+    private final TreeSet<RunningCloudlet> runningCloudlets;
+
+    /**
+     * The entry of each Cloudlet in the {@link #runningCloudlets} index.
+     */
+    private final Map<CloudletExecution, RunningCloudlet> runningHandles;
+
+    /**
+     * A sequence number used to break ties between running Cloudlets with the same laxity.
+     */
+    private long runningSeq;
+
+    public CloudletSchedulerLLF() {
+        super((Comparator<CloudletExecution> & Serializable)
+            (lhs, rhs) -> Double.compare(getLatestStartTime(lhs), getLatestStartTime(rhs)));
+        this.preemptionHysteresis = DEF_PREEMPTION_HYSTERESIS;
+        this.runningCloudlets = new TreeSet<>();
+        this.runningHandles = new IdentityHashMap<>();
+    }
+
+    /**
+     * Gets the laxity of a Cloudlet at a given time.
+     * @param cle the Cloudlet to get the laxity
+     * @param time the time to compute the laxity
+     * @return the laxity (in seconds), which is negative if the Cloudlet cannot meet its deadline anymore
+     */
+    public double getLaxity(final CloudletExecution cle, final double time) {
+        return getLatestStartTime(cle) - time;
+    }
+
+    /**
+     * Gets the minimum difference between the laxity of a running Cloudlet and the laxity of a waiting one
+     * for the running Cloudlet to be preempted.
+     * It avoids Cloudlets with similar laxities from preempting each other over and over
+     * (which is known as thrashing): after a preemption,
+     * the same Cloudlets are swapped again only after twice that time.
+     *
+     * @return the preemption hysteresis (in seconds)
+     */
+    public double getPreemptionHysteresis() {
+        return preemptionHysteresis;
+    }
+
+    /**
+     * Sets the minimum difference between the laxity of a running Cloudlet and the laxity of a waiting one
+     * for the running Cloudlet to be preempted.
+     *
+     * @param preemptionHysteresis the preemption hysteresis to set (in seconds)
+     * @return this scheduler
+     * @see #getPreemptionHysteresis()
+     */
+    public CloudletSchedulerLLF setPreemptionHysteresis(final double preemptionHysteresis) {
+        if(preemptionHysteresis < 0){
+            throw new IllegalArgumentException("Preemption hysteresis cannot be negative.");
+        }
+
+        this.preemptionHysteresis = preemptionHysteresis;
+        return this;
+    }
+
+    /**
+     * Gets the number of times a running Cloudlet was preempted to give place to a waiting one.
+     * @return the number of preemptions
+     */
+    public long getPreemptions() {
+        return preemptions;
+    }
+
+    /**
+     * {@inheritDoc}
+     * After the processing is updated, running Cloudlets are preempted by waiting ones with smaller laxity.
+     *
+     * @param currentTime {@inheritDoc}
+     * @param mipsShare {@inheritDoc}
+     * @return the time of the next expiring Cloudlet or the time of the next preemption, whichever comes first
+     *         (which is a relative delay from the current simulation time),
+     *         or {@link Double#MAX_VALUE} if there is no next event
+     */
+    @Override
+    public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+        final double nextCloudletFinishTime = super.updateProcessing(currentTime, mipsShare);
+        final double preemptedCloudletFinishTime = preemptCloudletsWithHigherLaxity(currentTime);
+        return Math.min(Math.min(nextCloudletFinishTime, preemptedCloudletFinishTime), nextPreemptionDelay(currentTime));
+    }
+
+    /**
+     * Preempts running Cloudlets while there is a waiting one with a laxity smaller than theirs,
+     * starting the waiting Cloudlets in their place.
+     *
+     * @param currentTime the current simulation time
+     * @return the predicted completion time of the earliest finishing Cloudlet that was started
+     *         (which is a relative delay from the current simulation time),
+     *         or {@link Double#MAX_VALUE} if no Cloudlet was started
+     */
+    private double preemptCloudletsWithHigherLaxity(final double currentTime) {
+        double nextCloudletFinishTime = Double.MAX_VALUE;
+        Optional<CloudletExecution> candidate = findPreemptionCandidate();
+        while (candidate.isPresent() && getLaxity(candidate.get(), currentTime) < getHighestRunningLaxity() - preemptionHysteresis) {
+            final CloudletExecution cle = candidate.get();
+            final CloudletExecution preempted = runningCloudlets.first().cle;
+            /* If the candidate doesn't fit into the PEs freed by the preempted Cloudlet,
+             * the preemption would just leave such PEs idle. */
+            if (!isThereEnoughPesAfterPreemption(cle, preempted)) {
+                break;
+            }
+
+            addCloudletToWaitingList(removeCloudletFromExecList(preempted));
+            preemptions++;
+
+            if (canExecuteCloudletInternal(cle)) {
+                addWaitingCloudletToExecList(cle);
+                nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(cle, currentTime));
+            }
+
+            candidate = findPreemptionCandidate();
+        }
+
+        return nextCloudletFinishTime;
+    }
+
+    /**
+     * Computes the delay until a waiting Cloudlet gets a laxity small enough to preempt a running one.
+     * @param currentTime the current simulation time
+     * @return the delay until the next preemption or {@link Double#MAX_VALUE} if no preemption is expected
+     */
+    private double nextPreemptionDelay(final double currentTime) {
+        return findPreemptionCandidate()
+            .map(cle -> getLaxity(cle, currentTime) - getHighestRunningLaxity() + preemptionHysteresis)
+            .map(delay -> Math.max(delay, getVm().getSimulation().getMinTimeBetweenEvents()))
+            .orElse(Double.MAX_VALUE);
+    }
+
+    /**
+     * Finds the waiting Cloudlet with the smallest laxity that can take the place
+     * of the running Cloudlet with the highest laxity.
+     *
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional
+     *         if there is no such a Cloudlet or no running Cloudlet to be preempted
+     */
+    private Optional<CloudletExecution> findPreemptionCandidate() {
+        discardRunningCloudletsNotExecuting();
+        if (runningCloudlets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final long maxPes = getMaxPesForWaitingCloudlet() + runningCloudlets.first().cle.getNumberOfPes();
+        return findFirstWaitingCloudlet(maxPes, cle -> cle.getCloudlet().getStatus() != Cloudlet.Status.FROZEN);
+    }
+
+    /**
+     * Checks if a waiting Cloudlet will have enough PEs to execute
+     * after a running Cloudlet is preempted.
+     *
+     * @param candidate the waiting Cloudlet to start
+     * @param preempted the running Cloudlet to preempt
+     * @return true if the candidate fits into the free PEs plus the PEs of the preempted Cloudlet, false otherwise
+     */
+    private boolean isThereEnoughPesAfterPreemption(final CloudletExecution candidate, final CloudletExecution preempted) {
+        return getMaxPesForWaitingCloudlet() + preempted.getNumberOfPes() >= candidate.getNumberOfPes();
+    }
+
+    private double getHighestRunningLaxity() {
+        return runningCloudlets.first().laxity;
+    }
+
+    /**
+     * Lazily removes from the top of the {@link #runningCloudlets} index the Cloudlets
+     * that aren't executing anymore.
+     */
+    private void discardRunningCloudletsNotExecuting() {
+        while (!runningCloudlets.isEmpty() && runningCloudlets.first().cle.getCloudlet().getStatus() != Cloudlet.Status.INEXEC) {
+            runningHandles.remove(runningCloudlets.pollFirst().cle);
+        }
+    }
+
+    @Override
+    protected void addCloudletToExecList(final CloudletExecution cle) {
+        super.addCloudletToExecList(cle);
+        removeRunningCloudlet(cle);
+        final RunningCloudlet entry = new RunningCloudlet(cle, getLaxity(cle, getVm().getSimulation().clock()), runningSeq++);
+        runningHandles.put(cle, entry);
+        runningCloudlets.add(entry);
+    }
+
+    @Override
+    protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
+        removeRunningCloudlet(cle);
+        return super.removeCloudletFromExecList(cle);
+    }
+
+    private void removeRunningCloudlet(final CloudletExecution cle) {
+        final RunningCloudlet entry = runningHandles.remove(cle);
+        if (entry != null) {
+            runningCloudlets.remove(entry);
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        runningCloudlets.clear();
+        runningHandles.clear();
+    }
+
+    /**
+     * A running Cloudlet and its laxity, which doesn't change while it runs.
+     * Entries are ordered by decreasing laxity.
+     */
+    private static final class RunningCloudlet implements Comparable<RunningCloudlet>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final CloudletExecution cle;
+        private final double laxity;
+        private final long seq;
+
+        private RunningCloudlet(final CloudletExecution cle, final double laxity, final long seq) {
+            this.cle = cle;
+            this.laxity = laxity;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(final RunningCloudlet other) {
+            final int result = Double.compare(other.laxity, laxity);
+            return result == 0 ? Long.compare(seq, other.seq) : result;
+        }
+    }
+}
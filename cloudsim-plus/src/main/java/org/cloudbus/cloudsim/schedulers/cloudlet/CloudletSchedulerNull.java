@@ -18,6 +18,8 @@ import java.util.List;
  * @see CloudletScheduler#NULL
  */
 final class CloudletSchedulerNull implements CloudletScheduler {
+    private static final long serialVersionUID = 1L;
+
     @Override public Cloudlet cloudletFail(Cloudlet cloudlet) { return Cloudlet.NULL; }
     @Override public Cloudlet cloudletCancel(Cloudlet cloudlet) {
         return Cloudlet.NULL;
@@ -30,6 +30,7 @@ import org.cloudbus.cloudsim.resources.Pe;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     @Override
     public double cloudletResume(Cloudlet cloudlet) {
@@ -89,4 +90,16 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
     protected boolean canExecuteCloudletInternal(final CloudletExecution cloudlet) {
         return isThereEnoughFreePesForCloudlet(cloudlet);
     }
+
+    /**
+     * {@inheritDoc}
+     * Since a Cloudlet just executes if there are enough free PEs for it,
+     * that is the number of free PEs.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected long getMaxPesForWaitingCloudlet() {
+        return getVm().getProcessor().getAvailableResource();
+    }
 }
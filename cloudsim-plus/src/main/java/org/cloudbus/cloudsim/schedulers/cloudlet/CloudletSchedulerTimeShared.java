@@ -74,6 +74,7 @@ import java.util.List;
  * @see CloudletSchedulerSpaceShared
  */
 public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,259 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.util.*;
+
+/**
+ * A time-shared {@link CloudletScheduler} that divides the VM MIPS among running Cloudlets
+ * according to their urgency and admits a Cloudlet only if all of them
+ * are expected to meet their deadlines. Otherwise, the submitted Cloudlet fails.
+ *
+ * <p>The urgency of a Cloudlet is its <b>density</b>, that is its remaining length divided by
+ * the time left until its deadline (minus a {@link #getDeadlineMargin() margin}),
+ * which is the MIPS it requires to finish right at the deadline.
+ * The MIPS of each PE are divided among Cloudlets proportionally to their densities,
+ * but a Cloudlet never gets more than the capacity of a PE.
+ * Cloudlets that have already missed their deadlines or are about to finish
+ * are given the capacity of an entire PE first.</p>
+ *
+ * <p>The admission control uses the utilization bound of EDF for a processor that can be shared at any rate:
+ * all Cloudlets meet their deadlines if the sum of their densities doesn't exceed the VM capacity.
+ * Such a sum is computed again at each processing update, when Cloudlets are visited anyway,
+ * and the densities of admitted Cloudlets are added to it, so that each admission takes O(1).</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletSchedulerTimeSharedWithDeadline extends CloudletSchedulerTimeShared {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default {@link #getDeadlineMargin() deadline margin} (in seconds).
+     */
+    public static final double DEF_DEADLINE_MARGIN = 1.0;
+
+    /**
+     * @see #getDeadlineMargin()
+     */
+    private double deadlineMargin;
+
+    /**
+     * The MIPS of a PE given to each running Cloudlet since the last processing update.
+     * Cloudlets not found were started after that update.
+     */
+    private final Map<CloudletExecution, Double> mipsByCloudlet;
+
+    /**
+     * @see #getRequiredMips()
+     */
+    private double requiredMips;
+
+    public CloudletSchedulerTimeSharedWithDeadline() {
+        super();
+        this.mipsByCloudlet = new IdentityHashMap<>();
+        this.deadlineMargin = DEF_DEADLINE_MARGIN;
+    }
+
+    /**
+     * Gets the time before the deadline of each Cloudlet by which it is expected to finish.
+     * Since Cloudlets are given just the MIPS they need to meet their deadlines
+     * when the VM is fully used, they would finish right at the deadline.
+     * The margin compensates for the time between processing updates,
+     * when the MIPS are not divided again.
+     *
+     * @return the deadline margin (in seconds)
+     */
+    public double getDeadlineMargin() {
+        return deadlineMargin;
+    }
+
+    /**
+     * Sets the time before the deadline of each Cloudlet by which it is expected to finish.
+     *
+     * @param deadlineMargin the deadline margin to set (in seconds)
+     * @return this scheduler
+     * @see #getDeadlineMargin()
+     */
+    public CloudletSchedulerTimeSharedWithDeadline setDeadlineMargin(final double deadlineMargin) {
+        if(deadlineMargin < 0){
+            throw new IllegalArgumentException("Deadline margin cannot be negative.");
+        }
+
+        this.deadlineMargin = deadlineMargin;
+        return this;
+    }
+
+    /**
+     * Gets the sum of the densities of running Cloudlets, that is the total MIPS they require
+     * to meet their deadlines, as computed in the last processing update
+     * plus the densities of Cloudlets admitted since then.
+     *
+     * @return the required MIPS
+     */
+    public double getRequiredMips() {
+        return requiredMips;
+    }
+
+    /**
+     * Gets the density of a Cloudlet at a given time,
+     * that is the MIPS (for each of its PEs) it requires to finish right at its deadline,
+     * minus the {@link #getDeadlineMargin() deadline margin}.
+     *
+     * @param cle the Cloudlet to get the density
+     * @param time the time to compute the density
+     * @return the density or {@link Double#POSITIVE_INFINITY} if the deadline was reached
+     *         or the Cloudlet has less than 1 MI to finish
+     */
+    private double getDensity(final CloudletExecution cle, final double time) {
+        final double timeToDeadline = cle.getDeadline() - deadlineMargin - time;
+        /* The remaining length is rounded down, so a Cloudlet with less than 1 MI to finish
+         * would get almost no MIPS if that was used as its density. */
+        final long remainingLength = cle.getRemainingCloudletLength();
+        return timeToDeadline > 0 && remainingLength > 0 ? remainingLength / timeToDeadline : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    protected double cloudletSubmitInternal(final CloudletExecution cle, final double fileTransferTime) {
+        final double density = getDensity(cle, getVm().getSimulation().clock());
+        final double mips = density * cle.getNumberOfPes();
+        if (density > getVm().getMips() || requiredMips + mips > getVm().getTotalMipsCapacity()) {
+            cle.setStatus(Cloudlet.Status.FAILED);
+            return 0.0;
+        }
+
+        requiredMips += mips;
+        super.cloudletSubmitInternal(cle, fileTransferTime);
+        /* Requests a processing update as soon as possible,
+         * so that the MIPS are divided again considering the new Cloudlet. */
+        return fileTransferTime + getVm().getSimulation().getMinTimeBetweenEvents();
+    }
+
+    /**
+     * {@inheritDoc}
+     * After the processing is updated, the MIPS are divided again among the running Cloudlets,
+     * according to their new densities.
+     *
+     * @param currentTime {@inheritDoc}
+     * @param mipsShare {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+        final double nextSimulationDelay = super.updateProcessing(currentTime, mipsShare);
+        if (nextSimulationDelay == Double.MAX_VALUE) {
+            mipsByCloudlet.clear();
+            requiredMips = 0;
+            return nextSimulationDelay;
+        }
+
+        divideMipsByDensity(currentTime);
+        double nextCloudletFinishTime = Double.MAX_VALUE;
+        for (final CloudletExecution cle : getCloudletExecList()) {
+            nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(cle, currentTime));
+        }
+
+        return nextCloudletFinishTime;
+    }
+
+    /**
+     * Divides the MIPS of the PEs among the running Cloudlets proportionally to their densities,
+     * giving at most the capacity of a PE to each Cloudlet.
+     * Cloudlets that would get more than that are served first and the MIPS left
+     * are divided among the other ones.
+     *
+     * @param currentTime the current simulation time
+     */
+    private void divideMipsByDensity(final double currentTime) {
+        final List<CloudletExecution> cloudlets = new ArrayList<>(getCloudletExecList());
+        final Map<CloudletExecution, Double> densities = new IdentityHashMap<>();
+        double totalWeight = 0;
+        requiredMips = 0;
+        for (final CloudletExecution cle : cloudlets) {
+            final double density = getDensity(cle, currentTime);
+            densities.put(cle, density);
+            if (Double.isFinite(density)) {
+                totalWeight += density * cle.getNumberOfPes();
+                requiredMips += density * cle.getNumberOfPes();
+            } else {
+                requiredMips += getVm().getMips() * cle.getNumberOfPes();
+            }
+        }
+
+        cloudlets.sort(Comparator.comparingDouble(densities::get).reversed());
+        final double peCapacity = getCurrentMipsShare().stream().findFirst().orElse(0.0);
+        double availableMips = getCurrentMipsShare().stream().mapToDouble(Double::doubleValue).sum();
+        mipsByCloudlet.clear();
+        for (final CloudletExecution cle : cloudlets) {
+            final double density = densities.get(cle);
+            final double proportionalMips =
+                Double.isFinite(density) ? (totalWeight > 0 ? availableMips * density / totalWeight : peCapacity) : peCapacity;
+            final double mips = Math.min(Math.min(proportionalMips, peCapacity), availableMips / cle.getNumberOfPes());
+            mipsByCloudlet.put(cle, mips);
+            availableMips = Math.max(availableMips - mips * cle.getNumberOfPes(), 0);
+            if (Double.isFinite(density)) {
+                totalWeight -= density * cle.getNumberOfPes();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The MIPS are the ones the Cloudlet was given according to its density
+     * in the last processing update, or an equal share of the PEs for a Cloudlet started after that.
+     *
+     * @param cle {@inheritDoc}
+     * @param time {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double getAllocatedMipsForCloudlet(final CloudletExecution cle, final double time) {
+        final Double mips = mipsByCloudlet.get(cle);
+        if (mips == null) {
+            return super.getAllocatedMipsForCloudlet(cle, time);
+        }
+
+        return getAbsoluteCloudletResourceUtilization(cle.getCloudlet().getUtilizationModelCpu(), time, mips);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The MIPS given to each Cloudlet change whenever its density does, so progress cannot be lazily accounted.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isLazyProgressAccountingSupported() {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        mipsByCloudlet.clear();
+        requiredMips = 0;
+    }
+}
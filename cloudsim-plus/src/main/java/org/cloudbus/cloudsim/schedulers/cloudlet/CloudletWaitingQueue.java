@@ -0,0 +1,261 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The queue of Cloudlets waiting to execute in a {@link CloudletSchedulerAbstract},
+ * which keeps Cloudlets in arrival order or in the order defined by a {@link Comparator}.
+ * Cloudlets that are equal according to such a Comparator are kept in arrival order.
+ *
+ * <p>Cloudlets are stored in a balanced tree, so that adding and removing a Cloudlet takes O(log n),
+ * instead of sorting the entire queue each time a Cloudlet is added.
+ * Each Cloudlet has a handle to its entry in the tree, so it can be removed without
+ * searching the queue. A tree is used instead of a heap because the queue has to be traversed in order
+ * to find the first Cloudlet that can execute and to provide the waiting list.</p>
+ *
+ * <p>Cloudlets are also indexed by the number of PEs they require, in buckets kept in the same order.
+ * That way, the first Cloudlet that fits into the free PEs is found by looking at the first
+ * Cloudlet of each bucket requiring up to that number of PEs, instead of traversing the entire queue,
+ * which would take O(n^2) to move n Cloudlets to the execution list when small Cloudlets
+ * are waiting behind large ones.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+final class CloudletWaitingQueue implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The entries of the queue, each one indexed by its Cloudlet.
+     */
+    private final Map<CloudletExecution, Entry> handles;
+
+    private TreeSet<Entry> entries;
+
+    /**
+     * The entries of the queue grouped by the number of PEs their Cloudlets require.
+     */
+    private final TreeMap<Long, TreeSet<Entry>> entriesByPes;
+
+    /**
+     * The order of the Cloudlets or null if they are kept in arrival order.
+     */
+    private Comparator<CloudletExecution> order;
+
+    /**
+     * A sequential number assigned to each entry, used to keep
+     * Cloudlets in arrival order.
+     */
+    private long sequence;
+
+    /**
+     * A read-only list containing the Cloudlets in the queue order,
+     * created only when requested and discarded when the queue changes.
+     */
+    private transient List<CloudletExecution> list;
+
+    CloudletWaitingQueue() {
+        this.handles = new IdentityHashMap<>();
+        this.entries = new TreeSet<>(new EntryComparator(null));
+        this.entriesByPes = new TreeMap<>();
+    }
+
+    /**
+     * Sets the order of the Cloudlets, sorting the ones already in the queue.
+     * Cloudlets added later are inserted according to this order.
+     *
+     * @param order the order of the Cloudlets or null to keep them in arrival order,
+     *              which must be {@link Serializable} to allow simulation checkpoints
+     */
+    void setOrder(final Comparator<CloudletExecution> order) {
+        this.order = order;
+        final TreeSet<Entry> sorted = new TreeSet<>(new EntryComparator(order));
+        sorted.addAll(entries);
+        entries = sorted;
+        entriesByPes.clear();
+        entries.forEach(this::addToBucket);
+        list = null;
+    }
+
+    Comparator<CloudletExecution> getOrder() {
+        return order;
+    }
+
+    void add(final CloudletExecution cle) {
+        final Entry entry = new Entry(cle, sequence++);
+        final Entry previous = handles.put(cle, entry);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+
+        entries.add(entry);
+        addToBucket(entry);
+        list = null;
+    }
+
+    /**
+     * Removes a Cloudlet from the queue.
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the queue, false otherwise
+     */
+    boolean remove(final CloudletExecution cle) {
+        final Entry entry = handles.remove(cle);
+        if (entry == null) {
+            return false;
+        }
+
+        removeEntry(entry);
+        list = null;
+        return true;
+    }
+
+    private void addToBucket(final Entry entry) {
+        entriesByPes.computeIfAbsent(entry.pes, pes -> new TreeSet<>(entries.comparator())).add(entry);
+    }
+
+    private void removeEntry(final Entry entry) {
+        final TreeSet<Entry> bucket = entriesByPes.get(entry.pes);
+        removeEntry(entries, entry);
+        removeEntry(bucket, entry);
+        if (bucket.isEmpty()) {
+            entriesByPes.remove(entry.pes);
+        }
+    }
+
+    private static void removeEntry(final TreeSet<Entry> set, final Entry entry) {
+        /* If the order of the Cloudlet changed after it was added, it isn't found by the tree search.
+         * That happens in schedulers that change waiting Cloudlets and then sort the queue again. */
+        if (!set.remove(entry)) {
+            set.removeIf(e -> e == entry);
+        }
+    }
+
+    /**
+     * Gets the first Cloudlet, in queue order, matching a given condition.
+     * @param condition the condition to test
+     * @return an {@link Optional} containing the Cloudlet found or an empty Optional otherwise
+     */
+    Optional<CloudletExecution> findFirst(final Predicate<CloudletExecution> condition) {
+        return findFirst(Long.MAX_VALUE, condition);
+    }
+
+    /**
+     * Gets the first Cloudlet, in queue order, that requires up to a given number of PEs
+     * and matches a given condition.
+     * Only the first Cloudlets of each bucket requiring up to that number of PEs are checked,
+     * except when they don't match the condition.
+     *
+     * @param maxPes the maximum number of PEs the Cloudlet can require
+     * @param condition the condition to test
+     * @return an {@link Optional} containing the Cloudlet found or an empty Optional otherwise
+     */
+    Optional<CloudletExecution> findFirst(final long maxPes, final Predicate<CloudletExecution> condition) {
+        final Comparator<? super Entry> comparator = entries.comparator();
+        Entry first = null;
+        for (final TreeSet<Entry> bucket : entriesByPes.headMap(maxPes, true).values()) {
+            for (final Entry entry : bucket) {
+                if (first != null && comparator.compare(entry, first) > 0) {
+                    break;
+                }
+
+                if (condition.test(entry.cle)) {
+                    first = entry;
+                    break;
+                }
+            }
+        }
+
+        return first == null ? Optional.empty() : Optional.of(first.cle);
+    }
+
+    /**
+     * Gets a read-only list with the Cloudlets in queue order.
+     * The list is not updated when the queue changes.
+     * @return the list of Cloudlets
+     */
+    List<CloudletExecution> asList() {
+        if (list == null) {
+            final List<CloudletExecution> cloudlets = new ArrayList<>(entries.size());
+            entries.forEach(entry -> cloudlets.add(entry.cle));
+            list = Collections.unmodifiableList(cloudlets);
+        }
+
+        return list;
+    }
+
+    Stream<CloudletExecution> stream() {
+        return asList().stream();
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void clear() {
+        handles.clear();
+        entries.clear();
+        entriesByPes.clear();
+        list = null;
+    }
+
+    private static final class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final CloudletExecution cle;
+        private final long seq;
+        private final long pes;
+
+        private Entry(final CloudletExecution cle, final long seq) {
+            this.cle = cle;
+            this.seq = seq;
+            this.pes = cle.getNumberOfPes();
+        }
+    }
+
+    private static final class EntryComparator implements Comparator<Entry>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Comparator<CloudletExecution> order;
+
+        private EntryComparator(final Comparator<CloudletExecution> order) {
+            this.order = order;
+        }
+
+        @Override
+        public int compare(final Entry entry1, final Entry entry2) {
+            final int result = order == null ? 0 : order.compare(entry1.cle, entry2.cle);
+            return result == 0 ? Long.compare(entry1.seq, entry2.seq) : result;
+        }
+    }
+}
@@ -16,6 +16,8 @@ import java.util.List;
  * @see CloudletTaskScheduler#NULL
  */
 final class CloudletTaskSchedulerNull implements CloudletTaskScheduler {
+    private static final long serialVersionUID = 1L;
+
     @Override public Vm getVm() {
         return Vm.NULL;
     }
@@ -34,6 +34,8 @@ import java.util.stream.Collectors;
  * @since CloudSim Plus 1.0
  */
 public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudletTaskSchedulerSimple.class.getSimpleName());
 
     /**
@@ -220,6 +222,7 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
         }
 
         final Datacenter dc = getVm().getHost().getDatacenter();
+        dc.requestHostProcessingUpdate(getVm().getHost());
         dc.schedule(dc, dc.getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
     }
 
@@ -13,6 +13,7 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -32,7 +33,7 @@ import java.util.List;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface VmScheduler {
+public interface VmScheduler extends Serializable {
     Logger LOGGER = LoggerFactory.getLogger(VmScheduler.class.getSimpleName());
 
     /**
@@ -27,6 +27,8 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class VmSchedulerAbstract implements VmScheduler {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The default percentage to define the CPU overhead of VM migration
      * if one is not explicitly set.
@@ -108,6 +110,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
             host.removeVmMigratingOut(vm);
         }
 
+        requestHostProcessingUpdate();
         requestedMipsMap.put(vm, requestedMips);
         if(allocatePesForVmInternal(vm, requestedMips)) {
             updateStatusOfHostPesUsedByVm(vm, getHost().getFreePeList(), Pe.Status.BUSY);
@@ -159,10 +162,20 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
             return;
         }
 
+        requestHostProcessingUpdate();
         deallocatePesFromVmInternal(vm, pesToRemove);
         updateHostUsedPesToFree();
     }
 
+    /**
+     * Requests the Datacenter to update the processing of the {@link #getHost() Host},
+     * before the MIPS allocated to its VMs change.
+     * @see org.cloudbus.cloudsim.datacenters.Datacenter#requestHostProcessingUpdate(Host)
+     */
+    private void requestHostProcessingUpdate() {
+        host.getDatacenter().requestHostProcessingUpdate(host);
+    }
+
     /**
      * Sets the status of physical PEs used by a destroyed VM to FREE.
      * That works for any kind of scheduler, such as time- and space-shared.
@@ -210,6 +223,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
 
     @Override
     public void deallocatePesForAllVms() {
+        requestHostProcessingUpdate();
         allocatedMipsMap.clear();
         getWorkingPeList().forEach(pe -> pe.getPeProvisioner().deallocateResourceForAllVms());
     }
@@ -34,6 +34,8 @@ import java.util.Map.Entry;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(VmSchedulerTimeSharedOverSubscription.class.getSimpleName());
 
     /**
@@ -11,6 +11,8 @@ package org.cloudbus.cloudsim.selectionpolicies;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+
 /**
  * An interface to be used to implement VM selection policies for a list of migratable VMs.
  * The selection is defined by sub classes.
@@ -28,7 +30,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 3.0
  */
-public interface VmSelectionPolicy {
+public interface VmSelectionPolicy extends Serializable {
     VmSelectionPolicy NULL = new VmSelectionPolicyNull();
 
     /**
@@ -36,6 +36,7 @@ import static org.cloudbus.cloudsim.util.MathUtil.correlationCoefficients;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyMaximumCorrelation implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
 
     /** @see #getFallbackPolicy() */
     private VmSelectionPolicy fallbackPolicy;
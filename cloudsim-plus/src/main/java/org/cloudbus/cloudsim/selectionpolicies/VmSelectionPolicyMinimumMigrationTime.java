@@ -30,6 +30,8 @@ import java.util.List;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyMinimumMigrationTime implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
 	@Override
 	public Vm getVmToMigrate(final Host host) {
 		final List<Vm> migratableVms = host.getMigratableVms();
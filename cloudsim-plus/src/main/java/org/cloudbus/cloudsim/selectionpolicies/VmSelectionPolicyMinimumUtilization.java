@@ -34,6 +34,8 @@ import java.util.function.Predicate;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyMinimumUtilization implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Vm getVmToMigrate(final Host host) {
         final List<? extends Vm> migratableVms = host.getMigratableVms();
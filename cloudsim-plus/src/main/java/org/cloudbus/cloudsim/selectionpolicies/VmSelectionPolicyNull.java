@@ -12,5 +12,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 4.1.2
  */
 final class VmSelectionPolicyNull implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
     @Override public Vm getVmToMigrate(Host host) { return Vm.NULL; }
 }
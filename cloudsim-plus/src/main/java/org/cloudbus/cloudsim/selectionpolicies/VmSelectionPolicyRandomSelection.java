@@ -34,6 +34,8 @@ import java.util.Objects;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyRandomSelection implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
     private final ContinuousDistribution rand;
 
     /**
@@ -25,6 +25,7 @@ package org.cloudbus.cloudsim.utilizationmodels;
 
 import org.cloudbus.cloudsim.util.Conversion;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -42,6 +43,8 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.0
  */
 public class UtilizationModelDynamic extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Indicates whether the utilization model is readonly.
      * It's set to true when using the
@@ -148,7 +151,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         this.currentUtilizationTime = 0;
         this.setCurrentUtilization(initialUtilization);
 
-        utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        utilizationUpdateFunction = (Function<UtilizationModelDynamic, Double> & Serializable) modelInstance -> modelInstance.currentUtilization;
     }
 
     /**
@@ -169,7 +172,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
          * that will cause an infinite loop, since the {@link #getUtilization(double)} will call
          * the given function to increase the current utilization and return the current value.
          */
-        this.utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        this.utilizationUpdateFunction = (Function<UtilizationModelDynamic, Double> & Serializable) modelInstance -> modelInstance.currentUtilization;
         this.readOnly = true;
     }
 
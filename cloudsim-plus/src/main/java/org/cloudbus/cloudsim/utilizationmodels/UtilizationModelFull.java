@@ -18,6 +18,8 @@ package org.cloudbus.cloudsim.utilizationmodels;
  * @since CloudSim Toolkit 2.0
  */
 public class UtilizationModelFull extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Gets the utilization percentage (in scale from [0 to 1]) of resource at a given simulation time.
      *
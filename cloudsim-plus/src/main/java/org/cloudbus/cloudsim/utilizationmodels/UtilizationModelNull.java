@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.core.Simulation;
  * @see UtilizationModel#NULL
  */
 final class UtilizationModelNull implements UtilizationModel {
+    private static final long serialVersionUID = 1L;
+
     @Override public Simulation getSimulation() {
         return Simulation.NULL;
     }
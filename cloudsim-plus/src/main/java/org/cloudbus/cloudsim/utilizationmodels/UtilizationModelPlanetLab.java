@@ -1,12 +1,10 @@
 package org.cloudbus.cloudsim.utilizationmodels;
 
+import org.cloudbus.cloudsim.core.Immutable;
 import org.cloudbus.cloudsim.util.MathUtil;
 import org.cloudbus.cloudsim.util.ResourceLoader;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.UncheckedIOException;
+import java.io.*;
 import java.util.Objects;
 import java.util.function.UnaryOperator;
 
@@ -22,6 +20,8 @@ import java.util.function.UnaryOperator;
  * </p>
  */
 public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A {@link UnaryOperator} Function that will be used to map the utilization values
      * read from the trace value to a different value.
@@ -35,7 +35,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      * without any change (except that the scale is always converted to [0..1]).</p>
      * @see #UtilizationModelPlanetLab(String, UnaryOperator)
      */
-    private UnaryOperator<Double> mapper;
+    private transient UnaryOperator<Double> mapper;
 
     /**
      * The number of 5 minutes intervals inside one day (24 hours),
@@ -67,9 +67,12 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      * by such a Function. If no mapper Function is set, the values
      * are returned and stored as read from the trace file (always in scale from 0 to 1).</p>
      *
+     * <p>Since the values don't change after read, they are shared
+     * with {@link org.cloudbus.cloudsim.core.CloudSim#fork() forked} simulations.</p>
+     *
      * @see #readWorkloadFile(InputStreamReader, int)
      */
-    private final double[] utilization;
+    private transient double[] utilization;
 
     /**
      * Instantiates a new PlanetLab utilization model from a trace
@@ -456,4 +459,27 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
         this.schedulingInterval = schedulingInterval;
     }
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(new Trace(utilization));
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        utilization = ((Trace) in.readObject()).values;
+    }
+
+    /**
+     * Wraps the {@link #utilization} values so that they are
+     * shared with forked simulations instead of being copied.
+     */
+    private static final class Trace implements Immutable {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] values;
+
+        private Trace(final double[] values) {
+            this.values = values;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package org.cloudbus.cloudsim.vms;
 import org.cloudbus.cloudsim.core.AbstractMachine;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
+import java.io.Serializable;
 import java.util.SortedMap;
 
 /**
@@ -12,7 +13,7 @@ import java.util.SortedMap;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.4
  */
-public interface UtilizationHistory {
+public interface UtilizationHistory extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link UtilizationHistory}
      * objects.
@@ -12,6 +12,8 @@ import java.util.SortedMap;
  * @see UtilizationHistory#NULL
  */
 final class UtilizationHistoryNull implements UtilizationHistory {
+    private static final long serialVersionUID = 1L;
+
     @Override public double getUtilizationMad() { return 0; }
     @Override public double getUtilizationMean() { return 0; }
     @Override public double getUtilizationVariance() { return 0; }
@@ -30,6 +30,8 @@ import static java.util.Objects.requireNonNull;
  * @since CloudSim Plus 4.6.0
  */
 public class VmGroup extends VmSimple {
+    private static final long serialVersionUID = 1L;
+
     private final List<Vm> vmList;
 
     /**
@@ -26,6 +26,8 @@ import java.util.List;
  * @see Vm#NULL
  */
 class VmNull implements Vm {
+    private static final long serialVersionUID = 1L;
+
     @Override public void setId(long id) {/**/}
     @Override public long getId() {
         return -1;
@@ -11,6 +11,7 @@ import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.AbstractMachine;
 import org.cloudbus.cloudsim.core.CustomerEntityAbstract;
+import org.cloudbus.cloudsim.core.DeferredSideEffects;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
@@ -42,6 +43,8 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class VmSimple extends CustomerEntityAbstract implements Vm {
+    private static final long serialVersionUID = 1L;
+
     /** @see #setDefaultRamCapacity(long) */
     private static long defaultRamCapacity = 1024;
     /** @see #setDefaultBwCapacity(long) */
@@ -288,7 +291,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
          */
         final double decimals = currentTime - (int) currentTime;
         utilizationHistory.addUtilizationHistory(currentTime);
-        getBroker().requestIdleVmDestruction(this);
+        DeferredSideEffects.runOrDefer(() -> getBroker().requestIdleVmDestruction(this));
         if (nextSimulationDelay == Double.MAX_VALUE) {
             return nextSimulationDelay;
         }
@@ -811,7 +814,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         final VmSimple vmSimple = (VmSimple) o;
 
         if (getId() != vmSimple.getId()) return false;
-        return getBroker().equals(vmSimple.getBroker());
+        return Objects.equals(getBroker(), vmSimple.getBroker());
     }
 
     @Override
@@ -868,7 +871,11 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * Notifies all registered listeners when the processing of the Vm is updated in its {@link Host}.
      */
     public void notifyOnUpdateProcessingListeners() {
-        onUpdateProcessingListeners.forEach(l -> l.update(VmHostEventInfo.of(l, this)));
+        if(onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
+        DeferredSideEffects.runOrDefer(() -> onUpdateProcessingListeners.forEach(l -> l.update(VmHostEventInfo.of(l, this))));
     }
 
     @Override
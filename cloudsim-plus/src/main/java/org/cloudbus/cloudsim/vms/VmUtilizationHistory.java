@@ -15,6 +15,8 @@ import java.util.stream.Stream;
  * @since CloudSim Plus 1.4
  */
 public class VmUtilizationHistory implements UtilizationHistory {
+    private static final long serialVersionUID = 1L;
+
     private boolean enabled;
     private int maxHistoryEntries;
 
@@ -39,6 +39,8 @@ import java.util.List;
  * @since CloudSim Toolkit 3.0
  */
 public class NetworkVm extends VmSimple {
+    private static final long serialVersionUID = 1L;
+
     private List<NetworkCloudlet> cloudletList;
     private List<VmPacket> receivedPacketList;
     private boolean free;
@@ -37,6 +37,8 @@ import java.util.function.Supplier;
  * @see HorizontalVmScaling#NULL
  */
 final class HorizontalVmScalingNull implements HorizontalVmScaling {
+    private static final long serialVersionUID = 1L;
+
     @Override public Supplier<Vm> getVmSupplier() {
         return () -> Vm.NULL;
     }
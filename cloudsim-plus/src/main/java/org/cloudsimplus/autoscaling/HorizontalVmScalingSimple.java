@@ -54,6 +54,8 @@ import java.util.function.Supplier;
  * @see HorizontalVmScaling
  */
 public class HorizontalVmScalingSimple extends VmScalingAbstract implements HorizontalVmScaling {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(HorizontalVmScalingSimple.class.getSimpleName());
 
     /** @see #getVmSupplier() */
@@ -28,6 +28,8 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+
 /**
  * A general interface that represents data to be passed to
  * {@link EventListener} objects that are registered to be notified when some
@@ -51,7 +53,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see VmEventInfo
  * @see CloudletEventInfo
  */
-public interface EventInfo {
+public interface EventInfo extends Serializable {
 
     /**
      * Gets the time the event happened.
@@ -26,6 +26,8 @@ package org.cloudsimplus.listeners;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+
 /**
  *
  * An interface to define Observers (Listeners) that listen to specific changes in
@@ -53,7 +55,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 1.0
  */
 @FunctionalInterface
-public interface EventListener<T extends EventInfo> {
+public interface EventListener<T extends EventInfo> extends Serializable {
 
     /**
      * A implementation of Null Object pattern that makes nothing (it doesn't
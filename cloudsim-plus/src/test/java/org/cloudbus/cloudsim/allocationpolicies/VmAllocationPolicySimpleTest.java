@@ -54,8 +54,13 @@ public class VmAllocationPolicySimpleTest {
 
         final Datacenter datacenter = EasyMock.createMock(Datacenter.class);
         EasyMock.expect(datacenter.getHostList()).andReturn(hosts).anyTimes();
+        EasyMock.expect(datacenter.getVmAllocationPolicy()).andReturn(policy).anyTimes();
+        EasyMock.expect(datacenter.getId()).andReturn(0L).anyTimes();
+        datacenter.requestHostProcessingUpdate(EasyMock.anyObject());
+        EasyMock.expectLastCall().anyTimes();
         EasyMock.replay(datacenter);
         policy.setDatacenter(datacenter);
+        hosts.forEach(host -> host.setDatacenter(datacenter));
 
         return policy;
     }
@@ -82,6 +87,54 @@ public class VmAllocationPolicySimpleTest {
         assertEquals(hostWithMoreFreePes, allocatedHostForVm);
     }
 
+    @Test
+    public void allocateHostForVm_WhenTwoVmsAreGiven_AllocateHostWithLessUsedPesAfterFirstAllocation() {
+        final Vm vm0 = VmTestUtil.createVm(0, 1000, 2);
+        final Vm vm1 = VmTestUtil.createVm(1, 1000, 2);
+        assertTrue(policy.allocateHostForVm(vm0));
+        assertTrue(policy.allocateHostForVm(vm1));
+
+        //The Host with 6 PEs has just 4 free PEs after the first allocation
+        final Host hostWithLessUsedPes = policy.getDatacenter().getHostList().get(3);
+        assertEquals(hostWithLessUsedPes, vm1.getHost());
+    }
+
+    /**
+     * Checks that Hosts are selected according to their current number of free PEs
+     * even when they don't notify the policy about their state changes,
+     * since they belong to a Datacenter using another policy.
+     */
+    @Test
+    public void allocateHostForVm_WhenHostsDontNotifyThePolicy_AllocateHostWithLessUsedPesAfterFirstAllocation() {
+        final VmAllocationPolicySimple otherPolicy = new VmAllocationPolicySimple();
+        otherPolicy.setDatacenter(policy.getDatacenter());
+
+        final Vm vm0 = VmTestUtil.createVm(0, 1000, 2);
+        final Vm vm1 = VmTestUtil.createVm(1, 1000, 2);
+        assertTrue(otherPolicy.allocateHostForVm(vm0));
+        assertTrue(otherPolicy.allocateHostForVm(vm1));
+
+        final Host hostWithLessUsedPes = policy.getDatacenter().getHostList().get(3);
+        assertEquals(hostWithLessUsedPes, vm1.getHost());
+    }
+
+    /**
+     * Checks that Hosts with fewer free PEs than a VM requires are still checked
+     * when no other Host is suitable, since the time-shared VmScheduler
+     * places the VM into busy PEs having enough available MIPS.
+     */
+    @Test
+    public void allocateHostForVm_WhenNoHostHasEnoughFreePes_AllocateHostWithEnoughAvailableMips() {
+        policy = createVmAllocationPolicy(1, 1);
+        final Vm vm0 = VmTestUtil.createVm(0, HOST_MIPS/2.0, 1);
+        final Vm vm1 = VmTestUtil.createVm(1, HOST_MIPS/2.0, 1);
+        final Vm vm2 = VmTestUtil.createVm(2, HOST_MIPS/2.0, 1);
+        assertTrue(policy.allocateHostForVm(vm0));
+        assertTrue(policy.allocateHostForVm(vm1));
+        assertNotEquals(vm0.getHost(), vm1.getHost());
+        assertTrue(policy.allocateHostForVm(vm2));
+    }
+
     @Test
     public void allocateHostForVm_WhenOneVmIsGivenAndNoHostHasResourcesToRunIt() {
         final Vm vm = VmTestUtil.createVm(0, 1000, 10);
@@ -0,0 +1,95 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class EventProfilerTest {
+    private static final int TAG = 1000;
+
+    /**
+     * Number of events sent, which is greater than {@link EventProfiler#MAX_QUEUE_SAMPLES}
+     * to ensure samples are discarded.
+     */
+    private static final int EVENTS = 3000;
+
+    @Test
+    public void testProfilingIsDisabledByDefault() {
+        final CloudSim simulation = new CloudSim();
+        assertFalse(simulation.isEventProfilingEnabled());
+        assertFalse(simulation.getEventProfiler().isPresent());
+    }
+
+    @Test
+    public void testCountEventsByTagAndEntity() {
+        final CloudSim simulation = new CloudSim();
+        simulation.setEventProfilingEnabled(true);
+        final SelfSchedulingEntity entity = new SelfSchedulingEntity(simulation);
+        simulation.start();
+
+        final EventProfiler profiler = simulation.getEventProfiler().orElseThrow(IllegalStateException::new);
+        final EventProfiler.Stats tagStats = profiler.getStatsByTag().get(TAG);
+        assertEquals(EVENTS, tagStats.getCount());
+        assertTrue(profiler.getStatsByEntity().get(entity).getCount() >= EVENTS);
+        assertTrue(profiler.getDispatchedEvents() >= EVENTS);
+        assertTrue(profiler.getTotalStats().getCount() >= EVENTS);
+        assertTrue(tagStats.getPercentileNanos(0.5) <= tagStats.getPercentileNanos(0.99));
+        assertTrue(tagStats.getPercentileNanos(0.99) <= tagStats.getMaxNanos());
+
+        long histogramCount = 0;
+        for (int i = 0; i < EventProfiler.HISTOGRAM_BUCKETS; i++) {
+            histogramCount += tagStats.getHistogramCount(i);
+        }
+        assertEquals(EVENTS, histogramCount);
+    }
+
+    @Test
+    public void testQueueSamplesCoverTheWholeSimulation() {
+        final CloudSim simulation = new CloudSim();
+        simulation.setEventProfilingEnabled(true);
+        new SelfSchedulingEntity(simulation);
+        simulation.start();
+
+        final EventProfiler profiler = simulation.getEventProfiler().orElseThrow(IllegalStateException::new);
+        final int samples = profiler.getQueueSamples();
+        assertTrue(samples > EventProfiler.MAX_QUEUE_SAMPLES / 4 && samples <= EventProfiler.MAX_QUEUE_SAMPLES);
+        assertTrue(profiler.getSampleTime(samples - 1) > EVENTS / 2.0);
+        assertEquals(EVENTS, profiler.getMaxFutureQueueSize(), 1);
+        for (int i = 1; i < samples; i++) {
+            assertTrue(profiler.getSampleTime(i) > profiler.getSampleTime(i - 1));
+            assertTrue(profiler.getSampleFutureQueueSize(i) <= profiler.getSampleFutureQueueSize(i - 1));
+        }
+
+        assertTrue(profiler.getEventsPerSimulatedSecond() > 0);
+        assertTrue(profiler.getReport().contains(String.valueOf(TAG)));
+    }
+
+    @Test
+    public void testTagName() {
+        assertEquals("VM_CREATE_ACK", EventProfiler.getTagName(CloudSimTags.VM_CREATE_ACK));
+        assertEquals(String.valueOf(TAG), EventProfiler.getTagName(TAG));
+    }
+
+    /**
+     * An entity that sends to itself {@link #EVENTS} events, one per simulated second.
+     */
+    private static class SelfSchedulingEntity extends CloudSimEntity {
+        SelfSchedulingEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            for (int i = 1; i <= EVENTS; i++) {
+                schedule(this, i, TAG);
+            }
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {/**/}
+    }
+}
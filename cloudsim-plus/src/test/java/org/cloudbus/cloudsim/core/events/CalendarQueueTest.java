@@ -0,0 +1,169 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the {@link CalendarQueue} keeps the same event ordering as the {@link FutureQueue}.
+ */
+public class CalendarQueueTest {
+    private static final long SEED = 1234;
+
+    private static SimEvent createEvent(final double time) {
+        return new CloudSimEvent(time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    @Test
+    public void testFirstWhenEmpty() {
+        assertThrows(NoSuchElementException.class, () -> new CalendarQueue().first());
+    }
+
+    @Test
+    public void testEventsWithSameTimeKeepInsertionOrder() {
+        final CalendarQueue queue = new CalendarQueue();
+        final SimEvent evt0 = createEvent(5);
+        final SimEvent evt1 = createEvent(5);
+        final SimEvent evt2 = createEvent(2);
+        queue.addEvent(evt0);
+        queue.addEvent(evt1);
+        queue.addEvent(evt2);
+
+        assertSame(evt2, queue.poll());
+        assertSame(evt0, queue.poll());
+        assertSame(evt1, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testAddEventFirst() {
+        final CalendarQueue queue = new CalendarQueue();
+        final SimEvent evt0 = createEvent(5);
+        final SimEvent evt1 = createEvent(5);
+        final SimEvent priority = createEvent(5);
+        queue.addEvent(evt0);
+        queue.addEvent(evt1);
+        queue.addEventFirst(priority);
+
+        //evt0 has serial 0, as the event added to the head of the queue
+        assertSame(evt0, queue.poll());
+        assertSame(priority, queue.poll());
+        assertSame(evt1, queue.poll());
+    }
+
+    @Test
+    public void testRemove() {
+        final CalendarQueue queue = new CalendarQueue();
+        final SimEvent evt0 = createEvent(1);
+        final SimEvent evt1 = createEvent(1);
+        queue.addEvent(evt0);
+        queue.addEvent(evt1);
+
+        assertTrue(queue.remove(evt0));
+        assertFalse(queue.remove(evt0));
+        assertEquals(1, queue.size());
+        assertSame(evt1, queue.first());
+    }
+
+    @Test
+    public void testPollAllAt() {
+        for (final FutureEventQueue queue : new FutureEventQueue[]{new FutureQueue(), new CalendarQueue()}) {
+            final SimEvent evt0 = createEvent(2);
+            final SimEvent evt1 = createEvent(2);
+            final SimEvent evt2 = createEvent(3);
+            queue.addEvent(evt2);
+            queue.addEvent(evt0);
+            queue.addEvent(evt1);
+
+            assertTrue(queue.pollAllAt(3).isEmpty());
+            final List<SimEvent> batch = queue.pollAllAt(2);
+            assertEquals(2, batch.size());
+            assertSame(evt0, batch.get(0));
+            assertSame(evt1, batch.get(1));
+            assertEquals(1, queue.size());
+            assertSame(evt2, queue.first());
+        }
+    }
+
+    @Test
+    public void testIteratorIsSortedAndRemoves() {
+        final CalendarQueue queue = new CalendarQueue();
+        final double[] times = {9, 3, 7, 3, 1000, 0.5};
+        for (final double time : times) {
+            queue.addEvent(createEvent(time));
+        }
+
+        double previous = -1;
+        for (final Iterator<SimEvent> it = queue.iterator(); it.hasNext(); ) {
+            final SimEvent evt = it.next();
+            assertTrue(evt.getTime() >= previous);
+            previous = evt.getTime();
+            if(evt.getTime() == 3){
+                it.remove();
+            }
+        }
+
+        assertEquals(times.length - 2, queue.size());
+    }
+
+    /**
+     * Adds and removes events randomly, in the same way a simulation does,
+     * checking both the {@link CalendarQueue} and the {@link FutureQueue}
+     * return the events in the same order.
+     */
+    @Test
+    public void testSameOrderAsFutureQueue() {
+        final Random random = new Random(SEED);
+        final FutureEventQueue expected = new FutureQueue();
+        final CalendarQueue actual = new CalendarQueue();
+        double clock = 0;
+
+        for (int i = 0; i < 50_000; i++) {
+            final int operation = random.nextInt(10);
+            if(operation < 6 || expected.isEmpty()) {
+                final double delay = random.nextInt(4) == 0 ? 0 : random.nextDouble() * (random.nextInt(3) == 0 ? 1000 : 10);
+                final SimEvent evt = createEvent(clock + delay);
+                final SimEvent copy = createEvent(clock + delay);
+                if(random.nextInt(20) == 0) {
+                    expected.addEventFirst(copy);
+                    actual.addEventFirst(evt);
+                } else {
+                    expected.addEvent(copy);
+                    actual.addEvent(evt);
+                }
+            } else {
+                /* Removes the first event using the iterator because the FutureQueue
+                 * may not find events with the same time and serial using remove(). */
+                final Iterator<SimEvent> it = expected.iterator();
+                final SimEvent expectedFirst = it.next();
+                it.remove();
+                final SimEvent actualFirst = actual.first();
+                assertEquals(expectedFirst.getTime(), actualFirst.getTime());
+                assertEquals(expectedFirst.getSerial(), actualFirst.getSerial());
+                assertTrue(actual.remove(actualFirst));
+                clock = actualFirst.getTime();
+            }
+
+            assertEquals(expected.size(), actual.size());
+        }
+
+        final List<SimEvent> expectedRemaining = new ArrayList<>();
+        expected.iterator().forEachRemaining(expectedRemaining::add);
+        while (!actual.isEmpty()) {
+            final SimEvent evt = actual.poll();
+            final SimEvent expectedEvt = expectedRemaining.remove(0);
+            assertEquals(expectedEvt.getTime(), evt.getTime());
+            assertEquals(expectedEvt.getSerial(), evt.getSerial());
+        }
+
+        assertEquals(expected.getSerial(), actual.getSerial());
+        assertEquals(expected.getMaxEventsNumber(), actual.getMaxEventsNumber());
+    }
+}
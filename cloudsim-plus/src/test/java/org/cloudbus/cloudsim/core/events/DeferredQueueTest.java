@@ -0,0 +1,132 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class DeferredQueueTest {
+    private final CloudSim simulation = new CloudSim();
+
+    private static SimEvent createEvent(final double time, final SimEntity dest) {
+        return new CloudSimEvent(time, SimEntity.NULL, dest, 0, null);
+    }
+
+    @Test
+    public void testStreamJustReturnsEventsToTheGivenEntity() {
+        final SimEntity dest1 = createEntity();
+        final SimEntity dest2 = createEntity();
+        final DeferredQueue queue = new DeferredQueue();
+        final SimEvent evt0 = createEvent(1, dest1);
+        final SimEvent evt1 = createEvent(2, dest2);
+        final SimEvent evt2 = createEvent(3, dest1);
+        queue.addEvent(evt0);
+        queue.addEvent(evt1);
+        queue.addEvent(evt2);
+
+        final List<SimEvent> dest1Events = queue.stream(dest1).collect(toList());
+        assertEquals(2, dest1Events.size());
+        assertSame(evt0, dest1Events.get(0));
+        assertSame(evt2, dest1Events.get(1));
+        assertEquals(0, queue.stream(SimEntity.NULL).count());
+        assertEquals(3, queue.size());
+        assertSame(evt0, queue.first());
+    }
+
+    @Test
+    public void testEventsOutOfOrderAreSorted() {
+        final SimEntity dest = createEntity();
+        final DeferredQueue queue = new DeferredQueue();
+        final double[] times = {5, 6, 2, 5.5, 1};
+        for (final double time : times) {
+            queue.addEvent(createEvent(time, dest));
+        }
+
+        final List<Double> sortedTimes = queue.stream(dest).map(SimEvent::getTime).collect(toList());
+        assertEquals(Arrays.asList(1.0, 2.0, 5.0, 5.5, 6.0), sortedTimes);
+    }
+
+    @Test
+    public void testRemove() {
+        final SimEntity dest1 = createEntity();
+        final SimEntity dest2 = createEntity();
+        final DeferredQueue queue = new DeferredQueue();
+        final SimEvent evt0 = createEvent(1, dest1);
+        final SimEvent evt1 = createEvent(1, dest2);
+        queue.addEvent(evt0);
+        queue.addEvent(evt1);
+
+        assertTrue(queue.remove(evt0));
+        assertFalse(queue.remove(evt0));
+        assertEquals(1, queue.size());
+        assertEquals(0, queue.stream(dest1).count());
+
+        final Iterator<SimEvent> it = queue.iterator();
+        assertSame(evt1, it.next());
+        it.remove();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        final SimEntity dest1 = createEntity();
+        final SimEntity dest2 = createEntity();
+        final DeferredQueue queue = new DeferredQueue();
+        queue.addEvent(createEvent(1, dest1));
+        queue.addEvent(createEvent(2, dest2));
+        queue.addEvent(createEvent(3, dest2));
+
+        assertTrue(queue.removeIf(evt -> evt.getTime() > 1));
+        assertFalse(queue.removeIf(evt -> evt.getTime() > 1));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testFirstIsUpdatedWhenEventsAreAddedAndRemoved() {
+        final SimEntity dest1 = createEntity();
+        final SimEntity dest2 = createEntity();
+        final DeferredQueue queue = new DeferredQueue();
+        final SimEvent evt0 = createEvent(3, dest1);
+        final SimEvent evt1 = createEvent(2, dest2);
+        final SimEvent evt2 = createEvent(1, dest1);
+        final SimEvent evt3 = createEvent(4, dest2);
+        queue.addEvent(evt0);
+        queue.addEvent(evt1);
+        assertSame(evt1, queue.first());
+
+        queue.addEvent(evt2);
+        queue.addEvent(evt3);
+        assertSame(evt2, queue.first());
+
+        queue.remove(evt2);
+        assertSame(evt1, queue.first());
+
+        queue.remove(evt1);
+        assertSame(evt0, queue.first());
+
+        queue.removeIf(evt -> evt == evt0);
+        assertSame(evt3, queue.first());
+
+        queue.remove(evt3);
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, queue::first);
+
+        queue.addEvent(evt0);
+        assertSame(evt0, queue.first());
+    }
+
+    private SimEntity createEntity() {
+        return new DatacenterBrokerSimple(simulation);
+    }
+}
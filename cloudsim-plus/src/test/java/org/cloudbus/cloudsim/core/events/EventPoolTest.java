@@ -0,0 +1,64 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class EventPoolTest {
+    private static CloudSimEvent acquire(final EventPool pool, final double delay) {
+        return pool.acquire(SimEvent.Type.SEND, delay, SimEntity.NULL, SimEntity.NULL, 1, "data");
+    }
+
+    @Test
+    public void testReleasedEventIsReused() {
+        final EventPool pool = new EventPool();
+        final CloudSimEvent evt = acquire(pool, 1);
+        evt.setSerial(10);
+        pool.release(evt);
+
+        assertNull(evt.getData());
+        final CloudSimEvent reused = acquire(pool, 2);
+        assertSame(evt, reused);
+        assertEquals(2, reused.getTime());
+        assertEquals(-1, reused.getSerial());
+        assertEquals("data", reused.getData());
+        assertEquals(1, pool.getCreatedEvents());
+        assertEquals(1, pool.getReusedEvents());
+    }
+
+    @Test
+    public void testEventReleasedTwiceIsReusedOnce() {
+        final EventPool pool = new EventPool();
+        final CloudSimEvent evt = acquire(pool, 1);
+        pool.release(evt);
+        pool.release(evt);
+
+        assertSame(evt, acquire(pool, 0));
+        assertNotSame(evt, acquire(pool, 0));
+    }
+
+    @Test
+    public void testEscapedEventIsNotReused() {
+        final EventPool pool = new EventPool();
+        final CloudSimEvent evt = acquire(pool, 1);
+        EventPool.escape(evt);
+        pool.release(evt);
+
+        assertEquals("data", evt.getData());
+        assertNotSame(evt, acquire(pool, 0));
+    }
+
+    @Test
+    public void testEventNotCreatedByThePoolIsNotReused() {
+        final EventPool pool = new EventPool();
+        final SimEvent evt = new CloudSimEvent(1, SimEntity.NULL, SimEntity.NULL, 0, null);
+        pool.release(evt);
+
+        assertNotSame(evt, acquire(pool, 0));
+        assertEquals(0, pool.getReusedEvents());
+    }
+}
@@ -0,0 +1,53 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class FutureQueueTest {
+    private static SimEvent createEvent(final double time) {
+        return new CloudSimEvent(time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    /**
+     * Checks events having the same time and serial
+     * (which happens when they are added to the head of the queue)
+     * can be removed, despite {@link SimEvent#compareTo(SimEvent)}
+     * doesn't return 0 for them.
+     */
+    @Test
+    public void testRemoveEventsWithSameTimeAndSerial() {
+        final FutureQueue queue = new FutureQueue();
+        final SimEvent[] events = new SimEvent[10];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = createEvent(2);
+            queue.addEventFirst(events[i]);
+            queue.addEvent(createEvent(i % 3));
+        }
+
+        for (final SimEvent evt : events) {
+            assertTrue(queue.remove(evt));
+            assertFalse(queue.remove(evt));
+        }
+
+        assertEquals(events.length, queue.size());
+    }
+
+    @Test
+    public void testCancelEventByHandle() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = new DatacenterBrokerSimple(simulation);
+        final SimEvent evt = new CloudSimEvent(10, broker, broker, CloudSimTags.FAILURE, null);
+        simulation.send(evt);
+
+        assertTrue(simulation.cancel(evt));
+        assertFalse(simulation.cancel(evt));
+    }
+}
@@ -127,6 +127,27 @@ public class HostSimpleTest {
         assertFalse(host.isSuitableForVm(vm));
     }
 
+    @Test
+    public void isProcessingUpdateRequired_WhenHostHasNoVm(){
+        assertFalse(host.isProcessingUpdateRequired());
+    }
+
+    @Test
+    public void isProcessingUpdateRequired_WhenHostHasVm(){
+        final Vm vm = createVm(HOST_PES, HOST_MIPS, STORAGE);
+        assertTrue(host.createVm(vm));
+        assertTrue(host.isProcessingUpdateRequired());
+    }
+
+    @Test
+    public void isProcessingUpdateRequired_WhenIdleHostMayBeShutdown(){
+        host.setIdleShutdownDeadline(1);
+        assertTrue(host.isProcessingUpdateRequired());
+
+        host.setActive(false);
+        assertFalse(host.isProcessingUpdateRequired());
+    }
+
     private Vm createVm(final int pes, final double mips, final long storage) {
         final Vm vm = new VmSimple(mips, pes);
         vm.setRam(RAM);
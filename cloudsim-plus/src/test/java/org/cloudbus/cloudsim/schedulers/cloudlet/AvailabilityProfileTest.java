@@ -0,0 +1,110 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class AvailabilityProfileTest {
+    private static final int OPERATIONS = 5000;
+
+    @Test
+    public void testChangesThatCancelEachOtherAreRemoved() {
+        final AvailabilityProfile profile = new AvailabilityProfile();
+        profile.add(10, 2);
+        profile.add(10, -2);
+        assertEquals(0, profile.sumUpTo(Double.MAX_VALUE));
+        assertEquals(Double.MAX_VALUE, profile.findFirstTimeAtMost(-1));
+    }
+
+    @Test
+    public void testFindEarliestFitWhenSumStaysLowForEnoughTime() {
+        final AvailabilityProfile profile = new AvailabilityProfile();
+        profile.add(5, -1);
+        profile.add(10, 2);
+        profile.add(15, -2);
+        assertEquals(5, profile.findFirstTimeAtMost(-1));
+        assertEquals(0, profile.findEarliestFit(0, 0, 10));
+        assertEquals(5, profile.findEarliestFit(0, -1, 5));
+        assertEquals(15, profile.findEarliestFit(0, -1, 6));
+        assertEquals(15, profile.findEarliestFit(12, 0, 1));
+        assertEquals(Double.MAX_VALUE, profile.findEarliestFit(0, -2, 1));
+    }
+
+    @Test
+    public void testClear() {
+        final AvailabilityProfile profile = new AvailabilityProfile();
+        profile.add(1, 1);
+        profile.clear();
+        assertEquals(0, profile.sumUpTo(1));
+        assertEquals(Double.MAX_VALUE, profile.findFirstTimeAtMost(-1));
+        assertEquals(1, profile.findEarliestFit(1, 0, 10));
+    }
+
+    @Test
+    public void testSameResultsAsTraversingAllChanges() {
+        final Random random = new Random(1);
+        final AvailabilityProfile profile = new AvailabilityProfile();
+        final TreeMap<Double, Long> changes = new TreeMap<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            final double time = random.nextInt(200);
+            final long pes = random.nextInt(9) - 4;
+            profile.add(time, pes);
+            changes.merge(time, pes, (previous, value) -> previous + value == 0 ? null : previous + value);
+
+            final double from = random.nextInt(220) - 10;
+            final long maxSum = random.nextInt(21) - 10;
+            final double duration = random.nextInt(30);
+            assertEquals(sumUpTo(changes, from), profile.sumUpTo(from), "Operation " + i);
+            assertEquals(findFirstTimeAtMost(changes, maxSum), profile.findFirstTimeAtMost(maxSum), "Operation " + i);
+            assertEquals(findEarliestFit(changes, from, maxSum, duration), profile.findEarliestFit(from, maxSum, duration), "Operation " + i);
+        }
+    }
+
+    private static long sumUpTo(final TreeMap<Double, Long> changes, final double time) {
+        return changes.headMap(time, true).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static double findFirstTimeAtMost(final TreeMap<Double, Long> changes, final long maxSum) {
+        long sum = 0;
+        for (final Map.Entry<Double, Long> change : changes.entrySet()) {
+            sum += change.getValue();
+            if (sum <= maxSum) {
+                return change.getKey();
+            }
+        }
+
+        return Double.MAX_VALUE;
+    }
+
+    /**
+     * Finds the earliest time the sum of the changes stays at most a given value for a given duration,
+     * by traversing all changes, as the {@link CloudletSchedulerBackfilling} used to do.
+     */
+    private static double findEarliestFit(
+        final TreeMap<Double, Long> changes, final double from, final long maxSum, final double duration)
+    {
+        long sum = 0;
+        double startTime = from;
+        for (final Map.Entry<Double, Long> change : changes.entrySet()) {
+            final double time = change.getKey();
+            if (time > from) {
+                if (sum > maxSum) {
+                    startTime = time;
+                } else if (time - startTime >= duration) {
+                    return startTime;
+                }
+            }
+
+            sum += change.getValue();
+        }
+
+        return sum > maxSum ? Double.MAX_VALUE : startTime;
+    }
+}
@@ -0,0 +1,141 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletAdmissionTreeTest {
+    private static final int OPERATIONS = 5000;
+    private static final Comparator<CloudletExecution> EDF = Comparator.comparingDouble(CloudletExecution::getDeadline);
+    private static final Comparator<CloudletExecution> SJF = Comparator.comparingLong(CloudletExecution::getCloudletLength);
+
+    @Test
+    public void testEmptyTreeAdmitsCloudletThatMeetsItsDeadline() {
+        final CloudletAdmissionTree tree = new CloudletAdmissionTree(EDF);
+        tree.setCapacity(100);
+        assertTrue(tree.isFeasible(createCloudlet(1000, 0, 10), 0));
+        assertFalse(tree.isFeasible(createCloudlet(1000, 0, 10), 1));
+        assertFalse(tree.isFeasible(createCloudlet(1000, 5, 10), 0));
+    }
+
+    @Test
+    public void testCloudletWithLaterDeadlineDoesNotDelayWaitingOnes() {
+        final CloudletAdmissionTree tree = new CloudletAdmissionTree(EDF);
+        tree.setCapacity(100);
+        tree.add(createCloudlet(1000, 0, 10));
+        assertTrue(tree.isFeasible(createCloudlet(1000, 0, 20), 0));
+        assertFalse(tree.isFeasible(createCloudlet(1000, 0, 19), 0));
+        assertFalse(tree.isFeasible(createCloudlet(100, 0, 5), 0));
+    }
+
+    @Test
+    public void testSameDecisionsAsSortingTheWaitingListByDeadline() {
+        checkSameDecisionsAsSortingTheWaitingList(EDF);
+    }
+
+    @Test
+    public void testSameDecisionsAsSortingTheWaitingListByLength() {
+        checkSameDecisionsAsSortingTheWaitingList(SJF);
+    }
+
+    @Test
+    public void testSameDecisionsAsKeepingTheWaitingListInArrivalOrder() {
+        checkSameDecisionsAsSortingTheWaitingList((lhs, rhs) -> 0);
+    }
+
+    private void checkSameDecisionsAsSortingTheWaitingList(final Comparator<CloudletExecution> order) {
+        final Random random = new Random(1);
+        final CloudletAdmissionTree tree = new CloudletAdmissionTree(order);
+        final List<CloudletExecution> waiting = new ArrayList<>();
+        double capacity = 1000;
+        tree.setCapacity(capacity);
+
+        int admitted = 0;
+        int rejected = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 2 && !waiting.isEmpty()) {
+                final CloudletExecution cle = waiting.remove(random.nextInt(waiting.size()));
+                assertTrue(tree.remove(cle));
+            } else if (operation == 2) {
+                capacity = 500 + random.nextInt(1000);
+                tree.setCapacity(capacity);
+            } else {
+                final CloudletExecution cle = createCloudlet(
+                    1000 + random.nextInt(100_000), random.nextInt(500), random.nextInt(20_000));
+                final double startTime = random.nextInt(100);
+                final boolean feasible = isFeasible(waiting, cle, startTime, capacity, order);
+                assertEquals(feasible, tree.isFeasible(cle, startTime), "Operation " + i);
+                if (feasible) {
+                    admitted++;
+                } else {
+                    rejected++;
+                }
+
+                /* Infeasible Cloudlets are eventually added too, as it happens when the capacity is reduced. */
+                if (feasible || random.nextInt(10) == 0) {
+                    waiting.add(cle);
+                    tree.add(cle);
+                    waiting.sort(order);
+                }
+            }
+
+            assertEquals(waiting.size(), tree.size());
+        }
+
+        assertTrue(admitted > OPERATIONS / 10);
+        assertTrue(rejected > OPERATIONS / 10);
+    }
+
+    @Test
+    public void testClear() {
+        final CloudletAdmissionTree tree = new CloudletAdmissionTree(EDF);
+        tree.add(createCloudlet(1000, 0, 1));
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertTrue(tree.isFeasible(createCloudlet(1000, 0, 1000), 0));
+    }
+
+    /**
+     * Checks if a Cloudlet can be admitted by sorting all waiting Cloudlets,
+     * as the {@link CloudletSchedulerDeadlineAbstract} used to do.
+     */
+    private static boolean isFeasible(
+        final List<CloudletExecution> waiting, final CloudletExecution cle,
+        final double startTime, final double capacity, final Comparator<CloudletExecution> order)
+    {
+        final List<CloudletExecution> list = new ArrayList<>(waiting);
+        list.add(cle);
+        list.sort(order);
+
+        double finishTime = startTime;
+        for (final CloudletExecution ce : list) {
+            finishTime = Math.max(finishTime, ce.getCloudletArrivalTime()) + ce.getCloudletLength() / capacity;
+            if (finishTime > ce.getDeadline()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static CloudletExecution createCloudlet(final long length, final double arrivalTime, final double deadline) {
+        final CloudletExecution cle = EasyMock.createMock(CloudletExecution.class);
+        EasyMock.expect(cle.getCloudletLength()).andReturn(length).anyTimes();
+        EasyMock.expect(cle.getRemainingCloudletLength()).andReturn(length).anyTimes();
+        EasyMock.expect(cle.getCloudletArrivalTime()).andReturn(arrivalTime).anyTimes();
+        EasyMock.expect(cle.getDeadline()).andReturn(deadline).anyTimes();
+        EasyMock.replay(cle);
+        return cle;
+    }
+}
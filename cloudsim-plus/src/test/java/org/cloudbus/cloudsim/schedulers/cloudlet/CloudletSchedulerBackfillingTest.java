@@ -0,0 +1,103 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerUtil.submitCloudlet;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletSchedulerBackfillingTest {
+    private static final double MIPS = 1000;
+    private static final int VM_PES = 3;
+    private static final double DEADLINE = 1000;
+
+    @Test
+    public void testShortCloudletIsBackfilledBeforeFirstWaitingOne() {
+        final CloudletSchedulerBackfilling scheduler = createScheduler(CloudletSchedulerBackfilling.Mode.EASY);
+        submitCloudlet(scheduler, 0, 10_000, 2, DEADLINE);
+        final Cloudlet head = submitCloudlet(scheduler, 1, 10_000, 3, DEADLINE);
+
+        //The head Cloudlet starts at time 10, when all PEs are free
+        final Cloudlet longCloudlet = submitCloudlet(scheduler, 2, 15_000, 1, DEADLINE);
+        final Cloudlet shortCloudlet = submitCloudlet(scheduler, 3, 5000, 1, DEADLINE);
+
+        assertEquals(Cloudlet.Status.QUEUED, head.getStatus());
+        assertEquals(Cloudlet.Status.QUEUED, longCloudlet.getStatus());
+        assertEquals(Cloudlet.Status.INEXEC, shortCloudlet.getStatus());
+    }
+
+    /**
+     * Checks that a Cloudlet whose execution finishes right at the time the head Cloudlet is expected to start
+     * is not backfilled, since it just releases its PEs after the next processing updates.
+     */
+    @Test
+    public void testCloudletFinishingAtHeadReservationTimeIsNotBackfilled() {
+        final CloudletSchedulerBackfilling scheduler = createScheduler(CloudletSchedulerBackfilling.Mode.EASY);
+        scheduler.getVm().setBroker(new DatacenterBrokerSimple(new CloudSim()));
+        final double minTimeBetweenEvents = scheduler.getVm().getSimulation().getMinTimeBetweenEvents();
+        submitCloudlet(scheduler, 0, 10_000, 2, DEADLINE);
+
+        //The head Cloudlet starts when the PEs of the first one are released, at time 10 plus 2 processing updates
+        final Cloudlet head = submitCloudlet(scheduler, 1, 10_000, 3, DEADLINE);
+        final long length = (long)((10 + 2 * minTimeBetweenEvents) * MIPS);
+        final Cloudlet cloudlet = submitCloudlet(scheduler, 2, length, 1, DEADLINE);
+
+        assertEquals(Cloudlet.Status.QUEUED, head.getStatus());
+        assertEquals(Cloudlet.Status.QUEUED, cloudlet.getStatus());
+        assertEquals(0, scheduler.getBackfilledCloudlets());
+    }
+
+    @Test
+    public void testEasyBackfillingDelaysOnlyLaterWaitingCloudlets() {
+        final CloudletSchedulerBackfilling scheduler = createScheduler(CloudletSchedulerBackfilling.Mode.EASY);
+        final Cloudlet cloudlet = submitCloudletsCompetingForPes(scheduler, DEADLINE);
+
+        //It uses a PE the head Cloudlet doesn't need, delaying the Cloudlet after it
+        assertEquals(Cloudlet.Status.INEXEC, cloudlet.getStatus());
+    }
+
+    @Test
+    public void testConservativeBackfillingDelaysNoWaitingCloudlet() {
+        final CloudletSchedulerBackfilling scheduler = createScheduler(CloudletSchedulerBackfilling.Mode.CONSERVATIVE);
+        final Cloudlet cloudlet = submitCloudletsCompetingForPes(scheduler, DEADLINE);
+
+        //It is reserved to start at time 30, after the 3-PE Cloudlet finishes
+        assertEquals(Cloudlet.Status.QUEUED, cloudlet.getStatus());
+        assertEquals(0, scheduler.getBackfilledCloudlets());
+    }
+
+    @Test
+    public void testConservativeBackfillingRejectsCloudletWhoseReservationMissesDeadline() {
+        final CloudletSchedulerBackfilling scheduler = createScheduler(CloudletSchedulerBackfilling.Mode.CONSERVATIVE);
+
+        //It would be reserved from time 30 to 55
+        final Cloudlet cloudlet = submitCloudletsCompetingForPes(scheduler, 40);
+        assertEquals(Cloudlet.Status.FAILED, cloudlet.getStatus());
+        assertFalse(scheduler.getCloudletWaitingList().contains(cloudlet));
+    }
+
+    /**
+     * Submits Cloudlets so that a 2-PE one runs until time 10,
+     * a 2-PE one waits to run from 10 to 20 and a 3-PE one waits to run from 20 to 30.
+     * Then submits and returns a 1-PE Cloudlet that runs for 25 seconds.
+     */
+    private Cloudlet submitCloudletsCompetingForPes(final CloudletSchedulerBackfilling scheduler, final double deadline) {
+        submitCloudlet(scheduler, 0, 10_000, 2, DEADLINE);
+        submitCloudlet(scheduler, 1, 10_000, 2, DEADLINE);
+        submitCloudlet(scheduler, 2, 10_000, 3, DEADLINE);
+        return submitCloudlet(scheduler, 3, 25_000, 1, deadline);
+    }
+
+    private CloudletSchedulerBackfilling createScheduler(final CloudletSchedulerBackfilling.Mode mode) {
+        final CloudletSchedulerBackfilling scheduler = new CloudletSchedulerBackfilling(mode);
+        scheduler.setVm(new VmSimple(MIPS, VM_PES));
+        scheduler.setCurrentMipsShare(CloudletSchedulerUtil.createMipsList(VM_PES, MIPS));
+        return scheduler;
+    }
+}
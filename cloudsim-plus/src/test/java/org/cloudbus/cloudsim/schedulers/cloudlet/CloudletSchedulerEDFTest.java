@@ -0,0 +1,81 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletSchedulerEDFTest {
+    private static final double MIPS = 1000;
+
+    private CloudletSchedulerEDF scheduler;
+    private List<Double> mipsShare;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new CloudletSchedulerEDF();
+        scheduler.setVm(new VmSimple(MIPS, 1));
+        mipsShare = Collections.singletonList(MIPS);
+        scheduler.setCurrentMipsShare(mipsShare);
+    }
+
+    @Test
+    public void testInfeasibleCloudletsAreNotAbortedByDefault() {
+        submitCloudlet(0, 10_000, 100);
+        final Cloudlet cloudlet = submitCloudlet(1, 5000, 40);
+        scheduler.updateProcessing(36, mipsShare);
+
+        assertFalse(scheduler.isAbortInfeasibleCloudlets());
+        assertEquals(Cloudlet.Status.QUEUED, cloudlet.getStatus());
+        assertEquals(0, scheduler.getAbortedCloudlets());
+    }
+
+    @Test
+    public void testAbortWaitingCloudletWhoseLatestStartTimeHasPassed() {
+        scheduler.setAbortInfeasibleCloudlets(true);
+        submitCloudlet(0, 10_000, 100);
+        final Cloudlet cloudlet = submitCloudlet(1, 5000, 40);
+
+        //The waiting Cloudlet must start by time 35
+        scheduler.updateProcessing(36, mipsShare);
+        assertEquals(Cloudlet.Status.FAILED, cloudlet.getStatus());
+        assertEquals(1, scheduler.getAbortedCloudlets());
+        assertEquals(5000, scheduler.getReclaimedLength());
+        assertTrue(scheduler.getCloudletWaitingList().isEmpty());
+    }
+
+    @Test
+    public void testAbortRunningCloudletAndStartWaitingOne() {
+        scheduler.setAbortInfeasibleCloudlets(true);
+        final Cloudlet running = submitCloudlet(0, 10_000, 20);
+        final Cloudlet waiting = submitCloudlet(1, 5000, 100);
+
+        //Running at just 100 MIPS, the first Cloudlet has 8500 MI to run after time 15
+        scheduler.updateProcessing(15, Collections.singletonList(MIPS / 10));
+        assertEquals(Cloudlet.Status.FAILED, running.getStatus());
+        assertEquals(Cloudlet.Status.INEXEC, waiting.getStatus());
+        assertEquals(8500, scheduler.getReclaimedLength());
+    }
+
+    @Test
+    public void testEnablingAbortIndexesWaitingCloudlets() {
+        submitCloudlet(0, 10_000, 100);
+        final Cloudlet cloudlet = submitCloudlet(1, 5000, 40);
+        scheduler.setAbortInfeasibleCloudlets(true);
+
+        scheduler.updateProcessing(36, mipsShare);
+        assertEquals(Cloudlet.Status.FAILED, cloudlet.getStatus());
+    }
+
+    private Cloudlet submitCloudlet(final int id, final long length, final double deadline) {
+        return CloudletSchedulerUtil.submitCloudlet(scheduler, id, length, deadline);
+    }
+}
@@ -0,0 +1,88 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletSchedulerLLFTest {
+    private static final long MIPS = 1000;
+
+    private CloudletSchedulerLLF scheduler;
+    private List<Double> mipsShare;
+
+    @BeforeEach
+    public void setUp() {
+        final Vm vm = new VmSimple(MIPS, 1);
+        scheduler = new CloudletSchedulerLLF();
+        scheduler.setVm(vm);
+        mipsShare = CloudletSchedulerUtil.createMipsList(1, MIPS);
+        scheduler.setCurrentMipsShare(mipsShare);
+    }
+
+    @Test
+    public void testPreemptRunningCloudletWithHigherLaxity() {
+        final Cloudlet longCloudlet = submitCloudlet(0, 10_000, 100);
+        final Cloudlet urgentCloudlet = submitCloudlet(1, 5_000, 30);
+        assertEquals(Cloudlet.Status.INEXEC, longCloudlet.getStatus());
+        assertEquals(Cloudlet.Status.QUEUED, urgentCloudlet.getStatus());
+
+        scheduler.updateProcessing(0, mipsShare);
+        assertEquals(1, scheduler.getPreemptions());
+        assertEquals(Cloudlet.Status.QUEUED, longCloudlet.getStatus());
+        assertEquals(Cloudlet.Status.INEXEC, urgentCloudlet.getStatus());
+    }
+
+    @Test
+    public void testDelayPreemptionUntilLaxityIsSmallerThanRunningOne() {
+        submitCloudlet(0, 100_000, 1000);
+        submitCloudlet(1, 5_000, 960);
+
+        //The waiting Cloudlet must start by 955 and the running one has a laxity of 900
+        assertEquals(56, scheduler.updateProcessing(0, mipsShare));
+        assertEquals(0, scheduler.getPreemptions());
+
+        scheduler.setPreemptionHysteresis(0);
+        assertEquals(55, scheduler.updateProcessing(0, mipsShare));
+        assertEquals(0, scheduler.getPreemptions());
+    }
+
+    @Test
+    public void testHysteresisAvoidsPreemptionBetweenSimilarLaxities() {
+        submitCloudlet(0, 10_000, 100);
+        submitCloudlet(1, 10_000, 99.5);
+        scheduler.updateProcessing(0, mipsShare);
+        assertEquals(0, scheduler.getPreemptions());
+    }
+
+    @Test
+    public void testDontPreemptWhenWaitingCloudletDoesNotFitIntoFreedPes() {
+        //The MIPS share has more PEs than the VM can use
+        final List<Double> largerMipsShare = CloudletSchedulerUtil.createMipsList(2, MIPS);
+        scheduler.setCurrentMipsShare(largerMipsShare);
+        final Cloudlet longCloudlet = submitCloudlet(0, 10_000, 100);
+        final Cloudlet urgentCloudlet = CloudletSchedulerUtil.submitCloudlet(scheduler, 1, 5_000, 2, 30);
+
+        scheduler.updateProcessing(0, largerMipsShare);
+        assertEquals(0, scheduler.getPreemptions());
+        assertEquals(Cloudlet.Status.INEXEC, longCloudlet.getStatus());
+        assertEquals(Cloudlet.Status.QUEUED, urgentCloudlet.getStatus());
+    }
+
+    @Test
+    public void testRejectNegativeHysteresis() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setPreemptionHysteresis(-1));
+    }
+
+    private Cloudlet submitCloudlet(final int id, final long length, final double deadline) {
+        return CloudletSchedulerUtil.submitCloudlet(scheduler, id, length, deadline);
+    }
+}
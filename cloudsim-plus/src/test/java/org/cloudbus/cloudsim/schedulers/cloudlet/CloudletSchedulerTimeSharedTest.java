@@ -11,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeSharedTestUtil.createCloudletSchedulerWithMipsList;
 import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeSharedTestUtil.newSchedulerWithSingleCoreRunningCloudlets;
+import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerUtil.submitCloudlet;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -309,4 +311,17 @@ public class CloudletSchedulerTimeSharedTest {
         instance.addCloudletToExecList(cloudlet);
         assertEquals(list.size(), instance.getCloudletExecList().size());
     }
+
+    @Test
+    public void testUpdateProcessingReturnsDelayOfNextFinishingCloudletAfterCancel() {
+        final long mips = 1000;
+        final CloudletSchedulerTimeShared instance = createCloudletSchedulerWithMipsList(2, mips);
+        final Cloudlet shortCloudlet = submitCloudlet(instance, CloudletTestUtil.createCloudlet(0, 2000, 1));
+        submitCloudlet(instance, CloudletTestUtil.createCloudlet(1, 4000, 1));
+
+        assertEquals(2, instance.updateProcessing(0, instance.getCurrentMipsShare()));
+
+        instance.cloudletCancel(shortCloudlet);
+        assertEquals(3, instance.updateProcessing(1, instance.getCurrentMipsShare()));
+    }
 }
@@ -0,0 +1,77 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerUtil.submitCloudlet;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletSchedulerTimeSharedWithDeadlineTest {
+    private static final long MIPS = 1000;
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void testAdmitWhileSumOfDensitiesFitsVmCapacity() {
+        final CloudletSchedulerTimeSharedWithDeadline scheduler = createScheduler(1);
+        //Deadlines consider the 1 second default margin
+        final Cloudlet cloudlet0 = submitCloudlet(scheduler, 0, 10_000, 21);
+        final Cloudlet cloudlet1 = submitCloudlet(scheduler, 1, 10_000, 21);
+        final Cloudlet cloudlet2 = submitCloudlet(scheduler, 2, 1000, 21);
+        assertEquals(Cloudlet.Status.INEXEC, cloudlet0.getStatus());
+        assertEquals(Cloudlet.Status.INEXEC, cloudlet1.getStatus());
+        assertEquals(Cloudlet.Status.FAILED, cloudlet2.getStatus());
+        assertEquals(MIPS, scheduler.getRequiredMips(), DELTA);
+    }
+
+    @Test
+    public void testRejectCloudletThatCannotFinishInTimeEvenAlone() {
+        final CloudletSchedulerTimeSharedWithDeadline scheduler = createScheduler(2);
+        final Cloudlet cloudlet = submitCloudlet(scheduler, 0, 20_000, 11);
+        assertEquals(Cloudlet.Status.FAILED, cloudlet.getStatus());
+        assertEquals(0, scheduler.getRequiredMips());
+    }
+
+    @Test
+    public void testDivideMipsProportionallyToDensity() {
+        final CloudletSchedulerTimeSharedWithDeadline scheduler = createScheduler(1);
+        submitCloudlet(scheduler, 0, 10_000, 21);
+        submitCloudlet(scheduler, 1, 10_000, 41);
+        scheduler.updateProcessing(0, scheduler.getCurrentMipsShare());
+
+        final List<CloudletExecution> cloudlets = scheduler.getCloudletExecList();
+        assertEquals(MIPS * 2 / 3.0, scheduler.getAllocatedMipsForCloudlet(cloudlets.get(0), 0), DELTA);
+        assertEquals(MIPS / 3.0, scheduler.getAllocatedMipsForCloudlet(cloudlets.get(1), 0), DELTA);
+        assertEquals(750, scheduler.getRequiredMips(), DELTA);
+    }
+
+    @Test
+    public void testGiveAtMostOnePeToEachCloudlet() {
+        final CloudletSchedulerTimeSharedWithDeadline scheduler = createScheduler(2);
+        submitCloudlet(scheduler, 0, 9000, 11);
+        submitCloudlet(scheduler, 1, 1000, 11);
+        scheduler.updateProcessing(0, scheduler.getCurrentMipsShare());
+
+        final List<CloudletExecution> cloudlets = scheduler.getCloudletExecList();
+        assertEquals(MIPS, scheduler.getAllocatedMipsForCloudlet(cloudlets.get(0), 0), DELTA);
+        assertEquals(MIPS, scheduler.getAllocatedMipsForCloudlet(cloudlets.get(1), 0), DELTA);
+    }
+
+    @Test
+    public void testRejectNegativeDeadlineMargin() {
+        assertThrows(IllegalArgumentException.class, () -> createScheduler(1).setDeadlineMargin(-1));
+    }
+
+    private static CloudletSchedulerTimeSharedWithDeadline createScheduler(final int pes) {
+        final CloudletSchedulerTimeSharedWithDeadline scheduler = new CloudletSchedulerTimeSharedWithDeadline();
+        scheduler.setVm(new VmSimple(MIPS, pes));
+        scheduler.setCurrentMipsShare(CloudletSchedulerUtil.createMipsList(pes, MIPS));
+        return scheduler;
+    }
+}
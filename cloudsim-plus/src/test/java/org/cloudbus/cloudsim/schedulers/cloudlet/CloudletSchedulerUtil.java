@@ -1,5 +1,9 @@
 package org.cloudbus.cloudsim.schedulers.cloudlet;
 
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,4 +37,51 @@ public final class CloudletSchedulerUtil {
         return createMipsList(1, mips);
     }
 
+    /**
+     * Creates a 1-PE Cloudlet with a given deadline and submits it to a scheduler.
+     *
+     * @param scheduler the scheduler to submit the Cloudlet to
+     * @param id the Cloudlet id
+     * @param length the Cloudlet length (in MI)
+     * @param deadline the Cloudlet deadline
+     * @return the submitted Cloudlet
+     */
+    public static Cloudlet submitCloudlet(
+        final CloudletScheduler scheduler, final int id, final long length, final double deadline)
+    {
+        return submitCloudlet(scheduler, id, length, 1, deadline);
+    }
+
+    /**
+     * Creates a Cloudlet with a given deadline and submits it to a scheduler.
+     *
+     * @param scheduler the scheduler to submit the Cloudlet to
+     * @param id the Cloudlet id
+     * @param length the Cloudlet length (in MI)
+     * @param pes the number of PEs the Cloudlet requires
+     * @param deadline the Cloudlet deadline
+     * @return the submitted Cloudlet
+     */
+    public static Cloudlet submitCloudlet(
+        final CloudletScheduler scheduler,
+        final int id, final long length, final int pes, final double deadline)
+    {
+        final Cloudlet cloudlet = CloudletTestUtil.createCloudlet(id, length, pes);
+        cloudlet.setDeadline(deadline);
+        return submitCloudlet(scheduler, cloudlet);
+    }
+
+    /**
+     * Submits a Cloudlet to a scheduler, setting the Cloudlet VM as the scheduler one.
+     *
+     * @param scheduler the scheduler to submit the Cloudlet to
+     * @param cloudlet the Cloudlet to submit
+     * @return the submitted Cloudlet
+     */
+    public static Cloudlet submitCloudlet(final CloudletScheduler scheduler, final Cloudlet cloudlet) {
+        cloudlet.setVm(scheduler.getVm());
+        cloudlet.assignToDatacenter(Datacenter.NULL);
+        scheduler.cloudletSubmit(cloudlet);
+        return cloudlet;
+    }
 }
@@ -0,0 +1,94 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since CloudSim Plus 5.6.0
+ */
+public class CloudletWaitingQueueTest {
+    @Test
+    public void testKeepArrivalOrderByDefault() {
+        final CloudletWaitingQueue queue = new CloudletWaitingQueue();
+        final CloudletExecution cle0 = createCloudlet(0, 3000);
+        final CloudletExecution cle1 = createCloudlet(1, 1000);
+        final CloudletExecution cle2 = createCloudlet(2, 2000);
+        queue.add(cle0);
+        queue.add(cle1);
+        queue.add(cle2);
+        assertEquals(Arrays.asList(cle0, cle1, cle2), queue.asList());
+    }
+
+    @Test
+    public void testSortAndInsertNewCloudletsInOrder() {
+        final CloudletWaitingQueue queue = new CloudletWaitingQueue();
+        final CloudletExecution cle0 = createCloudlet(0, 3000);
+        final CloudletExecution cle1 = createCloudlet(1, 1000);
+        queue.add(cle0);
+        queue.add(cle1);
+        queue.setOrder(Comparator.comparingLong(CloudletExecution::getCloudletLength));
+        assertEquals(Arrays.asList(cle1, cle0), queue.asList());
+
+        final CloudletExecution cle2 = createCloudlet(2, 2000);
+        final CloudletExecution cle3 = createCloudlet(3, 1000);
+        queue.add(cle2);
+        queue.add(cle3);
+        assertEquals(Arrays.asList(cle1, cle3, cle2, cle0), queue.asList());
+    }
+
+    @Test
+    public void testRemoveAndFindFirst() {
+        final CloudletWaitingQueue queue = new CloudletWaitingQueue();
+        final CloudletExecution cle0 = createCloudlet(0, 3000);
+        final CloudletExecution cle1 = createCloudlet(1, 1000);
+        final CloudletExecution cle2 = createCloudlet(2, 2000);
+        queue.add(cle0);
+        queue.add(cle1);
+        queue.add(cle2);
+
+        assertTrue(queue.remove(cle1));
+        assertFalse(queue.remove(cle1));
+        assertEquals(2, queue.size());
+        assertEquals(cle2, queue.findFirst(cle -> cle.getCloudletLength() < 3000).orElse(CloudletExecution.NULL));
+        assertFalse(queue.findFirst(cle -> cle.getCloudletLength() < 1000).isPresent());
+
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testFindFirstCloudletFittingIntoFreePes() {
+        final CloudletWaitingQueue queue = new CloudletWaitingQueue();
+        final CloudletExecution wide = createCloudlet(0, 1000, 4);
+        final CloudletExecution medium = createCloudlet(1, 1000, 2);
+        final CloudletExecution small1 = createCloudlet(2, 1000, 1);
+        final CloudletExecution small2 = createCloudlet(3, 1000, 1);
+        queue.add(wide);
+        queue.add(medium);
+        queue.add(small1);
+        queue.add(small2);
+
+        assertEquals(wide, queue.findFirst(4, cle -> true).orElse(CloudletExecution.NULL));
+        assertEquals(medium, queue.findFirst(3, cle -> true).orElse(CloudletExecution.NULL));
+        assertEquals(small1, queue.findFirst(1, cle -> true).orElse(CloudletExecution.NULL));
+        assertEquals(small2, queue.findFirst(2, cle -> cle.getCloudletId() > 2).orElse(CloudletExecution.NULL));
+        assertFalse(queue.findFirst(0, cle -> true).isPresent());
+
+        queue.remove(small1);
+        assertEquals(small2, queue.findFirst(1, cle -> true).orElse(CloudletExecution.NULL));
+    }
+
+    private static CloudletExecution createCloudlet(final long id, final long length) {
+        return createCloudlet(id, length, 1);
+    }
+
+    private static CloudletExecution createCloudlet(final long id, final long length, final int pes) {
+        return new CloudletExecution(new CloudletSimple(id, length, pes));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerEDF;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An Integration Test (IT) checking that Cloudlets aborted by a
+ * {@link CloudletSchedulerEDF} because they cannot meet their deadlines anymore
+ * are returned to their broker with {@link Cloudlet.Status#FAILED} status.
+ *
+ * <p>A VM with a single PE runs a 10.000 MI Cloudlet using just half of the PE capacity,
+ * which takes 20 seconds to finish.
+ * A 5 seconds Cloudlet that must finish by time 16 is submitted at the same time.
+ * It's admitted, since the running Cloudlet is expected to finish at time 10,
+ * but it has to wait until time 20 to start.
+ * This way, it's aborted when its latest start time (11) passes.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class AbortedCloudletsIntegrationTest {
+    private static final double MIPS = 1000;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private CloudletSchedulerEDF scheduler;
+    private Cloudlet longCloudlet;
+    private Cloudlet tightCloudlet;
+
+    @BeforeEach
+    public void setUp() {
+        simulation = new CloudSim();
+        final List<Pe> pes = new ArrayList<>();
+        pes.add(new PeSimple(MIPS));
+        final List<Host> hosts = new ArrayList<>();
+        hosts.add(new HostSimple(1000, 1000, 1000, pes));
+        new DatacenterSimple(simulation, hosts, new VmAllocationPolicySimple());
+
+        broker = new DatacenterBrokerSimple(simulation);
+        scheduler = new CloudletSchedulerEDF();
+        scheduler.setAbortInfeasibleCloudlets(true);
+        final Vm vm = new VmSimple(MIPS, 1).setRam(100).setBw(100).setSize(100).setCloudletScheduler(scheduler);
+
+        longCloudlet = createCloudlet(10_000, 100).setUtilizationModelCpu(new UtilizationModelDynamic(0.5));
+        tightCloudlet = createCloudlet(5000, 16);
+
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        cloudlets.add(longCloudlet);
+        cloudlets.add(tightCloudlet);
+
+        final List<Vm> vms = new ArrayList<>();
+        vms.add(vm);
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+    }
+
+    @Test
+    public void testAbortedCloudletIsReturnedToBroker() {
+        assertEquals(1, scheduler.getAbortedCloudlets());
+        assertEquals(Cloudlet.Status.FAILED, tightCloudlet.getStatus());
+        assertTrue(tightCloudlet.isReturnedToBroker());
+        final List<Cloudlet> finishedList = broker.getCloudletFinishedList();
+        assertTrue(finishedList.contains(tightCloudlet));
+    }
+
+    @Test
+    public void testAbortedCloudletIsNotReturnedAgain() {
+        assertFalse(tightCloudlet.returnToBroker());
+    }
+
+    @Test
+    public void testAbortedCloudletIsReturnedBeforeRunningOneFinishes() {
+        final List<Cloudlet> finishedList = broker.getCloudletFinishedList();
+        assertEquals(2, finishedList.size());
+        assertSame(tightCloudlet, finishedList.get(0));
+        assertSame(longCloudlet, finishedList.get(1));
+        assertEquals(Cloudlet.Status.SUCCESS, longCloudlet.getStatus());
+    }
+
+    private static Cloudlet createCloudlet(final long length, final double deadline) {
+        final Cloudlet cloudlet = new CloudletSimple(length, 1)
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+            .setUtilizationModelBw(new UtilizationModelDynamic(0.1));
+        cloudlet.setDeadline(deadline);
+        return cloudlet;
+    }
+}
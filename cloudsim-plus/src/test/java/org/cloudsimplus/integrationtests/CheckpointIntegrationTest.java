@@ -0,0 +1,107 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelStochastic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.cloudsimplus.integrationtests.SimulationCopyTestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An Integration Test (IT) checking that a simulation
+ * {@link CloudSim#saveCheckpoint(java.io.OutputStream) saved to a checkpoint}
+ * in the middle of its execution and then
+ * {@link CloudSim#restoreCheckpoint(java.io.InputStream) restored}
+ * produces the same results as a simulation that was not interrupted.
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class CheckpointIntegrationTest {
+    private static final double CHECKPOINT_TIME = 8;
+
+    @Test
+    public void testRestoredSimulationHasSameResultsAsUninterruptedOne() throws IOException {
+        final CloudSim uninterrupted = new CloudSim();
+        createScenario(uninterrupted);
+        uninterrupted.start();
+        final List<String> expected = getResults(uninterrupted);
+
+        final CloudSim original = new CloudSim();
+        createScenario(original);
+        final ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        original.pause(CHECKPOINT_TIME);
+        original.addOnSimulationPauseListener(info -> {
+            saveCheckpoint(original, checkpoint);
+            original.resume();
+        });
+        original.start();
+
+        final CloudSim restored = CloudSim.restoreCheckpoint(new ByteArrayInputStream(checkpoint.toByteArray()));
+        assertEquals(CHECKPOINT_TIME, restored.clock());
+        assertFalse(restored.isPaused());
+        restored.start();
+
+        assertEquals(CLOUDLETS, expected.size());
+        assertEquals(expected, getResults(original));
+        assertEquals(expected, getResults(restored));
+        assertEquals(uninterrupted.clock(), restored.clock());
+    }
+
+    @Test
+    public void testRestoredSimulationKeepsNullObjects() throws IOException {
+        final CloudSim simulation = new CloudSim();
+        createScenario(simulation);
+        final ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        simulation.saveCheckpoint(checkpoint);
+
+        final CloudSim restored = CloudSim.restoreCheckpoint(new ByteArrayInputStream(checkpoint.toByteArray()));
+        final Vm vm = getBroker(restored).getVmWaitingList().get(0);
+        assertSame(Host.NULL, vm.getHost());
+    }
+
+    private static void saveCheckpoint(final CloudSim simulation, final ByteArrayOutputStream checkpoint) {
+        try {
+            simulation.saveCheckpoint(checkpoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void createScenario(final CloudSim simulation) {
+        final UtilizationModel stochasticModel = new UtilizationModelStochastic(UtilizationModel.Unit.PERCENTAGE, 1);
+        SimulationCopyTestUtil.createScenario(simulation, new UtilizationModelFull(), stochasticModel);
+    }
+}
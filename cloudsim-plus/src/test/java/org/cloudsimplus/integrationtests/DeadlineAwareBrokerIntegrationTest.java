@@ -0,0 +1,196 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerDeadlineAware;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerEDF;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An Integration Test (IT) checking that the {@link DatacenterBrokerDeadlineAware}
+ * maps a Cloudlet with a tight deadline to a VM where it can meet that deadline,
+ * instead of to a VM whose {@link CloudletSchedulerEDF} rejects it.
+ *
+ * <p>2 VMs with a single PE run a 10 seconds and a 1 second Cloudlet, respectively.
+ * Then, a 10 seconds Cloudlet that must finish by time 15 is submitted.
+ * A Round-Robin mapping sends it to the first VM, where it would just start at time 10.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class DeadlineAwareBrokerIntegrationTest {
+    private static final int VMS = 2;
+    private static final double MIPS = 1000;
+    private static final double TIGHT_DEADLINE = 15;
+
+    @Test
+    public void testCloudletWithTightDeadlineIsMappedToVmWhereItIsFeasible() {
+        final List<Cloudlet> cloudlets = runSimulation(DatacenterBrokerDeadlineAware::new);
+        final Cloudlet tightCloudlet = cloudlets.get(2);
+        assertEquals(Cloudlet.Status.SUCCESS, tightCloudlet.getStatus());
+        assertEquals(1, tightCloudlet.getVm().getId());
+        assertTrue(tightCloudlet.getFinishTime() <= TIGHT_DEADLINE);
+    }
+
+    @Test
+    public void testCloudletWithTightDeadlineIsRejectedByRoundRobinMapping() {
+        final List<Cloudlet> cloudlets = runSimulation(DatacenterBrokerSimple::new);
+        assertEquals(Cloudlet.Status.FAILED, cloudlets.get(2).getStatus());
+    }
+
+    /**
+     * Checks that a 2-PEs Cloudlet is mapped to the only VM having 2 PEs,
+     * even if it has a higher backlog than the single-PE VMs.
+     */
+    @Test
+    public void testCloudletIsMappedToVmWithLowestBacklogHavingEnoughPes() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i <= VMS; i++) {
+            final List<Pe> pes = new ArrayList<>();
+            pes.add(new PeSimple(MIPS));
+            pes.add(new PeSimple(MIPS));
+            hosts.add(new HostSimple(1000, 1000, 1000, pes));
+        }
+        new DatacenterSimple(simulation, hosts, new VmAllocationPolicySimple());
+
+        final DatacenterBroker broker = new DatacenterBrokerDeadlineAware(simulation);
+        final List<Vm> vms = new ArrayList<>();
+        vms.add(createVm(2));
+        for (int i = 0; i < VMS; i++) {
+            vms.add(createVm(1));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        cloudlets.add(createCloudlet(10_000, 100).setNumberOfPes(2));
+        final Cloudlet cloudlet = createCloudlet(10_000, 100).setNumberOfPes(2);
+        cloudlets.add(cloudlet);
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+        assertEquals(0, cloudlet.getVm().getId());
+        assertEquals(Cloudlet.Status.SUCCESS, cloudlet.getStatus());
+    }
+
+    /**
+     * Checks that a Cloudlet with a tight deadline is mapped to a faster VM where it can meet that deadline,
+     * even if the VM with the lowest backlog is a slower one, where the Cloudlet would miss it.
+     */
+    @Test
+    public void testCloudletIsMappedToFeasibleVmWhenVmWithLowestBacklogIsInfeasible() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            final List<Pe> pes = new ArrayList<>();
+            pes.add(new PeSimple(MIPS * 10));
+            hosts.add(new HostSimple(1000, 1000, 1000, pes));
+        }
+        new DatacenterSimple(simulation, hosts, new VmAllocationPolicySimple());
+
+        final DatacenterBroker broker = new DatacenterBrokerDeadlineAware(simulation);
+        final List<Vm> vms = new ArrayList<>();
+        vms.add(createVm(MIPS * 10, 1));
+        vms.add(createVm(1));
+
+        //The fast VM 0 gets a 3 seconds backlog and the slow VM 1 gets a 1 second backlog
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        cloudlets.add(createCloudlet(30_000, 100));
+        cloudlets.add(createCloudlet(1000, 100));
+        final Cloudlet cloudlet = createCloudlet(20_000, TIGHT_DEADLINE);
+        cloudlets.add(cloudlet);
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+        assertEquals(0, cloudlet.getVm().getId());
+        assertEquals(Cloudlet.Status.SUCCESS, cloudlet.getStatus());
+        assertTrue(cloudlet.getFinishTime() <= TIGHT_DEADLINE);
+        assertEquals(0, ((DatacenterBrokerDeadlineAware) broker).getRejectedCloudlets());
+    }
+
+    private static Vm createVm(final long pes) {
+        return createVm(MIPS, pes);
+    }
+
+    private static Vm createVm(final double mips, final long pes) {
+        return new VmSimple(mips, pes).setRam(100).setBw(100).setSize(100).setCloudletScheduler(new CloudletSchedulerEDF());
+    }
+
+    private static List<Cloudlet> runSimulation(final Function<CloudSim, DatacenterBroker> brokerCreator) {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            final List<Pe> pes = new ArrayList<>();
+            pes.add(new PeSimple(MIPS));
+            hosts.add(new HostSimple(1000, 1000, 1000, pes));
+        }
+        new DatacenterSimple(simulation, hosts, new VmAllocationPolicySimple());
+
+        final DatacenterBroker broker = brokerCreator.apply(simulation);
+        final List<Vm> vms = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            vms.add(createVm(1));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        cloudlets.add(createCloudlet(10_000, 100));
+        cloudlets.add(createCloudlet(1000, 100));
+        cloudlets.add(createCloudlet(10_000, TIGHT_DEADLINE));
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+        return cloudlets;
+    }
+
+    private static Cloudlet createCloudlet(final long length, final double deadline) {
+        final Cloudlet cloudlet = new CloudletSimple(length, 1)
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+            .setUtilizationModelBw(new UtilizationModelDynamic(0.1));
+        cloudlet.setDeadline(deadline);
+        return cloudlet;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.cloudsimplus.integrationtests.SimulationResultsTestUtil.*;
+
+/**
+ * An Integration Test (IT) checking that reusing events
+ * (by enabling {@link CloudSim#setEventPoolingEnabled(boolean)})
+ * doesn't change simulation results.
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class EventPoolingIntegrationTest {
+    private static final int HOSTS = 4;
+    private static final int HOST_PES = 4;
+    private static final int VMS = 4;
+    private static final int CLOUDLETS = 20;
+
+    @Test
+    public void testEventPoolingHasSameResultsAsWithoutPooling() {
+        final CloudSim withoutPooling = new CloudSim();
+        final List<String> expected = runSimulation(withoutPooling);
+
+        final CloudSim withPooling = new CloudSim();
+        withPooling.setEventPoolingEnabled(true);
+        final List<String> actual = runSimulation(withPooling);
+
+        assertSameResults(CLOUDLETS, withoutPooling, expected, withPooling, actual);
+    }
+
+    /**
+     * Runs the simulation and gets a description of the execution of each Cloudlet.
+     */
+    private List<String> runSimulation(final CloudSim simulation) {
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(
+            new HostBuilder().setPes(HOST_PES).setMips(1000).create(HOSTS).getHosts()
+        );
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        final DatacenterBroker broker = brokerBuilder.getBroker();
+        brokerBuilder.getVmBuilder()
+            .setPes(HOST_PES).setMips(1000)
+            .setCloudletSchedulerSupplier(CloudletSchedulerTimeShared::new)
+            .createAndSubmit(VMS);
+
+        brokerBuilder.getCloudletBuilder()
+            .setLength(10000)
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setPEs(2)
+            .createAndSubmit(CLOUDLETS);
+
+        simulation.start();
+        return getResults(broker);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelPlanetLab;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.cloudsimplus.integrationtests.SimulationCopyTestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An Integration Test (IT) checking that simulations {@link CloudSim#fork() forked}
+ * in the middle of the execution of another one are independent from each other
+ * and produce the same results as the original simulation, even when run in parallel.
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class ForkIntegrationTest {
+    private static final int FORKS = 4;
+    private static final double FORK_TIME = 8;
+    private static final String TRACE_FILE = "146-179_surfsnel_dsl_internl_net_colostate_557.dat";
+
+    @Test
+    public void testForkedSimulationsHaveSameResultsAsOriginalOne() throws InterruptedException, ExecutionException {
+        final CloudSim original = new CloudSim();
+        createScenario(original);
+        final List<CloudSim> forks = new ArrayList<>();
+        original.pause(FORK_TIME);
+        original.addOnSimulationPauseListener(info -> {
+            for (int i = 0; i < FORKS; i++) {
+                forks.add(original.fork());
+            }
+            original.resume();
+        });
+        original.start();
+        final List<String> expected = getResults(original);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(FORKS);
+        try {
+            final List<Future<Double>> finishTimes = new ArrayList<>();
+            for (final CloudSim fork : forks) {
+                assertEquals(FORK_TIME, fork.clock());
+                assertFalse(fork.isPaused());
+                finishTimes.add(executor.submit(fork::start));
+            }
+
+            for (int i = 0; i < FORKS; i++) {
+                assertEquals(original.clock(), finishTimes.get(i).get());
+                assertEquals(expected, getResults(forks.get(i)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(CLOUDLETS, expected.size());
+    }
+
+    @Test
+    public void testForkedSimulationCopiesMutableObjectsAndSharesImmutableOnes() {
+        final CloudSim simulation = new CloudSim();
+        createScenario(simulation);
+        final Vm vm = getBroker(simulation).getVmWaitingList().get(0);
+        vm.setDescription("first VM");
+
+        final CloudSim fork = simulation.fork();
+        final Vm forkedVm = getBroker(fork).getVmWaitingList().get(0);
+        assertNotSame(vm, forkedVm);
+        assertEquals(vm.getId(), forkedVm.getId());
+        assertSame(vm.getDescription(), forkedVm.getDescription());
+
+        forkedVm.setDescription("changed");
+        assertEquals("first VM", vm.getDescription());
+    }
+
+    @Test
+    public void testFinishedSimulationCannotBeForked() {
+        final CloudSim simulation = new CloudSim();
+        createScenario(simulation);
+        simulation.start();
+        assertThrows(IllegalStateException.class, simulation::fork);
+    }
+
+    private static void createScenario(final CloudSim simulation) {
+        SimulationCopyTestUtil.createScenario(simulation, UtilizationModelPlanetLab.getInstance(TRACE_FILE, 1), new UtilizationModelDynamic(0.1));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.CloudletBuilder;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An Integration Test (IT) checking that Cloudlets whose progress is
+ * {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerAbstract#setLazyProgressAccounting(boolean) lazily accounted}
+ * finish at the time given by their length and the MIPS shared among them,
+ * even though their progress is not updated at every scheduling interval.
+ *
+ * <p>3 Cloudlets of 10000, 20000 and 30000 MI share a 1000 MIPS PE.
+ * All of them execute at 333.33 MIPS until the first one finishes after 30 seconds.
+ * The remaining ones execute at 500 MIPS, so that the second one finishes 20 seconds later.
+ * The last one finishes 10 seconds after that.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class LazyProgressAccountingIntegrationTest {
+    private static final double SCHEDULING_INTERVAL = 1;
+    private static final double[] EXPECTED_EXEC_TIMES = {30, 50, 60};
+
+    /**
+     * The maximum time a Cloudlet may take after the expected one,
+     * due to the delay between the finish of a Cloudlet and the processing update that notices it.
+     */
+    private static final double TOLERANCE = 0.2;
+
+    @Test
+    public void testCloudletsFinishAtExpectedTimes() {
+        final List<Cloudlet> cloudlets = runSimulation(true);
+        assertEquals(EXPECTED_EXEC_TIMES.length, cloudlets.size());
+        for (int i = 0; i < EXPECTED_EXEC_TIMES.length; i++) {
+            final Cloudlet cloudlet = cloudlets.get(i);
+            assertEquals(Cloudlet.Status.SUCCESS, cloudlet.getStatus());
+            assertEquals(EXPECTED_EXEC_TIMES[i], cloudlet.getFinishTime() - cloudlet.getExecStartTime(), TOLERANCE);
+        }
+    }
+
+    @Test
+    public void testCloudletsDontFinishLaterThanWithoutLazyProgressAccounting() {
+        final List<Cloudlet> lazyCloudlets = runSimulation(true);
+        final List<Cloudlet> cloudlets = runSimulation(false);
+        for (int i = 0; i < EXPECTED_EXEC_TIMES.length; i++) {
+            assertTrue(lazyCloudlets.get(i).getFinishTime() <= cloudlets.get(i).getFinishTime());
+        }
+    }
+
+    /**
+     * Runs the simulation scenario.
+     * @param lazyProgressAccounting true to lazily account the Cloudlets progress, false otherwise
+     * @return the finished Cloudlets, sorted by length
+     */
+    private static List<Cloudlet> runSimulation(final boolean lazyProgressAccounting) {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        scenario.getDatacenterBuilder().setSchedulingInterval(SCHEDULING_INTERVAL).create(
+            new HostBuilder().setPes(1).setMips(1000).create().getHosts()
+        );
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder()
+            .setPes(1).setMips(1000)
+            .setCloudletSchedulerSupplier(() -> new CloudletSchedulerTimeShared().setLazyProgressAccounting(lazyProgressAccounting))
+            .createAndSubmit(1);
+
+        final CloudletBuilder cloudletBuilder = brokerBuilder.getCloudletBuilder()
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+            .setUtilizationModelBw(new UtilizationModelDynamic(0.1))
+            .setPEs(1);
+        for (int i = 1; i <= EXPECTED_EXEC_TIMES.length; i++) {
+            cloudletBuilder.setLength(10000 * i).createAndSubmit(1);
+        }
+
+        simulation.start();
+        final DatacenterBroker broker = brokerBuilder.getBroker();
+        return broker.<Cloudlet>getCloudletFinishedList()
+                     .stream()
+                     .sorted(Comparator.comparingLong(Cloudlet::getLength))
+                     .collect(toList());
+    }
+}
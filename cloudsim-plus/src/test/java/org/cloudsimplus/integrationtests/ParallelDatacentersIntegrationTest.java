@@ -0,0 +1,99 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.cloudsimplus.integrationtests.SimulationResultsTestUtil.*;
+
+/**
+ * An Integration Test (IT) checking that executing multiple Datacenters in parallel
+ * (by enabling {@link CloudSim#setProcessEventsInParallel(boolean)})
+ * produces the same results as the sequential execution.
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class ParallelDatacentersIntegrationTest {
+    private static final int DATACENTERS = 4;
+    private static final int HOSTS_BY_DATACENTER = 2;
+    private static final int HOST_PES = 4;
+    private static final int VMS = DATACENTERS * HOSTS_BY_DATACENTER;
+    private static final int CLOUDLETS = VMS * 3;
+
+    @Test
+    public void testParallelExecutionHasSameResultsAsSequential() {
+        final CloudSim sequential = new CloudSim();
+        final List<String> expected = runSimulation(sequential);
+
+        final CloudSim parallel = new CloudSim();
+        parallel.setProcessEventsInParallel(true);
+        final List<String> actual = runSimulation(parallel);
+
+        assertSameResults(CLOUDLETS, sequential, expected, parallel, actual);
+    }
+
+    /**
+     * Runs the simulation and gets a description of the execution of each Cloudlet.
+     */
+    private List<String> runSimulation(final CloudSim simulation) {
+        for (int i = 0; i < DATACENTERS; i++) {
+            new DatacenterSimple(simulation, createHosts(HOSTS_BY_DATACENTER, HOST_PES)).setSchedulingInterval(1);
+        }
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(1000, HOST_PES).setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(10000 + i * 1000, 1 + i % HOST_PES)
+                .setUtilizationModelCpu(new UtilizationModelFull())
+                .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+                .setUtilizationModelBw(new UtilizationModelDynamic(0.1));
+            cloudlet.setSubmissionDelay(i % 5);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+        return getResults(broker);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.cloudsimplus.integrationtests.SimulationResultsTestUtil.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * An Integration Test (IT) checking that updating the processing of Hosts in parallel
+ * (by enabling {@link DatacenterSimple#setUpdateHostsInParallel(boolean)})
+ * produces the same results as the sequential execution,
+ * including the order in which listeners are notified.
+ *
+ * <p>Hosts are just updated in parallel if the {@link java.util.concurrent.ForkJoinPool#commonPool()}
+ * has more than one thread.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class ParallelHostsUpdateIntegrationTest {
+    private static final int HOSTS = 300;
+    private static final int HOST_PES = 2;
+    private static final int CLOUDLETS = HOSTS * 3;
+
+    /**
+     * The Cloudlets finished so far, in the order their finish listeners were notified.
+     */
+    private final List<Cloudlet> finishedCloudlets = new ArrayList<>(CLOUDLETS);
+
+    @Test
+    public void testParallelUpdateHasSameResultsAsSequential() {
+        final CloudSim sequential = new CloudSim();
+        final List<String> expected = runSimulation(sequential, false);
+        final List<Cloudlet> expectedFinishOrder = new ArrayList<>(finishedCloudlets);
+
+        finishedCloudlets.clear();
+        final CloudSim parallel = new CloudSim();
+        final List<String> actual = runSimulation(parallel, true);
+
+        assertSameResults(CLOUDLETS, sequential, expected, parallel, actual);
+        assertEquals(ids(expectedFinishOrder), ids(finishedCloudlets));
+    }
+
+    private static List<Long> ids(final List<Cloudlet> cloudlets) {
+        return cloudlets.stream().map(Cloudlet::getId).collect(toList());
+    }
+
+    /**
+     * Runs the simulation and gets a description of the execution of each Cloudlet.
+     */
+    private List<String> runSimulation(final CloudSim simulation, final boolean updateHostsInParallel) {
+        new DatacenterSimple(simulation, createHosts(HOSTS, HOST_PES)).setUpdateHostsInParallel(updateHostsInParallel);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            vmList.add(new VmSimple(1000, HOST_PES).setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(10000 + (i * 7919L) % 20000, 1 + i % HOST_PES)
+                .setUtilizationModelCpu(new UtilizationModelFull())
+                .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+                .setUtilizationModelBw(new UtilizationModelDynamic(0.1));
+            cloudlet.setSubmissionDelay(i % 5);
+            cloudlet.addOnFinishListener(info -> finishedCloudlets.add(info.getCloudlet()));
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+        return getResults(broker);
+    }
+}
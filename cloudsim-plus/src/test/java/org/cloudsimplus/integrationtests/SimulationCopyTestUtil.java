@@ -0,0 +1,108 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+
+import java.util.List;
+
+/**
+ * An utility class that creates the scenario used by the Integration Tests
+ * which copy a running simulation, such as by
+ * {@link CloudSim#saveCheckpoint(java.io.OutputStream) saving a checkpoint}
+ * or {@link CloudSim#fork() forking} it,
+ * and gets the results to be compared after the simulations finish.
+ *
+ * @since CloudSim Plus 5.6.0
+ * @see CheckpointIntegrationTest
+ * @see ForkIntegrationTest
+ */
+final class SimulationCopyTestUtil {
+    /* default */ static final int CLOUDLETS = 12;
+    private static final int HOSTS = 4;
+    private static final int HOST_PES = 4;
+    private static final int VMS = 6;
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private SimulationCopyTestUtil(){/**/}
+
+    /**
+     * Creates a Datacenter with some Hosts and a broker submitting VMs and Cloudlets
+     * with different lengths.
+     *
+     * @param simulation the simulation to create the scenario into
+     * @param cpuModel the CPU {@link UtilizationModel} for all Cloudlets
+     * @param bwModel the BW {@link UtilizationModel} for all Cloudlets
+     */
+    /* default */ static void createScenario(
+        final CloudSim simulation, final UtilizationModel cpuModel, final UtilizationModel bwModel)
+    {
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(
+            new HostBuilder().setPes(HOST_PES).setMips(1000).create(HOSTS).getHosts()
+        );
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder()
+            .setPes(2).setMips(1000)
+            .setCloudletSchedulerSupplier(CloudletSchedulerSpaceShared::new)
+            .createAndSubmit(VMS);
+
+        brokerBuilder.getCloudletBuilder()
+            .setLength(10000)
+            .setUtilizationModelCpu(cpuModel)
+            .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+            .setUtilizationModelBw(bwModel)
+            .setPEs(1)
+            .createAndSubmit(CLOUDLETS/2)
+            .setLength(30000)
+            .createAndSubmit(CLOUDLETS/2);
+    }
+
+    /* default */ static DatacenterBroker getBroker(final CloudSim simulation) {
+        return simulation.getEntityList()
+                         .stream()
+                         .filter(entity -> entity instanceof DatacenterBroker)
+                         .map(entity -> (DatacenterBroker) entity)
+                         .findFirst()
+                         .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Gets a description of the execution of each Cloudlet.
+     * @see SimulationResultsTestUtil#getResults(DatacenterBroker)
+     */
+    /* default */ static List<String> getResults(final CloudSim simulation) {
+        return SimulationResultsTestUtil.getResults(getBroker(simulation));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * An utility class for the Integration Tests which run the same scenario twice,
+ * such as with and without an optimization enabled,
+ * and check that both executions have the same results.
+ *
+ * @since CloudSim Plus 5.6.0
+ * @see SimulationCopyTestUtil
+ * @see ParallelDatacentersIntegrationTest
+ * @see ParallelHostsUpdateIntegrationTest
+ * @see EventPoolingIntegrationTest
+ */
+final class SimulationResultsTestUtil {
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private SimulationResultsTestUtil(){/**/}
+
+    /**
+     * Creates a list of Hosts with a given number of 1000 MIPS PEs each.
+     *
+     * @param hosts the number of Hosts to create
+     * @param pes the number of PEs of each Host
+     * @return the list of created Hosts
+     */
+    /* default */ static List<Host> createHosts(final int hosts, final int pes) {
+        final List<Host> hostList = new ArrayList<>(hosts);
+        for (int i = 0; i < hosts; i++) {
+            final List<Pe> peList = new ArrayList<>(pes);
+            for (int j = 0; j < pes; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new HostSimple(10000, 100000, 1000000, peList));
+        }
+
+        return hostList;
+    }
+
+    /**
+     * Gets a description of the execution of each Cloudlet finished by a broker,
+     * including the VM, Host and Datacenter where it ran.
+     */
+    /* default */ static List<String> getResults(final DatacenterBroker broker) {
+        return broker.getCloudletFinishedList()
+                     .stream()
+                     .sorted(Comparator.comparingLong(Cloudlet::getId))
+                     .map(c -> String.format(
+                         "%d %d %d %d %.6f %.6f", c.getId(), c.getVm().getId(), c.getVm().getHost().getId(),
+                         c.getVm().getHost().getDatacenter().getId(), c.getExecStartTime(), c.getFinishTime()))
+                     .collect(toList());
+    }
+
+    /**
+     * Checks that two executions of the same scenario have the same results,
+     * generated the same number of events and finished at the same time.
+     *
+     * @param cloudlets the number of Cloudlets expected to finish
+     * @param expectedSimulation the simulation used as reference
+     * @param expected the {@link #getResults(DatacenterBroker) results} of the reference simulation
+     * @param actualSimulation the simulation to check
+     * @param actual the {@link #getResults(DatacenterBroker) results} of the simulation to check
+     */
+    /* default */ static void assertSameResults(
+        final int cloudlets,
+        final CloudSim expectedSimulation, final List<String> expected,
+        final CloudSim actualSimulation, final List<String> actual)
+    {
+        assertEquals(cloudlets, expected.size());
+        assertEquals(expected, actual);
+        assertEquals(expectedSimulation.getGeneratedEventsNumber(), actualSimulation.getGeneratedEventsNumber());
+        assertEquals(expectedSimulation.clock(), actualSimulation.clock());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.faultinjection.HostFaultInjection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An Integration Test (IT) checking that Cloudlets finish at the expected times
+ * when a {@link DatacenterSimple} {@link DatacenterSimple#setUpdateOnlyDueHosts(boolean) updates only due Hosts}.
+ *
+ * <p>3 Hosts with a single 1000 MIPS PE run one VM each.
+ * The first VM runs a 30000 MI Cloudlet and receives a 10000 MI one 10 seconds later.
+ * From that time on, both share the PE until the second one finishes at time 30.
+ * Then, the first one finishes at time 40.
+ * The other VMs run a 5000 and a 15000 MI Cloudlet,
+ * which finish at times 5 and 15, respectively.</p>
+ *
+ * @since CloudSim Plus 5.6.0
+ */
+public final class UpdateOnlyDueHostsIntegrationTest {
+    private static final int HOSTS = 3;
+    private static final double MIPS = 1000;
+    private static final long[] LENGTHS = {30_000, 10_000, 5000, 15_000};
+    private static final double[] SUBMISSION_DELAYS = {0, 10, 0, 0};
+    private static final int[] VM_INDEXES = {0, 0, 1, 2};
+    private static final double[] EXPECTED_FINISH_TIMES = {40, 30, 5, 15};
+
+    /**
+     * The maximum difference between the actual and expected finish time of a Cloudlet,
+     * due to the delay between the finish of a Cloudlet and the processing update that notices it.
+     */
+    private static final double TOLERANCE = 0.3;
+
+    /**
+     * The number of times the processing of any Host was updated.
+     */
+    private int hostUpdates;
+
+    @Test
+    public void testCloudletsFinishAtExpectedTimes() {
+        final List<Cloudlet> cloudlets = runSimulation(true);
+        final double startTime = cloudlets.get(0).getExecStartTime();
+        for (int i = 0; i < EXPECTED_FINISH_TIMES.length; i++) {
+            final Cloudlet cloudlet = cloudlets.get(i);
+            assertEquals(Cloudlet.Status.SUCCESS, cloudlet.getStatus());
+            assertEquals(EXPECTED_FINISH_TIMES[i], cloudlet.getFinishTime() - startTime, TOLERANCE);
+        }
+    }
+
+    @Test
+    public void testHostsAreUpdatedLessOftenThanWhenUpdatingAllHosts() {
+        runSimulation(true);
+        final int dueHostUpdates = hostUpdates;
+
+        hostUpdates = 0;
+        runSimulation(false);
+        assertTrue(dueHostUpdates < hostUpdates);
+    }
+
+    /**
+     * Checks that the progress of Cloudlets running in a Host waiting for its
+     * next processing update time is computed up to the time the Host PEs fail.
+     *
+     * <p>Two 20000 MI Cloudlets run in a VM using both 1000 MIPS PEs of a Host,
+     * which is expected to be updated just at time 20.
+     * When a 5000 MI Cloudlet in another Host finishes, at time 5,
+     * the {@link HostFaultInjection} makes all PEs of the first Host fail,
+     * destroying its VM. The first Cloudlets must have run only until that time.</p>
+     */
+    @Test
+    public void testCloudletsProgressIsComputedUpToHostPesFailure() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final List<Pe> pes = new ArrayList<>();
+            pes.add(new PeSimple(MIPS));
+            pes.add(new PeSimple(MIPS));
+            hosts.add(new HostSimple(1000, 1000, 1000, pes));
+        }
+        final DatacenterSimple datacenter = new DatacenterSimple(simulation, hosts, new VmAllocationPolicySimple());
+        datacenter.setUpdateOnlyDueHosts(true);
+
+        //Randomly generated faults just happen after all Cloudlets finish
+        final HostFaultInjection fault = new HostFaultInjection(datacenter, new UniformDistr(0.05, 0.06));
+        fault.setMaxTimeToFailInHours(0.01);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = createVm(2);
+        final List<Vm> vms = new ArrayList<>();
+        vms.add(vm);
+        vms.add(createVm(1));
+
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        cloudlets.add(createCloudlet(20_000, vm));
+        cloudlets.add(createCloudlet(20_000, vm));
+        cloudlets.add(createCloudlet(5000, vms.get(1)));
+
+        final double[] faultTime = {-1};
+        simulation.addOnClockTickListener(info -> {
+            if (info.getTime() >= 5 && faultTime[0] < 0) {
+                faultTime[0] = info.getTime();
+                fault.generateHostFault(vm.getHost());
+            }
+        });
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        assertEquals(Cloudlet.Status.SUCCESS, cloudlets.get(2).getStatus());
+        for (final Cloudlet cloudlet : cloudlets.subList(0, 2)) {
+            assertNotEquals(Cloudlet.Status.SUCCESS, cloudlet.getStatus());
+            final double expectedLength = (faultTime[0] - cloudlet.getExecStartTime()) * MIPS;
+            assertEquals(expectedLength, cloudlet.getFinishedLengthSoFar(), MIPS * TOLERANCE);
+        }
+    }
+
+    /**
+     * Runs the simulation scenario.
+     * @param updateOnlyDueHosts true to update only due Hosts, false to update all Hosts
+     * @return the submitted Cloudlets, in the order they were created
+     */
+    private List<Cloudlet> runSimulation(final boolean updateOnlyDueHosts) {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> pes = new ArrayList<>();
+            pes.add(new PeSimple(MIPS));
+            final Host host = new HostSimple(1000, 1000, 1000, pes);
+            host.addOnUpdateProcessingListener(info -> hostUpdates++);
+            hosts.add(host);
+        }
+        new DatacenterSimple(simulation, hosts, new VmAllocationPolicySimple()).setUpdateOnlyDueHosts(updateOnlyDueHosts);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vms = new ArrayList<>();
+        for (int i = 0; i < HOSTS; i++) {
+            vms.add(createVm(1));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < LENGTHS.length; i++) {
+            final Cloudlet cloudlet = createCloudlet(LENGTHS[i], vms.get(VM_INDEXES[i]));
+            cloudlet.setSubmissionDelay(SUBMISSION_DELAYS[i]);
+            cloudlets.add(cloudlet);
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+        return cloudlets;
+    }
+
+    private static Vm createVm(final long pes) {
+        return new VmSimple(MIPS, pes).setRam(100).setBw(100).setSize(100).setCloudletScheduler(new CloudletSchedulerTimeShared());
+    }
+
+    private static Cloudlet createCloudlet(final long length, final Vm vm) {
+        final Cloudlet cloudlet = new CloudletSimple(length, 1)
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+            .setUtilizationModelBw(new UtilizationModelDynamic(0.1));
+        cloudlet.setVm(vm);
+        return cloudlet;
+    }
+}